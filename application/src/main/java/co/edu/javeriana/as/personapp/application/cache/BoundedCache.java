@@ -0,0 +1,125 @@
+package co.edu.javeriana.as.personapp.application.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Small LRU cache bounded by entry count and time-to-live.
+ *
+ * All map access, and every counter update, happens under the instance lock.
+ * The counters are {@code LongAdder}s, so {@link #stats()} reads them without
+ * the lock and takes it only for {@link #size()}. Every invalidation bumps a
+ * generation number and loads started before it are not stored, so a write
+ * racing a read-through can never leave a stale entry behind.
+ */
+public class BoundedCache<K, V> {
+
+    private final String name;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    private long generation;
+
+    /**
+     * @param maxSize  maximum number of entries; zero or less disables caching
+     * @param ttlNanos time an entry stays valid after being stored
+     */
+    public BoundedCache(String name, int maxSize, long ttlNanos) {
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttlNanos = ttlNanos;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public V get(K key, Function<K, V> loader) {
+        V cached = getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        long loadGeneration = generation();
+        V loaded = loader.apply(key);
+        if (loaded != null) {
+            putIfCurrent(key, loaded, loadGeneration);
+        }
+        return loaded;
+    }
+
+    public synchronized V getIfPresent(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.expiresAt - System.nanoTime() <= 0) {
+            entries.remove(key);
+            expirations.increment();
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.value;
+    }
+
+    public synchronized void invalidate(K key) {
+        generation++;
+        if (entries.remove(key) != null) {
+            invalidations.increment();
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        generation++;
+        invalidations.add(entries.size());
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(name, size(), maxSize, hits.sum(), misses.sum(), evictions.sum(),
+                expirations.sum(), invalidations.sum());
+    }
+
+    private synchronized long generation() {
+        return generation;
+    }
+
+    private synchronized void putIfCurrent(K key, V value, long loadGeneration) {
+        if (maxSize <= 0 || loadGeneration != generation) {
+            return;
+        }
+        entries.put(key, new Entry<>(value, System.nanoTime() + ttlNanos));
+        Iterator<Map.Entry<K, Entry<V>>> eldest = entries.entrySet().iterator();
+        while (entries.size() > maxSize && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package co.edu.javeriana.as.personapp.application.cache;
+
+import lombok.Value;
+
+@Value
+public class CacheStats {
+    String name;
+    int size;
+    int maxSize;
+    long hits;
+    long misses;
+    long evictions;
+    long expirations;
+    long invalidations;
+
+    public double getHitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+}
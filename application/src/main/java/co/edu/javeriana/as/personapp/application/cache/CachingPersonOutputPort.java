@@ -0,0 +1,107 @@
+package co.edu.javeriana.as.personapp.application.cache;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import co.edu.javeriana.as.personapp.application.port.out.BatchItemResult;
+import co.edu.javeriana.as.personapp.application.port.out.PersonOutputPort;
+import co.edu.javeriana.as.personapp.domain.Person;
+import co.edu.javeriana.as.personapp.domain.PersonSummary;
+
+/**
+ * Read-through cache for {@link PersonOutputPort#findById(Long)}.
+ *
+ * Only single-person lookups are cached; lists, pages, streams and counts go to
+ * the delegate. Writes invalidate the affected person. Persons are immutable,
+ * so every caller gets the cached instance; its phone and study lists are
+ * wrapped unmodifiable once, when the person is loaded.
+ */
+public class CachingPersonOutputPort implements PersonOutputPort {
+
+    private final PersonOutputPort delegate;
+    private final BoundedCache<Long, Person> cache;
+
+    public CachingPersonOutputPort(PersonOutputPort delegate, BoundedCache<Long, Person> cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Person save(Person person) {
+        try {
+            return delegate.save(person);
+        } finally {
+            cache.invalidate((long) person.getIdentification());
+        }
+    }
+
+    @Override
+    public List<BatchItemResult<Person>> saveAll(Collection<Person> persons) {
+        try {
+            return delegate.saveAll(persons);
+        } finally {
+            for (Person person : persons) {
+                cache.invalidate((long) person.getIdentification());
+            }
+        }
+    }
+
+    @Override
+    public Boolean delete(Long cc) {
+        try {
+            return delegate.delete(cc);
+        } finally {
+            cache.invalidate(cc);
+        }
+    }
+
+    @Override
+    public List<Person> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Person> findPage(Integer after, Integer limit) {
+        return delegate.findPage(after, limit);
+    }
+
+    @Override
+    public Person findById(Long cc) {
+        return cache.get(cc, id -> frozen(delegate.findById(id)));
+    }
+
+    @Override
+    public List<PersonSummary> findAllSummaries() {
+        return delegate.findAllSummaries();
+    }
+
+    @Override
+    public List<PersonSummary> findSummaryPage(Integer after, Integer limit) {
+        return delegate.findSummaryPage(after, limit);
+    }
+
+    @Override
+    public List<PersonSummary> findSummariesById(Collection<Long> ccs) {
+        return delegate.findSummariesById(ccs);
+    }
+
+    @Override
+    public Stream<Person> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override
+    public Long count() {
+        return delegate.count();
+    }
+
+    static Person frozen(Person person) {
+        if (person == null) {
+            return null;
+        }
+        return person.withPhoneNumbers(Collections.unmodifiableList(person.getPhoneNumbers()))
+                .withStudies(Collections.unmodifiableList(person.getStudies()));
+    }
+}
@@ -0,0 +1,87 @@
+package co.edu.javeriana.as.personapp.application.cache;
+
+import java.util.Collection;
+import java.util.List;
+
+import co.edu.javeriana.as.personapp.application.port.out.BatchItemResult;
+import co.edu.javeriana.as.personapp.application.port.out.PhoneOutputPort;
+import co.edu.javeriana.as.personapp.domain.Person;
+import co.edu.javeriana.as.personapp.domain.Phone;
+
+/**
+ * Keeps a person cache coherent with phone writes: cached persons carry their
+ * phone list, so saving or deleting a phone evicts its current and previous
+ * owner.
+ */
+public class PersonEvictingPhoneOutputPort implements PhoneOutputPort {
+
+    private final PhoneOutputPort delegate;
+    private final BoundedCache<Long, Person> personCache;
+
+    public PersonEvictingPhoneOutputPort(PhoneOutputPort delegate, BoundedCache<Long, Person> personCache) {
+        this.delegate = delegate;
+        this.personCache = personCache;
+    }
+
+    @Override
+    public Phone save(Phone phone) {
+        Phone previous = delegate.findById(phone.getNumber());
+        try {
+            return delegate.save(phone);
+        } finally {
+            evictOwner(previous);
+            evictOwner(phone);
+        }
+    }
+
+    @Override
+    public List<BatchItemResult<Phone>> saveAll(Collection<Phone> phones) {
+        try {
+            return delegate.saveAll(phones);
+        } finally {
+            // Previous owners are not read back for a batch, so any cached person may be stale
+            personCache.invalidateAll();
+        }
+    }
+
+    @Override
+    public Boolean delete(String number) {
+        Phone previous = delegate.findById(number);
+        try {
+            return delegate.delete(number);
+        } finally {
+            evictOwner(previous);
+        }
+    }
+
+    @Override
+    public List<Phone> find() {
+        return delegate.find();
+    }
+
+    @Override
+    public List<Phone> findPage(String after, Integer limit) {
+        return delegate.findPage(after, limit);
+    }
+
+    @Override
+    public Phone findById(String number) {
+        return delegate.findById(number);
+    }
+
+    @Override
+    public List<Phone> findByPersonId(Integer personId) {
+        return delegate.findByPersonId(personId);
+    }
+
+    @Override
+    public Long count() {
+        return delegate.count();
+    }
+
+    private void evictOwner(Phone phone) {
+        if (phone != null) {
+            personCache.invalidate((long) phone.getOwnerId());
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package co.edu.javeriana.as.personapp.application.cache;
+
+import java.util.Collection;
+import java.util.List;
+
+import co.edu.javeriana.as.personapp.application.port.out.BatchItemResult;
+import co.edu.javeriana.as.personapp.application.port.out.ProfessionOutputPort;
+import co.edu.javeriana.as.personapp.domain.Person;
+import co.edu.javeriana.as.personapp.domain.Profession;
+
+/**
+ * Cached persons embed the professions of their studies, and deleting a
+ * profession cascades to studies of any number of persons, so profession
+ * writes clear the whole person cache. They are rare enough for that to be
+ * cheaper than tracking which persons are affected.
+ */
+public class PersonEvictingProfessionOutputPort implements ProfessionOutputPort {
+
+    private final ProfessionOutputPort delegate;
+    private final BoundedCache<Long, Person> personCache;
+
+    public PersonEvictingProfessionOutputPort(ProfessionOutputPort delegate, BoundedCache<Long, Person> personCache) {
+        this.delegate = delegate;
+        this.personCache = personCache;
+    }
+
+    @Override
+    public Profession save(Profession profession) {
+        try {
+            return delegate.save(profession);
+        } finally {
+            personCache.invalidateAll();
+        }
+    }
+
+    @Override
+    public List<BatchItemResult<Profession>> saveAll(Collection<Profession> professions) {
+        try {
+            return delegate.saveAll(professions);
+        } finally {
+            personCache.invalidateAll();
+        }
+    }
+
+    @Override
+    public Boolean delete(Integer identification) {
+        try {
+            return delegate.delete(identification);
+        } finally {
+            personCache.invalidateAll();
+        }
+    }
+
+    @Override
+    public List<Profession> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Profession> findPage(Integer after, Integer limit) {
+        return delegate.findPage(after, limit);
+    }
+
+    @Override
+    public Profession findById(Integer identification) {
+        return delegate.findById(identification);
+    }
+
+    @Override
+    public Long count() {
+        return delegate.count();
+    }
+}
@@ -0,0 +1,83 @@
+package co.edu.javeriana.as.personapp.application.cache;
+
+import java.util.Collection;
+import java.util.List;
+
+import co.edu.javeriana.as.personapp.application.port.out.BatchItemResult;
+import co.edu.javeriana.as.personapp.application.port.out.StudyOutputPort;
+import co.edu.javeriana.as.personapp.domain.Person;
+import co.edu.javeriana.as.personapp.domain.Study;
+
+/**
+ * Keeps a person cache coherent with study writes: cached persons carry their
+ * studies, so saving or deleting a study evicts the person it belongs to.
+ */
+public class PersonEvictingStudyOutputPort implements StudyOutputPort {
+
+    private final StudyOutputPort delegate;
+    private final BoundedCache<Long, Person> personCache;
+
+    public PersonEvictingStudyOutputPort(StudyOutputPort delegate, BoundedCache<Long, Person> personCache) {
+        this.delegate = delegate;
+        this.personCache = personCache;
+    }
+
+    @Override
+    public Study save(Study study) {
+        try {
+            return delegate.save(study);
+        } finally {
+            personCache.invalidate((long) study.getPersonId());
+        }
+    }
+
+    @Override
+    public List<BatchItemResult<Study>> saveAll(Collection<Study> studies) {
+        try {
+            return delegate.saveAll(studies);
+        } finally {
+            for (Study study : studies) {
+                personCache.invalidate((long) study.getPersonId());
+            }
+        }
+    }
+
+    @Override
+    public Boolean delete(Integer personId, Integer professionId) {
+        try {
+            return delegate.delete(personId, professionId);
+        } finally {
+            personCache.invalidate(personId.longValue());
+        }
+    }
+
+    @Override
+    public List<Study> find() {
+        return delegate.find();
+    }
+
+    @Override
+    public List<Study> findPage(Integer afterProfessionId, Integer afterPersonId, Integer limit) {
+        return delegate.findPage(afterProfessionId, afterPersonId, limit);
+    }
+
+    @Override
+    public Study findById(Integer personId, Integer professionId) {
+        return delegate.findById(personId, professionId);
+    }
+
+    @Override
+    public List<Study> findByPersonId(Integer personId) {
+        return delegate.findByPersonId(personId);
+    }
+
+    @Override
+    public List<Study> findByProfessionId(Integer professionId) {
+        return delegate.findByProfessionId(professionId);
+    }
+
+    @Override
+    public Long count() {
+        return delegate.count();
+    }
+}
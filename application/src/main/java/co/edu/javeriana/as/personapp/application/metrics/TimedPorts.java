@@ -0,0 +1,113 @@
+package co.edu.javeriana.as.personapp.application.metrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import co.edu.javeriana.as.personapp.common.setup.DatabaseOption;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Decorates ports with a timer per call, tagged with the port, the operation
+ * (method), the backend and the outcome ({@code success} or {@code error},
+ * with the exception's simple name). Output ports are recorded as
+ * {@link #PORT_CALLS} and use cases as {@link #USE_CASE_CALLS}, so the time a
+ * use case spends outside its output port is mapping and business logic.
+ *
+ * Methods returning a {@code Stream} are timed until the stream is returned,
+ * not until it is consumed.
+ */
+public final class TimedPorts {
+
+    public static final String PORT_CALLS = "personapp.port.calls";
+    public static final String USE_CASE_CALLS = "personapp.usecase.calls";
+
+    private TimedPorts() {
+    }
+
+    public static <T> T timed(Class<T> port, T delegate, MeterRegistry registry, String metric,
+            DatabaseOption backend) {
+        return port.cast(timed(delegate, List.of(port), registry, metric, backend));
+    }
+
+    /**
+     * Times each port of a per-backend map with its key as the backend.
+     */
+    public static <T> Map<DatabaseOption, T> timed(Class<T> port, Map<DatabaseOption, T> byBackend,
+            MeterRegistry registry, String metric) {
+        Map<DatabaseOption, T> timed = new EnumMap<>(DatabaseOption.class);
+        byBackend.forEach((backend, delegate) -> timed.put(backend, timed(port, delegate, registry, metric, backend)));
+        return timed;
+    }
+
+    /**
+     * @return a proxy implementing all the given ports, and nothing else of the delegate
+     */
+    public static Object timed(Object delegate, Collection<Class<?>> ports, MeterRegistry registry, String metric,
+            DatabaseOption backend) {
+        return Proxy.newProxyInstance(delegate.getClass().getClassLoader(), ports.toArray(new Class<?>[0]),
+                new TimingHandler(delegate, registry, metric, backend.name()));
+    }
+
+    private static final class TimingHandler implements InvocationHandler {
+
+        private final Object delegate;
+        private final MeterRegistry registry;
+        private final String metric;
+        private final String backend;
+        // The success timer of each method, looked up once; error timers are rare
+        private final Map<Method, Timer> successTimers = new ConcurrentHashMap<>();
+
+        TimingHandler(Object delegate, MeterRegistry registry, String metric, String backend) {
+            this.delegate = delegate;
+            this.registry = registry;
+            this.metric = metric;
+            this.backend = backend;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                return method.getName().equals("equals") ? proxy == args[0] : invokeUntimed(method, args);
+            }
+            long start = System.nanoTime();
+            try {
+                Object result = method.invoke(delegate, args);
+                successTimers.computeIfAbsent(method, m -> timer(m, "success", "none"))
+                        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return result;
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                timer(method, "error", cause.getClass().getSimpleName())
+                        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                throw cause;
+            }
+        }
+
+        private Object invokeUntimed(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(delegate, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        private Timer timer(Method method, String outcome, String exception) {
+            return Timer.builder(metric)
+                    .tag("port", method.getDeclaringClass().getSimpleName())
+                    .tag("operation", method.getName())
+                    .tag("backend", backend)
+                    .tag("outcome", outcome)
+                    .tag("exception", exception)
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package co.edu.javeriana.as.personapp.application.port.in;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import co.edu.javeriana.as.personapp.common.setup.DatabaseOption;
+import lombok.Value;
+
+/**
+ * Merged answer of a query sent to several backends at once. Items are
+ * de-duplicated by identification, sorted by it, and carry the backends that
+ * returned them; backends that failed or timed out are listed with the reason
+ * instead of failing the whole query.
+ */
+@Value
+public class FanOutResult<T> {
+	List<Sourced<T>> items;
+	Map<DatabaseOption, String> failures;
+
+	@Value
+	public static class Sourced<T> {
+		T item;
+		Set<DatabaseOption> sources;
+	}
+}
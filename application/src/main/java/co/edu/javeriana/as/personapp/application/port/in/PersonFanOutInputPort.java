@@ -0,0 +1,24 @@
+package co.edu.javeriana.as.personapp.application.port.in;
+
+import co.edu.javeriana.as.personapp.common.annotations.Port;
+import co.edu.javeriana.as.personapp.domain.Person;
+import co.edu.javeriana.as.personapp.domain.PersonSummary;
+
+/**
+ * Read-only person queries over every configured backend at once, e.g. to
+ * compare stores during a migration.
+ */
+@Port
+public interface PersonFanOutInputPort {
+
+	FanOutResult<Person> findAll();
+
+	FanOutResult<Person> findPage(Integer after, Integer limit);
+
+	FanOutResult<PersonSummary> findAllSummaries();
+
+	FanOutResult<PersonSummary> findSummaryPage(Integer after, Integer limit);
+
+	// Empty items if no backend has the person
+	FanOutResult<Person> findOne(Long cc);
+}
@@ -1,11 +1,15 @@
 package co.edu.javeriana.as.personapp.application.port.in;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
+import co.edu.javeriana.as.personapp.application.port.out.BatchItemResult;
 import co.edu.javeriana.as.personapp.application.port.out.PersonOutputPort;
 import co.edu.javeriana.as.personapp.common.annotations.Port;
 import co.edu.javeriana.as.personapp.common.exceptions.NoExistException;
 import co.edu.javeriana.as.personapp.domain.Person;
+import co.edu.javeriana.as.personapp.domain.PersonSummary;
 import co.edu.javeriana.as.personapp.domain.Phone;
 import co.edu.javeriana.as.personapp.domain.Study;
 
@@ -16,14 +20,24 @@ public interface PersonInputPort {
 	
 	Person create(Person person);
 
+	List<BatchItemResult<Person>> createAll(Collection<Person> persons);
+
 	Person edit(Long cc, Person person) throws NoExistException;
 
 	Boolean drop(Long cc) throws NoExistException;
 
 	List<Person> findAll();
 
+	List<Person> findPage(Integer after, Integer limit);
+
+	List<PersonSummary> findAllSummaries();
+
+	List<PersonSummary> findSummaryPage(Integer after, Integer limit);
+
 	Person findOne(Long cc) throws NoExistException;
 
+	Stream<Person> streamAll();
+
 	Integer count();
 
 	List<Phone> getPhones(Long cc) throws NoExistException;
@@ -0,0 +1,31 @@
+package co.edu.javeriana.as.personapp.application.port.in;
+
+import co.edu.javeriana.as.personapp.application.port.out.ReactivePersonOutputPort;
+import co.edu.javeriana.as.personapp.common.annotations.Port;
+import co.edu.javeriana.as.personapp.domain.Person;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link PersonInputPort}. Where the blocking port
+ * throws NoExistException, these publishers signal it as an error.
+ */
+@Port
+public interface ReactivePersonInputPort {
+
+	void setPersistence(ReactivePersonOutputPort personOutputPort);
+
+	Mono<Person> create(Person person);
+
+	Mono<Person> edit(Long cc, Person person);
+
+	Mono<Boolean> drop(Long cc);
+
+	Flux<Person> findAll();
+
+	Flux<Person> findPage(Integer after, Integer limit);
+
+	Mono<Person> findOne(Long cc);
+
+	Mono<Long> count();
+}
@@ -21,5 +21,9 @@ public interface StudyInputPort {
 
     Study findOne(Integer personId, Integer professionId) throws NoExistException;
 
+    List<Study> findByPersonId(Integer personId);
+
+    List<Study> findByProfessionId(Integer professionId);
+
     Integer count();
 } 
\ No newline at end of file
@@ -0,0 +1,28 @@
+package co.edu.javeriana.as.personapp.application.port.out;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * Outcome of one item of a batch write. Batch operations return one result
+ * per input item, in input order, so callers can report partial failures.
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class BatchItemResult<T> {
+	T item;
+	String error;
+
+	public static <T> BatchItemResult<T> saved(T item) {
+		return new BatchItemResult<>(item, null);
+	}
+
+	public static <T> BatchItemResult<T> failed(T item, String error) {
+		return new BatchItemResult<>(item, error);
+	}
+
+	public boolean isSaved() {
+		return error == null;
+	}
+}
@@ -0,0 +1,18 @@
+package co.edu.javeriana.as.personapp.application.port.out;
+
+import java.time.Instant;
+
+import lombok.Value;
+
+/**
+ * A person whose row changed in the primary store and still has to be copied
+ * to the secondary one. Only the id is recorded: the relay re-reads the
+ * current state, so replaying an entry any number of times is harmless.
+ */
+@Value
+public class PersonOutboxEntry {
+	String id;
+	Long cc;
+	Instant createdAt;
+	int attempts;
+}
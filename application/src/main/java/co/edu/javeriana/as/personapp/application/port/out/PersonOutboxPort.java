@@ -0,0 +1,24 @@
+package co.edu.javeriana.as.personapp.application.port.out;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+import co.edu.javeriana.as.personapp.common.annotations.Port;
+
+/**
+ * Outbox kept in the primary store next to the person data.
+ */
+@Port
+public interface PersonOutboxPort {
+	// Runs the write and queues the given persons; atomically where the store has transactions
+	public <T> T record(Supplier<T> write, Collection<Long> ccs);
+	// Oldest first, skipping entries whose retry is not due yet
+	public List<PersonOutboxEntry> findDue(Instant now, int limit);
+	public void remove(Collection<String> ids);
+	public void retryLater(Collection<String> ids, Instant nextAttempt, String error);
+	// Null when the outbox is empty
+	public Instant oldestCreatedAt();
+	public Long count();
+}
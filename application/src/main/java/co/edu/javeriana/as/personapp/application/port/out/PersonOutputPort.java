@@ -1,14 +1,29 @@
 package co.edu.javeriana.as.personapp.application.port.out;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 import co.edu.javeriana.as.personapp.common.annotations.Port;
 import co.edu.javeriana.as.personapp.domain.Person;
+import co.edu.javeriana.as.personapp.domain.PersonSummary;
 
 @Port
 public interface PersonOutputPort {
 	public Person save(Person person);
+	// Upserts every person; one result per person, in iteration order
+	public List<BatchItemResult<Person>> saveAll(Collection<Person> persons);
+	// True only if a person was actually deleted
 	public Boolean delete(Long cc);
 	public List<Person> findAll();
+	public List<Person> findPage(Integer after, Integer limit);
 	public Person findById(Long cc);
+	// Same rows as findAll/findPage, reading only the person's own columns
+	public List<PersonSummary> findAllSummaries();
+	public List<PersonSummary> findSummaryPage(Integer after, Integer limit);
+	// Summaries of the given persons that exist, in no particular order
+	public List<PersonSummary> findSummariesById(Collection<Long> ccs);
+	// Lazily reads every person ordered by id; callers must close the stream
+	public Stream<Person> streamAll();
+	public Long count();
 }
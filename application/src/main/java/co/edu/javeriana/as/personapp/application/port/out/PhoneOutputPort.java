@@ -1,5 +1,6 @@
 package co.edu.javeriana.as.personapp.application.port.out;
 
+import java.util.Collection;
 import java.util.List;
 
 import co.edu.javeriana.as.personapp.common.annotations.Port;
@@ -9,11 +10,20 @@ import co.edu.javeriana.as.personapp.domain.Phone;
 public interface PhoneOutputPort {
     Phone save(Phone phone);
 
+    // Upserts every phone; one result per phone, in iteration order
+    List<BatchItemResult<Phone>> saveAll(Collection<Phone> phones);
+
+    // True only if a phone was actually deleted
     Boolean delete(String number);
 
     List<Phone> find();
 
+    // Keyset page ordered by number; owners carry at least their identification
+    List<Phone> findPage(String after, Integer limit);
+
     Phone findById(String number);
 
     List<Phone> findByPersonId(Integer personId);
+
+    Long count();
 } 
\ No newline at end of file
@@ -1,6 +1,8 @@
 package co.edu.javeriana.as.personapp.application.port.out;
 
+import java.util.Collection;
 import java.util.List;
+
 import co.edu.javeriana.as.personapp.common.annotations.Port;
 import co.edu.javeriana.as.personapp.domain.Profession;
 
@@ -8,9 +10,17 @@ import co.edu.javeriana.as.personapp.domain.Profession;
 public interface ProfessionOutputPort {
     Profession save(Profession profession);
 
+    // Upserts every profession; one result per profession, in iteration order
+    List<BatchItemResult<Profession>> saveAll(Collection<Profession> professions);
+
     Boolean delete(Integer identification);
 
     List<Profession> findAll();
 
+    // Keyset page ordered by id, without the professions' studies
+    List<Profession> findPage(Integer after, Integer limit);
+
     Profession findById(Integer identification);
+
+    Long count();
 } 
\ No newline at end of file
@@ -0,0 +1,24 @@
+package co.edu.javeriana.as.personapp.application.port.out;
+
+import co.edu.javeriana.as.personapp.common.annotations.Port;
+import co.edu.javeriana.as.personapp.domain.Person;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link PersonOutputPort}. Fluxes are driven by
+ * subscriber demand, so a slow consumer slows the backend read down instead
+ * of buffering the whole result.
+ */
+@Port
+public interface ReactivePersonOutputPort {
+	public Mono<Person> save(Person person);
+	// Emits true only if a person was actually deleted
+	public Mono<Boolean> delete(Long cc);
+	// Every person ordered by id
+	public Flux<Person> findAll();
+	public Flux<Person> findPage(Integer after, Integer limit);
+	// Completes empty if there is no such person
+	public Mono<Person> findById(Long cc);
+	public Mono<Long> count();
+}
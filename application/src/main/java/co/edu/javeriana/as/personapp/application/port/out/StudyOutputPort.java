@@ -1,5 +1,6 @@
 package co.edu.javeriana.as.personapp.application.port.out;
 
+import java.util.Collection;
 import java.util.List;
 
 import co.edu.javeriana.as.personapp.common.annotations.Port;
@@ -9,9 +10,23 @@ import co.edu.javeriana.as.personapp.domain.Study;
 public interface StudyOutputPort {
     Study save(Study study);
 
+    // Upserts every study; one result per study, in iteration order
+    List<BatchItemResult<Study>> saveAll(Collection<Study> studies);
+
+    // True only if a study was actually deleted
     Boolean delete(Integer personId, Integer professionId);
 
     List<Study> find();
 
+    // Keyset page ordered by profession then person; both carry at least their identification
+    List<Study> findPage(Integer afterProfessionId, Integer afterPersonId, Integer limit);
+
     Study findById(Integer personId, Integer professionId);
+
+    // Indexed lookups; the person and profession carry at least their identification
+    List<Study> findByPersonId(Integer personId);
+
+    List<Study> findByProfessionId(Integer professionId);
+
+    Long count();
 } 
\ No newline at end of file
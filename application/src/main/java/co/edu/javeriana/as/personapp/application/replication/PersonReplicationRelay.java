@@ -0,0 +1,181 @@
+package co.edu.javeriana.as.personapp.application.replication;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import co.edu.javeriana.as.personapp.application.port.out.BatchItemResult;
+import co.edu.javeriana.as.personapp.application.port.out.PersonOutboxEntry;
+import co.edu.javeriana.as.personapp.application.port.out.PersonOutboxPort;
+import co.edu.javeriana.as.personapp.application.port.out.PersonOutputPort;
+import co.edu.javeriana.as.personapp.common.setup.DatabaseOption;
+import co.edu.javeriana.as.personapp.domain.Person;
+import co.edu.javeriana.as.personapp.domain.PersonSummary;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Drains the primary's outbox into the secondary store.
+ *
+ * Each batch reads the current state of its persons from the primary with
+ * one query and upserts them into the secondary with one bulk write; persons
+ * no longer in the primary are deleted from the secondary. Because entries
+ * only name the person and the state is re-read on every attempt, entries can
+ * be applied in any order and more than once, which makes retries and
+ * overlapping relays safe. Failed entries are retried with exponential
+ * backoff and never dropped, so a long outage shows up as lag, not data loss.
+ *
+ * Not thread-safe: one caller at a time is expected to drive
+ * {@link #relayBatch()}.
+ */
+@Slf4j
+public class PersonReplicationRelay {
+
+    static final Duration FIRST_RETRY = Duration.ofSeconds(1);
+
+    private final DatabaseOption primaryOption;
+    private final DatabaseOption secondaryOption;
+    private final PersonOutboxPort outbox;
+    private final PersonOutputPort primary;
+    private final PersonOutputPort secondary;
+    private final int batchSize;
+    private final Duration maxBackoff;
+    private final Clock clock;
+
+    private final AtomicLong replicated = new AtomicLong();
+    private final AtomicLong failedAttempts = new AtomicLong();
+    private volatile String lastError;
+
+    public PersonReplicationRelay(DatabaseOption primaryOption, PersonOutboxPort outbox, PersonOutputPort primary,
+            DatabaseOption secondaryOption, PersonOutputPort secondary, int batchSize, Duration maxBackoff,
+            Clock clock) {
+        this.primaryOption = primaryOption;
+        this.secondaryOption = secondaryOption;
+        this.outbox = outbox;
+        this.primary = primary;
+        this.secondary = secondary;
+        this.batchSize = batchSize;
+        this.maxBackoff = maxBackoff;
+        this.clock = clock;
+    }
+
+    /**
+     * Applies one batch of due entries.
+     *
+     * @return number of outbox entries read; fewer than the batch size means
+     *         the outbox has nothing more due right now
+     */
+    public int relayBatch() {
+        Instant now = clock.instant();
+        List<PersonOutboxEntry> due = outbox.findDue(now, batchSize);
+        if (due.isEmpty()) {
+            return 0;
+        }
+        // Several writes to one person collapse into a single copy of its current state
+        Map<Long, List<PersonOutboxEntry>> entriesByCc = new LinkedHashMap<>();
+        for (PersonOutboxEntry entry : due) {
+            entriesByCc.computeIfAbsent(entry.getCc(), cc -> new ArrayList<>()).add(entry);
+        }
+        try {
+            apply(entriesByCc, now);
+        } catch (RuntimeException e) {
+            // Primary or secondary unreachable: the whole batch waits for the next attempt
+            fail(entriesByCc.keySet(), entriesByCc, now, e.getMessage());
+        }
+        return due.size();
+    }
+
+    private void apply(Map<Long, List<PersonOutboxEntry>> entriesByCc, Instant now) {
+        Map<Long, Person> current = new HashMap<>();
+        for (PersonSummary summary : primary.findSummariesById(entriesByCc.keySet())) {
+            current.put((long) summary.getIdentification(), toPerson(summary));
+        }
+
+        List<Long> done = new ArrayList<>(entriesByCc.size());
+        Map<Long, String> failed = new LinkedHashMap<>();
+        if (!current.isEmpty()) {
+            for (BatchItemResult<Person> result : secondary.saveAll(current.values())) {
+                Long cc = (long) result.getItem().getIdentification();
+                if (result.isSaved()) {
+                    done.add(cc);
+                } else {
+                    failed.put(cc, result.getError());
+                }
+            }
+        }
+        for (Long cc : entriesByCc.keySet()) {
+            if (current.containsKey(cc)) {
+                continue;
+            }
+            try {
+                // Deleting a person the secondary never had is a no-op
+                secondary.delete(cc);
+                done.add(cc);
+            } catch (RuntimeException e) {
+                failed.put(cc, e.getMessage());
+            }
+        }
+
+        List<String> doneIds = new ArrayList<>();
+        for (Long cc : done) {
+            for (PersonOutboxEntry entry : entriesByCc.get(cc)) {
+                doneIds.add(entry.getId());
+            }
+        }
+        if (!doneIds.isEmpty()) {
+            outbox.remove(doneIds);
+            replicated.addAndGet(done.size());
+        }
+        if (!failed.isEmpty()) {
+            fail(failed.keySet(), entriesByCc, now, failed.values().iterator().next());
+        }
+    }
+
+    private void fail(Iterable<Long> ccs, Map<Long, List<PersonOutboxEntry>> entriesByCc, Instant now,
+            String error) {
+        List<String> ids = new ArrayList<>();
+        int attempts = 0;
+        for (Long cc : ccs) {
+            for (PersonOutboxEntry entry : entriesByCc.get(cc)) {
+                ids.add(entry.getId());
+                attempts = Math.max(attempts, entry.getAttempts());
+            }
+        }
+        Duration backoff = backoff(attempts);
+        log.warn("Replication {} -> {} failed for {} outbox entries, retrying in {}: {}", primaryOption,
+                secondaryOption, ids.size(), backoff, error);
+        failedAttempts.addAndGet(ids.size());
+        lastError = error;
+        outbox.retryLater(ids, now.plus(backoff), error);
+    }
+
+    Duration backoff(int previousAttempts) {
+        // 1s, 2s, 4s, ... capped at maxBackoff; the shift is bounded to avoid overflow
+        Duration backoff = FIRST_RETRY.multipliedBy(1L << Math.min(previousAttempts, 20));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    private static Person toPerson(PersonSummary summary) {
+        return new Person(summary.getIdentification(), summary.getFirstName(), summary.getLastName(),
+                summary.getGender(), summary.getAge(), null, null);
+    }
+
+    /**
+     * Lag is the age of the oldest entry still in the outbox, i.e. how far
+     * behind the primary the secondary may be.
+     */
+    public long lagMillis() {
+        Instant oldest = outbox.oldestCreatedAt();
+        return oldest == null ? 0 : Math.max(0, Duration.between(oldest, clock.instant()).toMillis());
+    }
+
+    public ReplicationStats stats() {
+        return new ReplicationStats(primaryOption.toString(), secondaryOption.toString(), outbox.count(),
+                lagMillis(), replicated.get(), failedAttempts.get(), lastError);
+    }
+}
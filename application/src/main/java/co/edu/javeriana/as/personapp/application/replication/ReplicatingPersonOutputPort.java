@@ -0,0 +1,94 @@
+package co.edu.javeriana.as.personapp.application.replication;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import co.edu.javeriana.as.personapp.application.port.out.BatchItemResult;
+import co.edu.javeriana.as.personapp.application.port.out.PersonOutboxPort;
+import co.edu.javeriana.as.personapp.application.port.out.PersonOutputPort;
+import co.edu.javeriana.as.personapp.common.setup.DatabaseOption;
+import co.edu.javeriana.as.personapp.domain.Person;
+import co.edu.javeriana.as.personapp.domain.PersonSummary;
+
+/**
+ * Primary side of the replication: every write is recorded in the primary's
+ * outbox and returns as soon as the primary has it. Copying to the secondary
+ * is left to {@link PersonReplicationRelay}. Reads go straight to the
+ * primary.
+ */
+public class ReplicatingPersonOutputPort implements PersonOutputPort {
+
+    private final DatabaseOption primary;
+    private final PersonOutputPort delegate;
+    private final PersonOutboxPort outbox;
+
+    public ReplicatingPersonOutputPort(DatabaseOption primary, PersonOutputPort delegate, PersonOutboxPort outbox) {
+        this.primary = primary;
+        this.delegate = delegate;
+        this.outbox = outbox;
+    }
+
+    public DatabaseOption getPrimary() {
+        return primary;
+    }
+
+    @Override
+    public Person save(Person person) {
+        return outbox.record(() -> delegate.save(person), List.of((long) person.getIdentification()));
+    }
+
+    @Override
+    public List<BatchItemResult<Person>> saveAll(Collection<Person> persons) {
+        // Failed items are recorded too; replaying an unchanged person is a no-op upsert
+        List<Long> ccs = persons.stream().map(person -> (long) person.getIdentification())
+                .collect(Collectors.toList());
+        return outbox.record(() -> delegate.saveAll(persons), ccs);
+    }
+
+    @Override
+    public Boolean delete(Long cc) {
+        return outbox.record(() -> delegate.delete(cc), List.of(cc));
+    }
+
+    @Override
+    public List<Person> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Person> findPage(Integer after, Integer limit) {
+        return delegate.findPage(after, limit);
+    }
+
+    @Override
+    public Person findById(Long cc) {
+        return delegate.findById(cc);
+    }
+
+    @Override
+    public List<PersonSummary> findAllSummaries() {
+        return delegate.findAllSummaries();
+    }
+
+    @Override
+    public List<PersonSummary> findSummaryPage(Integer after, Integer limit) {
+        return delegate.findSummaryPage(after, limit);
+    }
+
+    @Override
+    public List<PersonSummary> findSummariesById(Collection<Long> ccs) {
+        return delegate.findSummariesById(ccs);
+    }
+
+    @Override
+    public Stream<Person> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override
+    public Long count() {
+        return delegate.count();
+    }
+}
@@ -0,0 +1,15 @@
+package co.edu.javeriana.as.personapp.application.replication;
+
+import lombok.Value;
+
+@Value
+public class ReplicationStats {
+    String primary;
+    String secondary;
+    long pending;
+    // Age of the oldest entry not yet applied to the secondary, 0 when caught up
+    long lagMillis;
+    long replicated;
+    long failedAttempts;
+    String lastError;
+}
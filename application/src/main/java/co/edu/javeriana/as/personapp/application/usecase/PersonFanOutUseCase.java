@@ -0,0 +1,145 @@
+package co.edu.javeriana.as.personapp.application.usecase;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+import co.edu.javeriana.as.personapp.application.port.in.FanOutResult;
+import co.edu.javeriana.as.personapp.application.port.in.PersonFanOutInputPort;
+import co.edu.javeriana.as.personapp.application.port.out.PersonOutputPort;
+import co.edu.javeriana.as.personapp.common.setup.DatabaseOption;
+import co.edu.javeriana.as.personapp.domain.Person;
+import co.edu.javeriana.as.personapp.domain.PersonSummary;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sends each query to every backend concurrently on the given executor and
+ * merges the answers, so the latency is that of the slowest backend rather
+ * than the sum. Each backend gets the same timeout; a backend that exceeds
+ * it, throws, or cannot be scheduled because the executor is saturated is
+ * reported in {@link FanOutResult#getFailures()}. When two backends return
+ * the same person, the version of the first backend in the map wins.
+ *
+ * A timed-out call is abandoned, not interrupted: it keeps its executor
+ * thread until the driver returns, which is why the executor must be bounded.
+ *
+ * Not a {@code @UseCase} bean: it is assembled by the input adapter that
+ * owns the backend map.
+ */
+@Slf4j
+public class PersonFanOutUseCase implements PersonFanOutInputPort {
+
+	private final Map<DatabaseOption, PersonOutputPort> backends;
+	private final Executor executor;
+	private final Duration timeout;
+
+	public PersonFanOutUseCase(Map<DatabaseOption, PersonOutputPort> backends, Executor executor, Duration timeout) {
+		this.backends = new LinkedHashMap<>(backends);
+		this.executor = executor;
+		this.timeout = timeout;
+	}
+
+	@Override
+	public FanOutResult<Person> findAll() {
+		log.debug("Into findAll Person FanOutUseCase");
+		return fanOut(PersonOutputPort::findAll, Person::getIdentification, null);
+	}
+
+	@Override
+	public FanOutResult<Person> findPage(Integer after, Integer limit) {
+		log.debug("Into findPage Person FanOutUseCase");
+		int pageSize = PersonUseCase.pageSize(limit);
+		// Every backend's first pageSize ids after the cursor contain the merged page's ids
+		return fanOut(port -> port.findPage(after, pageSize), Person::getIdentification, pageSize);
+	}
+
+	@Override
+	public FanOutResult<PersonSummary> findAllSummaries() {
+		log.debug("Into findAllSummaries Person FanOutUseCase");
+		return fanOut(PersonOutputPort::findAllSummaries, PersonSummary::getIdentification, null);
+	}
+
+	@Override
+	public FanOutResult<PersonSummary> findSummaryPage(Integer after, Integer limit) {
+		log.debug("Into findSummaryPage Person FanOutUseCase");
+		int pageSize = PersonUseCase.pageSize(limit);
+		return fanOut(port -> port.findSummaryPage(after, pageSize), PersonSummary::getIdentification, pageSize);
+	}
+
+	@Override
+	public FanOutResult<Person> findOne(Long cc) {
+		log.debug("Into findOne Person FanOutUseCase");
+		return fanOut(port -> {
+			Person person = port.findById(cc);
+			return person != null ? List.of(person) : List.of();
+		}, Person::getIdentification, null);
+	}
+
+	private <T> FanOutResult<T> fanOut(Function<PersonOutputPort, List<T>> query, Function<T, Integer> id,
+			Integer limit) {
+		// Start every backend before waiting on any of them
+		Map<DatabaseOption, CompletableFuture<List<T>>> calls = new LinkedHashMap<>();
+		for (Map.Entry<DatabaseOption, PersonOutputPort> backend : backends.entrySet()) {
+			CompletableFuture<List<T>> call;
+			try {
+				call = CompletableFuture.supplyAsync(() -> query.apply(backend.getValue()), executor);
+			} catch (RejectedExecutionException e) {
+				call = CompletableFuture.failedFuture(e);
+			}
+			calls.put(backend.getKey(), call.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS));
+		}
+
+		TreeMap<Integer, T> items = new TreeMap<>();
+		Map<Integer, Set<DatabaseOption>> sources = new TreeMap<>();
+		Map<DatabaseOption, String> failures = new LinkedHashMap<>();
+		for (Map.Entry<DatabaseOption, CompletableFuture<List<T>>> call : calls.entrySet()) {
+			List<T> answer;
+			try {
+				answer = call.getValue().join();
+			} catch (CompletionException e) {
+				String reason = failureReason(e.getCause());
+				log.warn("Fan-out query to {} failed: {}", call.getKey(), reason);
+				failures.put(call.getKey(), reason);
+				continue;
+			}
+			for (T item : answer) {
+				Integer key = id.apply(item);
+				items.putIfAbsent(key, item);
+				sources.computeIfAbsent(key, k -> EnumSet.noneOf(DatabaseOption.class)).add(call.getKey());
+			}
+		}
+
+		List<FanOutResult.Sourced<T>> merged = new ArrayList<>(items.size());
+		for (Map.Entry<Integer, T> item : items.entrySet()) {
+			if (limit != null && merged.size() == limit) {
+				break;
+			}
+			merged.add(new FanOutResult.Sourced<>(item.getValue(),
+					Collections.unmodifiableSet(sources.get(item.getKey()))));
+		}
+		return new FanOutResult<>(merged, Collections.unmodifiableMap(failures));
+	}
+
+	private String failureReason(Throwable cause) {
+		if (cause instanceof TimeoutException) {
+			return "timed out after " + timeout.toMillis() + " ms";
+		}
+		if (cause instanceof RejectedExecutionException) {
+			return "fan-out executor is saturated";
+		}
+		return String.valueOf(cause.getMessage());
+	}
+}
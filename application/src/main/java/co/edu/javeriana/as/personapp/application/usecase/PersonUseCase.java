@@ -1,14 +1,20 @@
 package co.edu.javeriana.as.personapp.application.usecase;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 
 import co.edu.javeriana.as.personapp.application.port.in.PersonInputPort;
+import co.edu.javeriana.as.personapp.application.port.out.BatchItemResult;
 import co.edu.javeriana.as.personapp.application.port.out.PersonOutputPort;
+import co.edu.javeriana.as.personapp.application.port.out.StudyOutputPort;
 import co.edu.javeriana.as.personapp.common.annotations.UseCase;
 import co.edu.javeriana.as.personapp.common.exceptions.NoExistException;
 import co.edu.javeriana.as.personapp.domain.Person;
+import co.edu.javeriana.as.personapp.domain.PersonSummary;
 import co.edu.javeriana.as.personapp.domain.Phone;
 import co.edu.javeriana.as.personapp.domain.Study;
 import lombok.extern.slf4j.Slf4j;
@@ -17,11 +23,23 @@ import lombok.extern.slf4j.Slf4j;
 @UseCase
 public class PersonUseCase implements PersonInputPort {
 
+	public static final int DEFAULT_PAGE_SIZE = 100;
+	public static final int MAX_PAGE_SIZE = 1000;
+
 	private PersonOutputPort personPersistance;
+
+	// Optional: without it, studies are read from the loaded person
+	private StudyOutputPort studyPersistence;
 	
+	@Autowired
 	public PersonUseCase(@Qualifier("personOutputAdapterMaria") PersonOutputPort personOutputPort) {
 		this.personPersistance = personOutputPort;
 	}
+
+	public PersonUseCase(PersonOutputPort personOutputPort, StudyOutputPort studyOutputPort) {
+		this.personPersistance = personOutputPort;
+		this.studyPersistence = studyOutputPort;
+	}
 	
 	@Override
 	public void setPersistence(PersonOutputPort personOutputPort) {
@@ -34,6 +52,12 @@ public class PersonUseCase implements PersonInputPort {
 		return personPersistance.save(person);
 	}
 
+	@Override
+	public List<BatchItemResult<Person>> createAll(Collection<Person> persons) {
+		log.debug("Into createAll Person UseCase with {} persons", persons.size());
+		return personPersistance.saveAll(persons);
+	}
+
 	@Override
 	public Person edit(Long cc, Person person) throws NoExistException {
 		log.debug("Into edit Person UseCase");
@@ -47,9 +71,8 @@ public class PersonUseCase implements PersonInputPort {
 	@Override
 	public Boolean drop(Long cc) throws NoExistException {
 		log.debug("Into drop Person UseCase");
-		Person oldPerson = personPersistance.findById(cc);
-		if (oldPerson != null)
-			return personPersistance.delete(cc);
+		if (personPersistance.delete(cc))
+			return true;
 		throw new NoExistException(
 				"The person with id " + cc + " does not exist into db, cannot be dropped");
 	}
@@ -60,6 +83,28 @@ public class PersonUseCase implements PersonInputPort {
 		return personPersistance.findAll();
 	}
 
+	@Override
+	public List<Person> findPage(Integer after, Integer limit) {
+		log.debug("Into findPage Person UseCase");
+		return personPersistance.findPage(after, pageSize(limit));
+	}
+
+	@Override
+	public List<PersonSummary> findAllSummaries() {
+		log.debug("Into findAllSummaries Person UseCase");
+		return personPersistance.findAllSummaries();
+	}
+
+	@Override
+	public List<PersonSummary> findSummaryPage(Integer after, Integer limit) {
+		log.debug("Into findSummaryPage Person UseCase");
+		return personPersistance.findSummaryPage(after, pageSize(limit));
+	}
+
+	static int pageSize(Integer limit) {
+		return limit == null || limit <= 0 ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+	}
+
 	@Override
 	public Person findOne(Long cc) throws NoExistException {
 		log.debug("Into findOne Person UseCase");
@@ -70,9 +115,15 @@ public class PersonUseCase implements PersonInputPort {
 				"The person with id " + cc + " does not exist into db, cannot be found");
 	}
 
+	@Override
+	public Stream<Person> streamAll() {
+		log.debug("Into streamAll Person UseCase");
+		return personPersistance.streamAll();
+	}
+
 	@Override
 	public Integer count() {
-		return findAll().size();
+		return personPersistance.count().intValue();
 	}
 
 	@Override
@@ -86,6 +137,14 @@ public class PersonUseCase implements PersonInputPort {
 
 	@Override
 	public List<Study> getStudies(Long cc) throws NoExistException {
+		if (studyPersistence != null) {
+			// Two point queries: the person's key, then the studies' person index
+			if (personPersistance.findSummariesById(List.of(cc)).isEmpty()) {
+				throw new NoExistException(
+						"The person with id " + cc + " does not exist into db, cannot get studies");
+			}
+			return studyPersistence.findByPersonId(cc.intValue());
+		}
 		Person oldPerson = personPersistance.findById(cc);
 		if (oldPerson != null)
 			return oldPerson.getStudies();
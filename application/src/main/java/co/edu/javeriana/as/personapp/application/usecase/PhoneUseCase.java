@@ -37,16 +37,16 @@ public class PhoneUseCase implements PhoneInputPort {
     @Override
     public Phone edit(String number, Phone phone) throws NoExistException {
         if (phonePersistence.findById(number) != null) {
-            phone.setNumber(number); // Ensure the ID in the object matches the path ID
-            return phonePersistence.save(phone);
+            // Ensure the ID in the object matches the path ID
+            return phonePersistence.save(phone.withNumber(number));
         }
         throw new NoExistException("Cannot edit phone, does not exist with number: " + number);
     }
 
     @Override
     public Boolean drop(String number) throws NoExistException {
-        if (phonePersistence.findById(number) != null) {
-            return phonePersistence.delete(number);
+        if (phonePersistence.delete(number)) {
+            return true;
         }
         throw new NoExistException("Cannot drop phone, does not exist with number: " + number);
     }
@@ -68,7 +68,7 @@ public class PhoneUseCase implements PhoneInputPort {
 
     @Override
     public Integer count() {
-        return findAll().size();
+        return phonePersistence.count().intValue();
     }
 
     @Override
@@ -38,8 +38,7 @@ public class ProfessionUseCase implements ProfessionInputPort {
         if (oldProfession != null) {
             // Ensure the ID from the path is set on the profession object to be saved, if it's not already.
             // This is important if the request body doesn't include the ID or if it's different.
-            profession.setIdentification(identification);
-            return professionPersistence.save(profession);
+            return professionPersistence.save(profession.withIdentification(identification));
         }
         throw new NoExistException(
                 "The profession with id " + identification + " does not exist into db, cannot be edited");
@@ -76,6 +75,6 @@ public class ProfessionUseCase implements ProfessionInputPort {
     @Override
     public Integer count() {
         log.debug("Into count Profession UseCase");
-        return findAll().size();
+        return professionPersistence.count().intValue();
     }
 } 
\ No newline at end of file
@@ -0,0 +1,78 @@
+package co.edu.javeriana.as.personapp.application.usecase;
+
+import co.edu.javeriana.as.personapp.application.port.in.ReactivePersonInputPort;
+import co.edu.javeriana.as.personapp.application.port.out.ReactivePersonOutputPort;
+import co.edu.javeriana.as.personapp.common.exceptions.NoExistException;
+import co.edu.javeriana.as.personapp.domain.Person;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Deliberately not a {@code @UseCase} bean: the blocking applications scan
+ * this package and have no reactive output port. The reactive input adapter
+ * builds its own instance.
+ */
+@Slf4j
+public class ReactivePersonUseCase implements ReactivePersonInputPort {
+
+	private ReactivePersonOutputPort personPersistance;
+
+	public ReactivePersonUseCase(ReactivePersonOutputPort personOutputPort) {
+		this.personPersistance = personOutputPort;
+	}
+
+	@Override
+	public void setPersistence(ReactivePersonOutputPort personOutputPort) {
+		this.personPersistance = personOutputPort;
+	}
+
+	@Override
+	public Mono<Person> create(Person person) {
+		log.debug("Into create Person ReactiveUseCase");
+		return personPersistance.save(person);
+	}
+
+	@Override
+	public Mono<Person> edit(Long cc, Person person) {
+		log.debug("Into edit Person ReactiveUseCase");
+		return personPersistance.findById(cc)
+				.switchIfEmpty(Mono.error(() -> new NoExistException(
+						"The person with id " + cc + " does not exist into db, cannot be edited")))
+				.then(Mono.defer(() -> personPersistance.save(person)));
+	}
+
+	@Override
+	public Mono<Boolean> drop(Long cc) {
+		log.debug("Into drop Person ReactiveUseCase");
+		return personPersistance.delete(cc)
+				.flatMap(deleted -> deleted ? Mono.just(true)
+						: Mono.error(new NoExistException(
+								"The person with id " + cc + " does not exist into db, cannot be dropped")));
+	}
+
+	@Override
+	public Flux<Person> findAll() {
+		log.debug("Into findAll Person ReactiveUseCase");
+		return personPersistance.findAll();
+	}
+
+	@Override
+	public Flux<Person> findPage(Integer after, Integer limit) {
+		log.debug("Into findPage Person ReactiveUseCase");
+		return personPersistance.findPage(after, PersonUseCase.pageSize(limit));
+	}
+
+	@Override
+	public Mono<Person> findOne(Long cc) {
+		log.debug("Into findOne Person ReactiveUseCase");
+		return personPersistance.findById(cc)
+				.switchIfEmpty(Mono.error(() -> new NoExistException(
+						"The person with id " + cc + " does not exist into db, cannot be found")));
+	}
+
+	@Override
+	public Mono<Long> count() {
+		return personPersistance.count();
+	}
+}
@@ -28,20 +28,18 @@ public class StudyUseCase implements StudyInputPort {
 
     @Override
     public Study create(Study study) throws NoExistException {
-        if (studyPersintence.findById(study.getPerson().getIdentification(), study.getProfession().getIdentification()) == null) {
+        if (studyPersintence.findById(study.getPersonId(), study.getProfessionId()) == null) {
             return studyPersintence.save(study);
         }
         throw new NoExistException(
-                "Cannot create study, already exists with personId: " + study.getPerson().getIdentification()
-                        + " and professionId: " + study.getProfession().getIdentification());
+                "Cannot create study, already exists with personId: " + study.getPersonId()
+                        + " and professionId: " + study.getProfessionId());
     }
 
     @Override
     public Study edit(Integer personId, Integer professionId, Study study) throws NoExistException {
         if (studyPersintence.findById(personId, professionId) != null) {
-            study.getPerson().setIdentification(personId);
-            study.getProfession().setIdentification(professionId);
-            return studyPersintence.save(study);
+            return studyPersintence.save(study.withPersonId(personId).withProfessionId(professionId));
         }
         throw new NoExistException(
                 "Cannot edit study, does not exist with personId: " + personId + " and professionId: "
@@ -50,8 +48,8 @@ public class StudyUseCase implements StudyInputPort {
 
     @Override
     public Boolean drop(Integer personId, Integer professionId) throws NoExistException {
-        if (studyPersintence.findById(personId, professionId) != null) {
-            return studyPersintence.delete(personId, professionId);
+        if (studyPersintence.delete(personId, professionId)) {
+            return true;
         }
         throw new NoExistException(
                 "Cannot drop study, does not exist with personId: " + personId + " and professionId: "
@@ -64,6 +62,16 @@ public class StudyUseCase implements StudyInputPort {
         return studyPersintence.find();
     }
 
+    @Override
+    public List<Study> findByPersonId(Integer personId) {
+        return studyPersintence.findByPersonId(personId);
+    }
+
+    @Override
+    public List<Study> findByProfessionId(Integer professionId) {
+        return studyPersintence.findByProfessionId(professionId);
+    }
+
     @Override
     public Study findOne(Integer personId, Integer professionId) throws NoExistException {
         Study study = studyPersintence.findById(personId, professionId);
@@ -76,6 +84,6 @@ public class StudyUseCase implements StudyInputPort {
 
     @Override
     public Integer count() {
-        return findAll().size();
+        return studyPersintence.count().intValue();
     }
 } 
\ No newline at end of file
@@ -0,0 +1,141 @@
+package co.edu.javeriana.as.personapp.application.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class BoundedCacheTest {
+
+    private static final long ONE_HOUR = Duration.ofHours(1).toNanos();
+
+    @Test
+    void getLoadsOnceAndThenServesTheCachedValue() {
+        BoundedCache<Long, String> cache = new BoundedCache<>("persons", 10, ONE_HOUR);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals("p1", cache.get(1L, key -> {
+            loads.incrementAndGet();
+            return "p" + key;
+        }));
+        assertEquals("p1", cache.get(1L, key -> "reloaded"));
+
+        CacheStats stats = cache.stats();
+        assertEquals(1, loads.get());
+        assertEquals(1, stats.getHits());
+        assertEquals(1, stats.getMisses());
+        assertEquals(1, stats.getSize());
+    }
+
+    @Test
+    void aNullLoadIsNotCached() {
+        BoundedCache<Long, String> cache = new BoundedCache<>("persons", 10, ONE_HOUR);
+
+        assertNull(cache.get(1L, key -> null));
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void anExpiredEntryIsDroppedAndReloaded() {
+        // A zero TTL makes every entry expired as soon as it is stored
+        BoundedCache<Long, String> cache = new BoundedCache<>("persons", 10, 0);
+        cache.get(1L, key -> "old");
+
+        assertNull(cache.getIfPresent(1L));
+        assertEquals("new", cache.get(1L, key -> "new"));
+
+        CacheStats stats = cache.stats();
+        assertEquals(1, stats.getExpirations());
+        assertEquals(0, stats.getHits());
+    }
+
+    @Test
+    void theLeastRecentlyUsedEntryIsEvictedAtMaxSize() {
+        BoundedCache<Long, String> cache = new BoundedCache<>("persons", 2, ONE_HOUR);
+        cache.get(1L, key -> "p1");
+        cache.get(2L, key -> "p2");
+        // Reading 1 makes 2 the eldest
+        cache.getIfPresent(1L);
+
+        cache.get(3L, key -> "p3");
+
+        assertEquals(2, cache.size());
+        assertEquals("p1", cache.getIfPresent(1L));
+        assertNull(cache.getIfPresent(2L));
+        assertEquals("p3", cache.getIfPresent(3L));
+        assertEquals(1, cache.stats().getEvictions());
+    }
+
+    @Test
+    void aMaxSizeOfZeroDisablesCaching() {
+        BoundedCache<Long, String> cache = new BoundedCache<>("persons", 0, ONE_HOUR);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1L, key -> "p" + loads.incrementAndGet());
+        assertEquals("p2", cache.get(1L, key -> "p" + loads.incrementAndGet()));
+
+        assertEquals(0, cache.size());
+        assertEquals(2, cache.stats().getMisses());
+    }
+
+    @Test
+    void invalidateRemovesTheEntry() {
+        BoundedCache<Long, String> cache = new BoundedCache<>("persons", 10, ONE_HOUR);
+        cache.get(1L, key -> "p1");
+        cache.get(2L, key -> "p2");
+
+        cache.invalidate(1L);
+        assertNull(cache.getIfPresent(1L));
+        assertEquals("p2", cache.getIfPresent(2L));
+
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+        assertEquals(2, cache.stats().getInvalidations());
+    }
+
+    @Test
+    void aLoadThatRacesAnInvalidationIsReturnedButNotStored() throws Exception {
+        BoundedCache<Long, String> cache = new BoundedCache<>("persons", 10, ONE_HOUR);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch written = new CountDownLatch(1);
+
+        // The reader loads the old row, then a writer commits and invalidates before the reader stores it
+        CompletableFuture<String> reader = CompletableFuture.supplyAsync(() -> cache.get(1L, key -> {
+            loading.countDown();
+            try {
+                written.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "stale";
+        }));
+        loading.await();
+        cache.invalidate(1L);
+        written.countDown();
+
+        assertEquals("stale", reader.get(5, TimeUnit.SECONDS));
+        assertNull(cache.getIfPresent(1L));
+        assertEquals("fresh", cache.get(1L, key -> "fresh"));
+        assertEquals("fresh", cache.getIfPresent(1L));
+    }
+
+    @Test
+    void invalidatingAnotherKeyAlsoDiscardsTheRacingLoad() {
+        BoundedCache<Long, String> cache = new BoundedCache<>("persons", 10, ONE_HOUR);
+
+        // The generation is cache-wide, so any invalidation during the load wins
+        cache.get(1L, key -> {
+            cache.invalidate(2L);
+            return "p1";
+        });
+
+        assertNull(cache.getIfPresent(1L));
+    }
+}
@@ -0,0 +1,110 @@
+package co.edu.javeriana.as.personapp.application.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import co.edu.javeriana.as.personapp.common.exceptions.NoExistException;
+import co.edu.javeriana.as.personapp.common.setup.DatabaseOption;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TimedPortsTest {
+
+    interface LookupPort {
+
+        String find(long id) throws NoExistException;
+    }
+
+    private static final class Lookup implements LookupPort {
+
+        @Override
+        public String find(long id) throws NoExistException {
+            if (id < 0) {
+                throw new NoExistException("The person with id " + id + " does not exist");
+            }
+            return "p" + id;
+        }
+
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+
+        @Override
+        public String toString() {
+            return "Lookup";
+        }
+    }
+
+    private SimpleMeterRegistry registry;
+    private Lookup delegate;
+    private LookupPort timed;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        delegate = new Lookup();
+        timed = TimedPorts.timed(LookupPort.class, delegate, registry, TimedPorts.PORT_CALLS, DatabaseOption.MARIA);
+    }
+
+    private Timer timer(String outcome, String exception) {
+        return registry.find(TimedPorts.PORT_CALLS).tag("port", "LookupPort").tag("operation", "find")
+                .tag("backend", "MARIA").tag("outcome", outcome).tag("exception", exception).timer();
+    }
+
+    @Test
+    void aSuccessfulCallIsTimedWithTheSuccessTags() throws NoExistException {
+        assertEquals("p1", timed.find(1));
+
+        Timer success = timer("success", "none");
+        assertNotNull(success);
+        assertEquals(1, success.count());
+    }
+
+    @Test
+    void theExceptionOfTheDelegateIsRethrownUnwrappedAndTimedAsAnError() {
+        // Callers catch NoExistException, not the reflective wrapper
+        NoExistException thrown = assertThrows(NoExistException.class, () -> timed.find(-1));
+
+        assertEquals("The person with id -1 does not exist", thrown.getMessage());
+        Timer error = timer("error", "NoExistException");
+        assertNotNull(error);
+        assertEquals(1, error.count());
+    }
+
+    @Test
+    void theSuccessTimerIsRegisteredOncePerMethod() throws NoExistException {
+        timed.find(1);
+        Timer first = timer("success", "none");
+        // Later calls record on the cached timer, even after the registry dropped it
+        registry.remove(first);
+        timed.find(2);
+        timed.find(3);
+
+        assertEquals(3, first.count());
+        assertEquals(0, registry.getMeters().size());
+    }
+
+    @Test
+    void equalsIsTheIdentityOfTheProxy() {
+        LookupPort other = TimedPorts.timed(LookupPort.class, delegate, registry, TimedPorts.PORT_CALLS,
+                DatabaseOption.MARIA);
+
+        assertTrue(timed.equals(timed));
+        assertFalse(timed.equals(other));
+        assertFalse(timed.equals(delegate));
+    }
+
+    @Test
+    void hashCodeAndToStringAreTheDelegatesAndNotTimed() {
+        assertEquals(42, timed.hashCode());
+        assertEquals("Lookup", timed.toString());
+        assertTrue(registry.getMeters().isEmpty());
+    }
+}
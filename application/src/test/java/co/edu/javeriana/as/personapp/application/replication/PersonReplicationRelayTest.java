@@ -0,0 +1,252 @@
+package co.edu.javeriana.as.personapp.application.replication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import co.edu.javeriana.as.personapp.application.port.out.BatchItemResult;
+import co.edu.javeriana.as.personapp.application.port.out.PersonOutboxEntry;
+import co.edu.javeriana.as.personapp.application.port.out.PersonOutboxPort;
+import co.edu.javeriana.as.personapp.application.port.out.PersonOutputPort;
+import co.edu.javeriana.as.personapp.common.setup.DatabaseOption;
+import co.edu.javeriana.as.personapp.domain.Gender;
+import co.edu.javeriana.as.personapp.domain.Person;
+import co.edu.javeriana.as.personapp.domain.PersonSummary;
+
+class PersonReplicationRelayTest {
+
+    private static final Instant NOW = Instant.parse("2024-05-01T10:00:00Z");
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(1);
+
+    private FakeOutbox outbox;
+    private PersonOutputPort primary;
+    private PersonOutputPort secondary;
+    // What the secondary holds after the relay's writes
+    private Map<Integer, Person> secondaryRows;
+    private PersonReplicationRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        outbox = new FakeOutbox();
+        primary = mock(PersonOutputPort.class);
+        secondary = mock(PersonOutputPort.class);
+        secondaryRows = new HashMap<>();
+        when(secondary.saveAll(anyCollection())).thenAnswer(invocation -> {
+            Collection<Person> persons = invocation.getArgument(0);
+            List<BatchItemResult<Person>> results = new ArrayList<>();
+            for (Person person : persons) {
+                secondaryRows.put(person.getIdentification(), person);
+                results.add(BatchItemResult.saved(person));
+            }
+            return results;
+        });
+        relay = new PersonReplicationRelay(DatabaseOption.MARIA, outbox, primary, DatabaseOption.MONGO, secondary,
+                10, MAX_BACKOFF, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    private static PersonSummary summary(int cc) {
+        return new PersonSummary(cc, "Nombre" + cc, "Apellido" + cc, Gender.MALE, 20 + cc);
+    }
+
+    private void primaryHas(PersonSummary... summaries) {
+        when(primary.findSummariesById(anyCollection())).thenReturn(List.of(summaries));
+    }
+
+    @Test
+    void relayBatchCopiesEachPersonOnceAndRemovesAllOfItsEntries() {
+        outbox.add("a", 1L, 0);
+        outbox.add("b", 2L, 0);
+        outbox.add("c", 1L, 0);
+        primaryHas(summary(1), summary(2));
+
+        assertEquals(3, relay.relayBatch());
+
+        assertEquals(Set.of(1, 2), secondaryRows.keySet());
+        assertEquals("Nombre1", secondaryRows.get(1).getFirstName());
+        assertEquals(21, secondaryRows.get(1).getAge());
+        assertTrue(outbox.entries.isEmpty());
+        assertEquals(Set.of("a", "b", "c"), Set.copyOf(outbox.removed));
+        assertEquals(2, relay.stats().getReplicated());
+        assertEquals(0, relay.relayBatch());
+    }
+
+    @Test
+    void relayBatchDeletesFromTheSecondaryAPersonNoLongerInThePrimary() {
+        outbox.add("a", 5L, 0);
+        primaryHas();
+
+        relay.relayBatch();
+
+        verify(secondary).delete(5L);
+        verify(secondary, never()).saveAll(anyCollection());
+        assertTrue(outbox.entries.isEmpty());
+    }
+
+    @Test
+    void relayBatchReschedulesOnlyTheItemsTheSecondaryRejected() {
+        outbox.add("a", 1L, 0);
+        outbox.add("b", 2L, 3);
+        primaryHas(summary(1), summary(2));
+        when(secondary.saveAll(anyCollection())).thenAnswer(invocation -> {
+            Collection<Person> persons = invocation.getArgument(0);
+            return persons.stream()
+                    .map(person -> person.getIdentification() == 2 ? BatchItemResult.failed(person, "duplicate key")
+                            : BatchItemResult.saved(person))
+                    .collect(Collectors.toList());
+        });
+
+        relay.relayBatch();
+
+        assertEquals(List.of("a"), outbox.removed);
+        PersonOutboxEntry retried = outbox.entries.get("b");
+        assertEquals(4, retried.getAttempts());
+        // Fourth attempt: 1s doubled three times
+        assertEquals(NOW.plusSeconds(8), outbox.nextAttempt.get("b"));
+        assertEquals("duplicate key", outbox.errors.get("b"));
+        assertEquals(1, relay.stats().getFailedAttempts());
+        assertEquals("duplicate key", relay.stats().getLastError());
+    }
+
+    @Test
+    void relayBatchReschedulesTheWholeBatchWhenThePrimaryIsUnreachable() {
+        outbox.add("a", 1L, 1);
+        outbox.add("b", 2L, 2);
+        when(primary.findSummariesById(anyCollection())).thenThrow(new IllegalStateException("primary down"));
+
+        assertEquals(2, relay.relayBatch());
+
+        assertTrue(outbox.removed.isEmpty());
+        // Backoff follows the most-retried entry of the batch
+        assertEquals(NOW.plusSeconds(4), outbox.nextAttempt.get("a"));
+        assertEquals(NOW.plusSeconds(4), outbox.nextAttempt.get("b"));
+        assertEquals("primary down", outbox.errors.get("a"));
+        // Not due yet, so the next run finds nothing
+        assertEquals(0, relay.relayBatch());
+    }
+
+    @Test
+    void relayBatchReschedulesADeleteTheSecondaryRejected() {
+        outbox.add("a", 5L, 0);
+        primaryHas();
+        doThrow(new IllegalStateException("secondary down")).when(secondary).delete(5L);
+
+        relay.relayBatch();
+
+        assertTrue(outbox.removed.isEmpty());
+        assertEquals(NOW.plusSeconds(1), outbox.nextAttempt.get("a"));
+        assertEquals("secondary down", outbox.errors.get("a"));
+    }
+
+    @Test
+    void replayingAnUnchangedPersonLeavesTheSecondaryAsItWas() {
+        primaryHas(summary(1));
+        outbox.add("a", 1L, 0);
+        relay.relayBatch();
+        Map<Integer, Person> afterFirst = new HashMap<>(secondaryRows);
+
+        // The same entry applied again, e.g. by an overlapping relay
+        outbox.add("a", 1L, 0);
+        relay.relayBatch();
+
+        assertEquals(afterFirst, secondaryRows);
+        assertTrue(outbox.entries.isEmpty());
+    }
+
+    @Test
+    void backoffDoublesFromOneSecondAndIsCappedAtTheMaximum() {
+        assertEquals(Duration.ofSeconds(1), relay.backoff(0));
+        assertEquals(Duration.ofSeconds(2), relay.backoff(1));
+        assertEquals(Duration.ofSeconds(32), relay.backoff(5));
+        assertEquals(MAX_BACKOFF, relay.backoff(6));
+        // The shift is bounded, so a very old entry does not overflow
+        assertEquals(MAX_BACKOFF, relay.backoff(Integer.MAX_VALUE));
+    }
+
+    @Test
+    void lagIsTheAgeOfTheOldestEntry() {
+        assertEquals(0, relay.lagMillis());
+        outbox.add("a", 1L, 0);
+        assertEquals(30_000, relay.lagMillis());
+        assertNull(relay.stats().getLastError());
+    }
+
+    /**
+     * Outbox kept in memory; every entry was created 30 seconds before
+     * {@link #NOW} and is due unless it was rescheduled.
+     */
+    private static class FakeOutbox implements PersonOutboxPort {
+
+        private final Map<String, PersonOutboxEntry> entries = new LinkedHashMap<>();
+        private final Map<String, Instant> nextAttempt = new HashMap<>();
+        private final Map<String, String> errors = new HashMap<>();
+        private final List<String> removed = new ArrayList<>();
+
+        void add(String id, Long cc, int attempts) {
+            entries.put(id, new PersonOutboxEntry(id, cc, NOW.minusSeconds(30), attempts));
+        }
+
+        @Override
+        public <T> T record(Supplier<T> write, Collection<Long> ccs) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<PersonOutboxEntry> findDue(Instant now, int limit) {
+            return entries.values().stream()
+                    .filter(entry -> !nextAttempt.getOrDefault(entry.getId(), Instant.MIN).isAfter(now))
+                    .limit(limit)
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        public void remove(Collection<String> ids) {
+            for (String id : ids) {
+                entries.remove(id);
+                removed.add(id);
+            }
+        }
+
+        @Override
+        public void retryLater(Collection<String> ids, Instant next, String error) {
+            for (String id : ids) {
+                PersonOutboxEntry entry = entries.get(id);
+                entries.put(id, new PersonOutboxEntry(id, entry.getCc(), entry.getCreatedAt(), entry.getAttempts() + 1));
+                nextAttempt.put(id, next);
+                errors.put(id, error);
+            }
+        }
+
+        @Override
+        public Instant oldestCreatedAt() {
+            return entries.values().stream().map(PersonOutboxEntry::getCreatedAt).min(Instant::compareTo).orElse(null);
+        }
+
+        @Override
+        public Long count() {
+            return (long) entries.size();
+        }
+    }
+}
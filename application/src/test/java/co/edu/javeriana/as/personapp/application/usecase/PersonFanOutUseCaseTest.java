@@ -0,0 +1,157 @@
+package co.edu.javeriana.as.personapp.application.usecase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import co.edu.javeriana.as.personapp.application.port.in.FanOutResult;
+import co.edu.javeriana.as.personapp.application.port.out.PersonOutputPort;
+import co.edu.javeriana.as.personapp.common.setup.DatabaseOption;
+import co.edu.javeriana.as.personapp.domain.Gender;
+import co.edu.javeriana.as.personapp.domain.Person;
+
+class PersonFanOutUseCaseTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private PersonOutputPort maria;
+    private PersonOutputPort mongo;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        maria = mock(PersonOutputPort.class);
+        mongo = mock(PersonOutputPort.class);
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static Person person(int cc, String firstName) {
+        return new Person(cc, firstName, "Diaz", Gender.FEMALE, 30, null, null);
+    }
+
+    private PersonFanOutUseCase fanOut(ExecutorService executor, Duration timeout) {
+        Map<DatabaseOption, PersonOutputPort> backends = new LinkedHashMap<>();
+        backends.put(DatabaseOption.MARIA, maria);
+        backends.put(DatabaseOption.MONGO, mongo);
+        return new PersonFanOutUseCase(backends, executor, timeout);
+    }
+
+    private static List<Integer> ids(FanOutResult<Person> result) {
+        return result.getItems().stream().map(item -> item.getItem().getIdentification()).collect(Collectors.toList());
+    }
+
+    @Test
+    void findAllMergesBothBackendsSortedByIdAndMariaWinsOnDuplicates() {
+        when(maria.findAll()).thenReturn(List.of(person(3, "Maria3"), person(1, "Maria1")));
+        when(mongo.findAll()).thenReturn(List.of(person(1, "Mongo1"), person(2, "Mongo2")));
+
+        FanOutResult<Person> result = fanOut(executor, TIMEOUT).findAll();
+
+        assertEquals(List.of(1, 2, 3), ids(result));
+        FanOutResult.Sourced<Person> duplicate = result.getItems().get(0);
+        assertEquals("Maria1", duplicate.getItem().getFirstName());
+        assertEquals(Set.of(DatabaseOption.MARIA, DatabaseOption.MONGO), duplicate.getSources());
+        assertEquals(Set.of(DatabaseOption.MONGO), result.getItems().get(1).getSources());
+        assertTrue(result.getFailures().isEmpty());
+    }
+
+    @Test
+    void findAllKeepsTheRowsOfOneBackendWhenTheOtherFails() {
+        when(maria.findAll()).thenThrow(new IllegalStateException("connection refused"));
+        when(mongo.findAll()).thenReturn(List.of(person(2, "Mongo2")));
+
+        FanOutResult<Person> result = fanOut(executor, TIMEOUT).findAll();
+
+        assertEquals(List.of(2), ids(result));
+        assertEquals(Map.of(DatabaseOption.MARIA, "connection refused"), result.getFailures());
+    }
+
+    @Test
+    void findAllReportsABackendThatTimesOut() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        when(maria.findAll()).thenReturn(List.of(person(1, "Maria1")));
+        when(mongo.findAll()).thenAnswer(invocation -> {
+            release.await();
+            return List.of(person(2, "Mongo2"));
+        });
+
+        try {
+            FanOutResult<Person> result = fanOut(executor, Duration.ofMillis(100)).findAll();
+
+            assertEquals(List.of(1), ids(result));
+            assertEquals(Map.of(DatabaseOption.MONGO, "timed out after 100 ms"), result.getFailures());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void findAllReportsBackendsRejectedByASaturatedExecutor() throws InterruptedException {
+        // One thread, no queue: once the blocker holds the thread every submit is aborted
+        ThreadPoolExecutor saturated = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new SynchronousQueue<>(), new ThreadPoolExecutor.AbortPolicy());
+        CountDownLatch release = new CountDownLatch(1);
+        saturated.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        try {
+            FanOutResult<Person> result = fanOut(saturated, TIMEOUT).findAll();
+
+            assertTrue(result.getItems().isEmpty());
+            assertEquals(Map.of(DatabaseOption.MARIA, "fan-out executor is saturated",
+                    DatabaseOption.MONGO, "fan-out executor is saturated"), result.getFailures());
+        } finally {
+            release.countDown();
+            saturated.shutdown();
+        }
+    }
+
+    @Test
+    void findPageTrimsTheMergedPageToTheLimit() {
+        when(maria.findPage(10, 2)).thenReturn(List.of(person(11, "Maria11"), person(14, "Maria14")));
+        when(mongo.findPage(10, 2)).thenReturn(List.of(person(12, "Mongo12"), person(13, "Mongo13")));
+
+        FanOutResult<Person> result = fanOut(executor, TIMEOUT).findPage(10, 2);
+
+        assertEquals(List.of(11, 12), ids(result));
+    }
+
+    @Test
+    void findOneReturnsThePersonFromTheOnlyBackendThatHasIt() {
+        when(maria.findById(5L)).thenReturn(null);
+        when(mongo.findById(5L)).thenReturn(person(5, "Mongo5"));
+
+        FanOutResult<Person> result = fanOut(executor, TIMEOUT).findOne(5L);
+
+        assertEquals(List.of(5), ids(result));
+        assertEquals(Set.of(DatabaseOption.MONGO), result.getItems().get(0).getSources());
+    }
+}
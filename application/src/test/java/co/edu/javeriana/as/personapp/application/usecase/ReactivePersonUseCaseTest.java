@@ -0,0 +1,90 @@
+package co.edu.javeriana.as.personapp.application.usecase;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import co.edu.javeriana.as.personapp.application.port.out.ReactivePersonOutputPort;
+import co.edu.javeriana.as.personapp.common.exceptions.NoExistException;
+import co.edu.javeriana.as.personapp.domain.Gender;
+import co.edu.javeriana.as.personapp.domain.Person;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class ReactivePersonUseCaseTest {
+
+    private ReactivePersonOutputPort persistence;
+    private ReactivePersonUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        persistence = mock(ReactivePersonOutputPort.class);
+        useCase = new ReactivePersonUseCase(persistence);
+    }
+
+    private static Person person(int cc, String firstName) {
+        return new Person(cc, firstName, "Diaz", Gender.FEMALE, 30, null, null);
+    }
+
+    @Test
+    void editSavesThePersonWhenItExists() {
+        Person edited = person(1, "Ana");
+        when(persistence.findById(1L)).thenReturn(Mono.just(person(1, "Old")));
+        when(persistence.save(edited)).thenReturn(Mono.just(edited));
+
+        StepVerifier.create(useCase.edit(1L, edited)).expectNext(edited).verifyComplete();
+    }
+
+    @Test
+    void editOfAMissingPersonFailsWithoutSaving() {
+        Person edited = person(1, "Ana");
+        when(persistence.findById(1L)).thenReturn(Mono.empty());
+        when(persistence.save(edited)).thenReturn(Mono.just(edited));
+
+        StepVerifier.create(useCase.edit(1L, edited))
+                .expectErrorMatches(e -> e instanceof NoExistException && e.getMessage().contains("cannot be edited"))
+                .verify();
+        verify(persistence, never()).save(edited);
+    }
+
+    @Test
+    void dropOfAPersonThatWasNotDeletedFails() {
+        when(persistence.delete(1L)).thenReturn(Mono.just(true));
+        when(persistence.delete(2L)).thenReturn(Mono.just(false));
+
+        StepVerifier.create(useCase.drop(1L)).expectNext(true).verifyComplete();
+        StepVerifier.create(useCase.drop(2L))
+                .expectErrorMatches(e -> e instanceof NoExistException && e.getMessage().contains("cannot be dropped"))
+                .verify();
+    }
+
+    @Test
+    void findOneOfAMissingPersonFails() {
+        when(persistence.findById(1L)).thenReturn(Mono.just(person(1, "Ana")));
+        when(persistence.findById(2L)).thenReturn(Mono.empty());
+
+        StepVerifier.create(useCase.findOne(1L)).expectNextMatches(found -> found.getIdentification() == 1)
+                .verifyComplete();
+        StepVerifier.create(useCase.findOne(2L)).expectError(NoExistException.class).verify();
+    }
+
+    @Test
+    void findPageClampsTheLimitLikeTheBlockingUseCase() {
+        when(persistence.findPage(0, PersonUseCase.DEFAULT_PAGE_SIZE)).thenReturn(Flux.just(person(1, "Ana")));
+        when(persistence.findPage(0, PersonUseCase.MAX_PAGE_SIZE)).thenReturn(Flux.empty());
+        when(persistence.findPage(0, 5)).thenReturn(Flux.empty());
+
+        StepVerifier.create(useCase.findPage(0, null)).expectNextCount(1).verifyComplete();
+        StepVerifier.create(useCase.findPage(0, 0)).expectNextCount(1).verifyComplete();
+        StepVerifier.create(useCase.findPage(0, PersonUseCase.MAX_PAGE_SIZE + 1)).verifyComplete();
+        StepVerifier.create(useCase.findPage(0, 5)).verifyComplete();
+
+        verify(persistence).findPage(0, PersonUseCase.MAX_PAGE_SIZE);
+        verify(persistence).findPage(0, 5);
+    }
+}
@@ -0,0 +1,28 @@
+package co.edu.javeriana.as.personapp.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of benchmarks.jar. Always attaches the GC profiler so every run
+ * reports gc.alloc.rate.norm (bytes per operation) next to throughput, and
+ * writes a JSON result file that release builds can diff against a baseline.
+ * Any regular JMH command line option is still accepted and takes precedence.
+ */
+public class BenchmarkRunner {
+
+	public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+		CommandLineOptions commandLine = new CommandLineOptions(args);
+		new Runner(new OptionsBuilder()
+				.parent(commandLine)
+				.addProfiler(GCProfiler.class)
+				.resultFormat(commandLine.getResultFormat().orElse(ResultFormatType.JSON))
+				.result(commandLine.getResult().orElse("jmh-result.json"))
+				.build()).run();
+	}
+}
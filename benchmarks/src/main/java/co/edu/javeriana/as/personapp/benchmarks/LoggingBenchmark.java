@@ -0,0 +1,169 @@
+package co.edu.javeriana.as.personapp.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import co.edu.javeriana.as.personapp.benchmarks.support.Fixtures;
+import co.edu.javeriana.as.personapp.common.logging.SampledLog;
+import co.edu.javeriana.as.personapp.domain.Person;
+import co.edu.javeriana.as.personapp.mapper.PersonaMapperRest;
+import co.edu.javeriana.as.personapp.mariadb.entity.PersonaEntity;
+import co.edu.javeriana.as.personapp.mariadb.mapper.PersonaMapperMaria;
+import co.edu.javeriana.as.personapp.model.request.PersonaRequest;
+import co.edu.javeriana.as.personapp.mongo.document.PersonaDocument;
+import co.edu.javeriana.as.personapp.mongo.mapper.PersonaMapperMongo;
+import co.edu.javeriana.as.personapp.mongo.mapper.PersonaMapperMongoImpl;
+
+/**
+ * Mapper throughput with the application loggers writing to a real file, as
+ * they do in the REST and CLI applications (the other benchmarks log nothing
+ * below WARN). {@code level} is the application log level and
+ * {@code appender} whether the file is written by the calling thread or
+ * through the async queue of logback-base.xml. Running it on the commit
+ * before the hot-path logging cleanup gives the "before" numbers.
+ *
+ * {@code plainWarn} and {@code sampledWarn} compare a per-row warning
+ * written every time with the same warning through {@link SampledLog}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class LoggingBenchmark {
+
+	private static final String APPLICATION_LOGGER = "co.edu.javeriana.as.personapp";
+
+	@Param({ "INFO", "DEBUG" })
+	public String level;
+
+	@Param({ "sync", "async" })
+	public String appender;
+
+	private AnnotationConfigApplicationContext context;
+	private Logger applicationLogger;
+	private Appender<ILoggingEvent> fileAppender;
+	private Path logFile;
+
+	private PersonaMapperMaria personaMapperMaria;
+	private PersonaMapperMongo personaMapperMongo;
+	private PersonaMapperRest personaMapperRest;
+
+	private Person person;
+	private PersonaDocument personaDocument;
+	private PersonaRequest personaRequest;
+
+	private org.slf4j.Logger rowLogger;
+	private SampledLog sampledRowLog;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		logFile = Files.createTempFile("personapp-logging-benchmark", ".log");
+		LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+		fileAppender = fileAppender(loggerContext);
+		applicationLogger = loggerContext.getLogger(APPLICATION_LOGGER);
+		applicationLogger.setLevel(ch.qos.logback.classic.Level.toLevel(level));
+		applicationLogger.setAdditive(false);
+		applicationLogger.addAppender(fileAppender);
+
+		context = new AnnotationConfigApplicationContext();
+		context.scan("co.edu.javeriana.as.personapp.mariadb.mapper", "co.edu.javeriana.as.personapp.mapper");
+		context.refresh();
+		personaMapperMaria = context.getBean(PersonaMapperMaria.class);
+		personaMapperRest = context.getBean(PersonaMapperRest.class);
+		personaMapperMongo = new PersonaMapperMongoImpl();
+
+		person = Fixtures.person(1001);
+		personaDocument = Fixtures.personaDocument(1001);
+		personaRequest = Fixtures.personaRequest(1001);
+
+		rowLogger = LoggerFactory.getLogger(APPLICATION_LOGGER + ".benchmark");
+		sampledRowLog = new SampledLog(rowLogger, Duration.ofSeconds(1));
+	}
+
+	private Appender<ILoggingEvent> fileAppender(LoggerContext loggerContext) {
+		PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+		encoder.setContext(loggerContext);
+		// Spring Boot's default file pattern
+		encoder.setPattern("%d{yyyy-MM-dd HH:mm:ss.SSS} %5p --- [%t] %-40.40logger{39} : %m%n");
+		encoder.start();
+		FileAppender<ILoggingEvent> file = new FileAppender<>();
+		file.setContext(loggerContext);
+		file.setFile(logFile.toString());
+		file.setEncoder(encoder);
+		file.start();
+		if (!"async".equals(appender)) {
+			return file;
+		}
+		AsyncAppender async = new AsyncAppender();
+		async.setContext(loggerContext);
+		async.setQueueSize(8192);
+		async.addAppender(file);
+		async.start();
+		return async;
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		context.close();
+		applicationLogger.detachAppender(fileAppender);
+		applicationLogger.setLevel(null);
+		applicationLogger.setAdditive(true);
+		fileAppender.stop();
+		Files.deleteIfExists(logFile);
+	}
+
+	@Benchmark
+	public Person personaMongoToDomain() {
+		return personaMapperMongo.fromAdapterToDomain(personaDocument);
+	}
+
+	@Benchmark
+	public PersonaEntity personaMariaToEntity() {
+		return personaMapperMaria.fromDomainToAdapter(person);
+	}
+
+	@Benchmark
+	public Person personaRestFromRequest() {
+		return personaMapperRest.fromAdapterToDomain(personaRequest);
+	}
+
+	@Benchmark
+	public void plainWarn() {
+		rowLogger.warn("Row {} has no gender, defaulting to OTHER", person.getIdentification());
+	}
+
+	@Benchmark
+	public void sampledWarn() {
+		sampledRowLog.warn("Row {} has no gender, defaulting to OTHER", person.getIdentification());
+	}
+}
@@ -0,0 +1,127 @@
+package co.edu.javeriana.as.personapp.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import co.edu.javeriana.as.personapp.benchmarks.support.Fixtures;
+import co.edu.javeriana.as.personapp.domain.Person;
+import co.edu.javeriana.as.personapp.domain.Study;
+import co.edu.javeriana.as.personapp.mapper.PersonaMapperRest;
+import co.edu.javeriana.as.personapp.mariadb.entity.EstudiosEntity;
+import co.edu.javeriana.as.personapp.mariadb.entity.PersonaEntity;
+import co.edu.javeriana.as.personapp.mariadb.mapper.EstudiosMapperMaria;
+import co.edu.javeriana.as.personapp.mariadb.mapper.PersonaMapperMaria;
+import co.edu.javeriana.as.personapp.model.request.PersonaRequest;
+import co.edu.javeriana.as.personapp.model.response.PersonaResponse;
+import co.edu.javeriana.as.personapp.mongo.document.PersonaDocument;
+import co.edu.javeriana.as.personapp.mongo.mapper.PersonaMapperMongo;
+import co.edu.javeriana.as.personapp.mongo.mapper.PersonaMapperMongoImpl;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+	private AnnotationConfigApplicationContext context;
+
+	private PersonaMapperMaria personaMapperMaria;
+	private EstudiosMapperMaria estudiosMapperMaria;
+	private PersonaMapperMongo personaMapperMongo;
+	private PersonaMapperRest personaMapperRest;
+
+	private Person person;
+	// As built from a create request: no phone or study lists
+	private Person personWithoutChildren;
+	private PersonaEntity personaEntity;
+	private EstudiosEntity estudiosEntity;
+	private Study study;
+	private PersonaDocument personaDocument;
+	private PersonaRequest personaRequest;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		// Wire the mappers exactly as the application does, without repositories or a datasource
+		context = new AnnotationConfigApplicationContext();
+		context.scan("co.edu.javeriana.as.personapp.mariadb.mapper", "co.edu.javeriana.as.personapp.mapper");
+		context.refresh();
+		personaMapperMaria = context.getBean(PersonaMapperMaria.class);
+		estudiosMapperMaria = context.getBean(EstudiosMapperMaria.class);
+		personaMapperRest = context.getBean(PersonaMapperRest.class);
+		// The Mongo mapper package also wires repositories; the generated PersonaMapperMongo has no dependencies
+		personaMapperMongo = new PersonaMapperMongoImpl();
+
+		person = Fixtures.person(1001);
+		personWithoutChildren = personaMapperRest.fromAdapterToDomain(Fixtures.personaRequest(1002));
+		personaEntity = Fixtures.personaEntity(1001);
+		estudiosEntity = personaEntity.getEstudios().get(0);
+		study = person.getStudies().get(0);
+		personaDocument = Fixtures.personaDocument(1001);
+		personaRequest = Fixtures.personaRequest(1001);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public Person personaMariaToDomain() {
+		return personaMapperMaria.fromAdapterToDomain(personaEntity);
+	}
+
+	@Benchmark
+	public PersonaEntity personaMariaToEntity() {
+		return personaMapperMaria.fromDomainToAdapter(person);
+	}
+
+	@Benchmark
+	public PersonaEntity personaMariaToEntityWithoutChildren() {
+		return personaMapperMaria.fromDomainToAdapter(personWithoutChildren);
+	}
+
+	@Benchmark
+	public Study estudiosMariaToDomain() {
+		return estudiosMapperMaria.fromAdapterToDomain(estudiosEntity);
+	}
+
+	@Benchmark
+	public EstudiosEntity estudiosMariaToEntity() {
+		return estudiosMapperMaria.fromDomainToAdapter(study);
+	}
+
+	@Benchmark
+	public Person personaMongoToDomain() {
+		return personaMapperMongo.fromAdapterToDomain(personaDocument);
+	}
+
+	@Benchmark
+	public PersonaDocument personaMongoToDocument() {
+		return personaMapperMongo.fromDomainToAdapter(person);
+	}
+
+	@Benchmark
+	public PersonaResponse personaRestToResponse() {
+		return personaMapperRest.fromDomainToAdapterRestMaria(person);
+	}
+
+	@Benchmark
+	public Person personaRestFromRequest() {
+		return personaMapperRest.fromAdapterToDomain(personaRequest);
+	}
+}
@@ -0,0 +1,95 @@
+package co.edu.javeriana.as.personapp.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import co.edu.javeriana.as.personapp.application.port.in.PersonInputPort;
+import co.edu.javeriana.as.personapp.application.usecase.PersonUseCase;
+import co.edu.javeriana.as.personapp.benchmarks.support.Fixtures;
+import co.edu.javeriana.as.personapp.benchmarks.support.SlowPersonOutputPort;
+import co.edu.javeriana.as.personapp.config.VirtualThreads;
+import co.edu.javeriana.as.personapp.domain.Person;
+
+/**
+ * Load comparison of the two REST execution modes: one operation is a burst
+ * of {@code concurrency} simultaneous requests, each a person lookup that
+ * blocks for {@code latencyMillis} in the output port, and the score is the
+ * time until the whole burst has been answered. "platform" is a fixed pool
+ * the size of Tomcat's default max-threads (200); "virtual" is the executor
+ * used with personapp.server.virtual-threads=true and needs a Java 21 JVM
+ * (on older JVMs run with {@code -p executor=platform}).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestExecutorBenchmark {
+
+	private static final int TOMCAT_MAX_THREADS = 200;
+	private static final int PERSONS = 1000;
+
+	@Param({ "platform", "virtual" })
+	public String executor;
+
+	@Param({ "1000", "5000" })
+	public int concurrency;
+
+	@Param({ "20" })
+	public long latencyMillis;
+
+	private PersonInputPort personInputPort;
+	private ExecutorService executorService;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		SlowPersonOutputPort personOutputPort = new SlowPersonOutputPort(latencyMillis);
+		for (int cc = 1; cc <= PERSONS; cc++) {
+			personOutputPort.save(Fixtures.person(cc));
+		}
+		personInputPort = new PersonUseCase(personOutputPort);
+		executorService = "virtual".equals(executor) ? VirtualThreads.newVirtualThreadPerTaskExecutor()
+				: Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		executorService.shutdownNow();
+	}
+
+	@Benchmark
+	public int burstOfBlockingRequests() throws InterruptedException, ExecutionException {
+		List<Future<Person>> responses = new ArrayList<>(concurrency);
+		for (int i = 0; i < concurrency; i++) {
+			long cc = i % PERSONS + 1;
+			responses.add(executorService.submit(() -> personInputPort.findOne(cc)));
+		}
+		int answered = 0;
+		for (Future<Person> response : responses) {
+			if (response.get() != null) {
+				answered++;
+			}
+		}
+		return answered;
+	}
+}
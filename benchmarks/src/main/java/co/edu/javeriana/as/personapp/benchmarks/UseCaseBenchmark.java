@@ -0,0 +1,150 @@
+package co.edu.javeriana.as.personapp.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import co.edu.javeriana.as.personapp.application.port.in.PersonInputPort;
+import co.edu.javeriana.as.personapp.application.port.in.PhoneInputPort;
+import co.edu.javeriana.as.personapp.application.port.in.ProfessionInputPort;
+import co.edu.javeriana.as.personapp.application.port.in.StudyInputPort;
+import co.edu.javeriana.as.personapp.application.usecase.PersonUseCase;
+import co.edu.javeriana.as.personapp.application.usecase.PhoneUseCase;
+import co.edu.javeriana.as.personapp.application.usecase.ProfessionUseCase;
+import co.edu.javeriana.as.personapp.application.usecase.StudyUseCase;
+import co.edu.javeriana.as.personapp.benchmarks.support.Fixtures;
+import co.edu.javeriana.as.personapp.benchmarks.support.InMemoryPersonOutputPort;
+import co.edu.javeriana.as.personapp.benchmarks.support.InMemoryPhoneOutputPort;
+import co.edu.javeriana.as.personapp.benchmarks.support.InMemoryProfessionOutputPort;
+import co.edu.javeriana.as.personapp.benchmarks.support.InMemoryStudyOutputPort;
+import co.edu.javeriana.as.personapp.common.exceptions.NoExistException;
+import co.edu.javeriana.as.personapp.domain.Person;
+import co.edu.javeriana.as.personapp.domain.Phone;
+import co.edu.javeriana.as.personapp.domain.Profession;
+import co.edu.javeriana.as.personapp.domain.Study;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UseCaseBenchmark {
+
+	private static final int PROFESSIONS = 10;
+
+	@Param({ "1000" })
+	public int persons;
+
+	private PersonInputPort personInputPort;
+	private PhoneInputPort phoneInputPort;
+	private ProfessionInputPort professionInputPort;
+	private StudyInputPort studyInputPort;
+
+	private long middleCc;
+	private String middlePhone;
+	private Person editedPerson;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		InMemoryPersonOutputPort personOutputPort = new InMemoryPersonOutputPort();
+		InMemoryPhoneOutputPort phoneOutputPort = new InMemoryPhoneOutputPort();
+		InMemoryProfessionOutputPort professionOutputPort = new InMemoryProfessionOutputPort();
+		InMemoryStudyOutputPort studyOutputPort = new InMemoryStudyOutputPort();
+
+		for (int id = 0; id < PROFESSIONS; id++) {
+			professionOutputPort.save(Fixtures.profession(id));
+		}
+		for (int cc = 1; cc <= persons; cc++) {
+			Person person = Fixtures.person(cc);
+			personOutputPort.save(person);
+			for (Phone phone : person.getPhoneNumbers()) {
+				phoneOutputPort.save(phone);
+			}
+			for (Study study : person.getStudies()) {
+				studyOutputPort.save(study);
+			}
+		}
+
+		personInputPort = new PersonUseCase(personOutputPort);
+		phoneInputPort = new PhoneUseCase(phoneOutputPort);
+		professionInputPort = new ProfessionUseCase(professionOutputPort);
+		studyInputPort = new StudyUseCase(studyOutputPort);
+
+		middleCc = persons / 2;
+		middlePhone = Fixtures.phoneNumber((int) middleCc, 0);
+		editedPerson = Fixtures.person((int) middleCc);
+	}
+
+	@Benchmark
+	public List<Person> personFindAll() {
+		return personInputPort.findAll();
+	}
+
+	@Benchmark
+	public List<Person> personFindPage() {
+		return personInputPort.findPage((int) middleCc, PersonUseCase.DEFAULT_PAGE_SIZE);
+	}
+
+	@Benchmark
+	public Person personFindOne() throws NoExistException {
+		return personInputPort.findOne(middleCc);
+	}
+
+	@Benchmark
+	public Person personEdit() throws NoExistException {
+		return personInputPort.edit(middleCc, editedPerson);
+	}
+
+	@Benchmark
+	public Integer personCount() {
+		return personInputPort.count();
+	}
+
+	@Benchmark
+	public List<Phone> phoneFindAll() {
+		return phoneInputPort.findAll();
+	}
+
+	@Benchmark
+	public Phone phoneFindOne() throws NoExistException {
+		return phoneInputPort.findOne(middlePhone);
+	}
+
+	@Benchmark
+	public List<Phone> phonesOfPerson() throws NoExistException {
+		return phoneInputPort.getPhonesOfPerson((int) middleCc);
+	}
+
+	@Benchmark
+	public List<Profession> professionFindAll() {
+		return professionInputPort.findAll();
+	}
+
+	@Benchmark
+	public Profession professionFindOne() throws NoExistException {
+		return professionInputPort.findOne(PROFESSIONS / 2);
+	}
+
+	@Benchmark
+	public List<Study> studyFindAll() {
+		return studyInputPort.findAll();
+	}
+
+	@Benchmark
+	public Study studyFindOne() throws NoExistException {
+		return studyInputPort.findOne((int) middleCc, 1);
+	}
+}
@@ -0,0 +1,87 @@
+package co.edu.javeriana.as.personapp.benchmarks.support;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import co.edu.javeriana.as.personapp.domain.Gender;
+import co.edu.javeriana.as.personapp.domain.Person;
+import co.edu.javeriana.as.personapp.domain.Phone;
+import co.edu.javeriana.as.personapp.domain.Profession;
+import co.edu.javeriana.as.personapp.domain.Study;
+import co.edu.javeriana.as.personapp.mariadb.entity.EstudiosEntity;
+import co.edu.javeriana.as.personapp.mariadb.entity.EstudiosEntityPK;
+import co.edu.javeriana.as.personapp.mariadb.entity.PersonaEntity;
+import co.edu.javeriana.as.personapp.mariadb.entity.ProfesionEntity;
+import co.edu.javeriana.as.personapp.mariadb.entity.TelefonoEntity;
+import co.edu.javeriana.as.personapp.model.request.PersonaRequest;
+import co.edu.javeriana.as.personapp.mongo.document.PersonaDocument;
+
+/**
+ * Deterministic sample data shared by every benchmark.
+ */
+public final class Fixtures {
+
+	public static final int PHONES_PER_PERSON = 3;
+	public static final int STUDIES_PER_PERSON = 2;
+
+	private Fixtures() {
+	}
+
+	public static Person person(int cc) {
+		List<Phone> phones = new ArrayList<>(PHONES_PER_PERSON);
+		for (int i = 0; i < PHONES_PER_PERSON; i++) {
+			phones.add(new Phone(phoneNumber(cc, i), "Operador" + i, cc));
+		}
+		List<Study> studies = new ArrayList<>(STUDIES_PER_PERSON);
+		for (int i = 0; i < STUDIES_PER_PERSON; i++) {
+			studies.add(new Study(cc, i, LocalDate.of(2010 + i, 6, 30), "Universidad" + i));
+		}
+		return new Person(cc, "Nombre" + cc, "Apellido" + cc, cc % 2 == 0 ? Gender.FEMALE : Gender.MALE, 20 + cc % 50,
+				phones, studies);
+	}
+
+	public static Profession profession(int id) {
+		return new Profession(id, "Profesion" + id, "Descripcion de la profesion " + id);
+	}
+
+	public static String phoneNumber(int cc, int index) {
+		return "300" + cc + index;
+	}
+
+	public static PersonaEntity personaEntity(int cc) {
+		PersonaEntity personaEntity = new PersonaEntity(cc, "Nombre" + cc, "Apellido" + cc, cc % 2 == 0 ? 'F' : 'M');
+		personaEntity.setEdad(20 + cc % 50);
+		List<TelefonoEntity> telefonos = new ArrayList<>(PHONES_PER_PERSON);
+		for (int i = 0; i < PHONES_PER_PERSON; i++) {
+			telefonos.add(new TelefonoEntity(phoneNumber(cc, i), "Operador" + i, personaEntity));
+		}
+		personaEntity.setTelefonos(telefonos);
+		List<EstudiosEntity> estudios = new ArrayList<>(STUDIES_PER_PERSON);
+		for (int i = 0; i < STUDIES_PER_PERSON; i++) {
+			estudios.add(estudiosEntity(personaEntity, i));
+		}
+		personaEntity.setEstudios(estudios);
+		return personaEntity;
+	}
+
+	public static EstudiosEntity estudiosEntity(PersonaEntity personaEntity, int professionId) {
+		EstudiosEntity estudiosEntity = new EstudiosEntity(new EstudiosEntityPK(professionId, personaEntity.getCc()));
+		estudiosEntity.setFecha(new Date(1277856000000L));
+		estudiosEntity.setUniver("Universidad" + professionId);
+		estudiosEntity.setPersona(personaEntity);
+		estudiosEntity.setProfesion(new ProfesionEntity(professionId, "Profesion" + professionId,
+				"Descripcion de la profesion " + professionId));
+		return estudiosEntity;
+	}
+
+	public static PersonaDocument personaDocument(int cc) {
+		return new PersonaDocument(cc, "Nombre" + cc, "Apellido" + cc, cc % 2 == 0 ? "F" : "M", 20 + cc % 50);
+	}
+
+	public static PersonaRequest personaRequest(int cc) {
+		return new PersonaRequest(String.valueOf(cc), "Nombre" + cc, "Apellido" + cc, String.valueOf(20 + cc % 50),
+				cc % 2 == 0 ? "F" : "M", "MARIA");
+	}
+}
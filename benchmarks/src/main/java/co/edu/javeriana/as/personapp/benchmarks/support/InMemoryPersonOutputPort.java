@@ -0,0 +1,109 @@
+package co.edu.javeriana.as.personapp.benchmarks.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import co.edu.javeriana.as.personapp.application.port.out.BatchItemResult;
+import co.edu.javeriana.as.personapp.application.port.out.PersonOutputPort;
+import co.edu.javeriana.as.personapp.domain.Person;
+import co.edu.javeriana.as.personapp.domain.PersonSummary;
+
+/**
+ * Map backed stand-in so the use case benchmarks measure application code, not I/O.
+ */
+public class InMemoryPersonOutputPort implements PersonOutputPort {
+
+	private final NavigableMap<Integer, Person> persons = new TreeMap<>();
+
+	@Override
+	public Person save(Person person) {
+		persons.put(person.getIdentification(), person);
+		return person;
+	}
+
+	@Override
+	public List<BatchItemResult<Person>> saveAll(Collection<Person> persons) {
+		List<BatchItemResult<Person>> results = new ArrayList<>(persons.size());
+		for (Person person : persons) {
+			results.add(BatchItemResult.saved(save(person)));
+		}
+		return results;
+	}
+
+	@Override
+	public Boolean delete(Long cc) {
+		return persons.remove(cc.intValue()) != null;
+	}
+
+	@Override
+	public List<Person> findAll() {
+		return new ArrayList<>(persons.values());
+	}
+
+	@Override
+	public List<Person> findPage(Integer after, Integer limit) {
+		NavigableMap<Integer, Person> tail = after == null ? persons : persons.tailMap(after, false);
+		List<Person> page = new ArrayList<>(Math.min(limit, tail.size()));
+		for (Person person : tail.values()) {
+			if (page.size() == limit) {
+				break;
+			}
+			page.add(person);
+		}
+		return page;
+	}
+
+	@Override
+	public Person findById(Long cc) {
+		return persons.get(cc.intValue());
+	}
+
+	@Override
+	public List<PersonSummary> findAllSummaries() {
+		List<PersonSummary> summaries = new ArrayList<>(persons.size());
+		for (Person person : persons.values()) {
+			summaries.add(summaryOf(person));
+		}
+		return summaries;
+	}
+
+	@Override
+	public List<PersonSummary> findSummaryPage(Integer after, Integer limit) {
+		List<PersonSummary> summaries = new ArrayList<>();
+		for (Person person : findPage(after, limit)) {
+			summaries.add(summaryOf(person));
+		}
+		return summaries;
+	}
+
+	@Override
+	public List<PersonSummary> findSummariesById(Collection<Long> ccs) {
+		List<PersonSummary> summaries = new ArrayList<>(ccs.size());
+		for (Long cc : ccs) {
+			Person person = persons.get(cc.intValue());
+			if (person != null) {
+				summaries.add(summaryOf(person));
+			}
+		}
+		return summaries;
+	}
+
+	private static PersonSummary summaryOf(Person person) {
+		return new PersonSummary(person.getIdentification(), person.getFirstName(), person.getLastName(),
+				person.getGender(), person.getAge());
+	}
+
+	@Override
+	public Stream<Person> streamAll() {
+		return persons.values().stream();
+	}
+
+	@Override
+	public Long count() {
+		return (long) persons.size();
+	}
+}
@@ -0,0 +1,73 @@
+package co.edu.javeriana.as.personapp.benchmarks.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import co.edu.javeriana.as.personapp.application.port.out.BatchItemResult;
+import co.edu.javeriana.as.personapp.application.port.out.PhoneOutputPort;
+import co.edu.javeriana.as.personapp.domain.Phone;
+
+public class InMemoryPhoneOutputPort implements PhoneOutputPort {
+
+	private final Map<String, Phone> phones = new HashMap<>();
+
+	@Override
+	public Phone save(Phone phone) {
+		phones.put(phone.getNumber(), phone);
+		return phone;
+	}
+
+	@Override
+	public List<BatchItemResult<Phone>> saveAll(Collection<Phone> phones) {
+		List<BatchItemResult<Phone>> results = new ArrayList<>(phones.size());
+		for (Phone phone : phones) {
+			results.add(BatchItemResult.saved(save(phone)));
+		}
+		return results;
+	}
+
+	@Override
+	public Boolean delete(String number) {
+		return phones.remove(number) != null;
+	}
+
+	@Override
+	public List<Phone> find() {
+		return new ArrayList<>(phones.values());
+	}
+
+	@Override
+	public List<Phone> findPage(String after, Integer limit) {
+		return phones.values().stream()
+				.filter(phone -> after == null || phone.getNumber().compareTo(after) > 0)
+				.sorted(Comparator.comparing(Phone::getNumber))
+				.limit(limit)
+				.collect(Collectors.toList());
+	}
+
+	@Override
+	public Phone findById(String number) {
+		return phones.get(number);
+	}
+
+	@Override
+	public List<Phone> findByPersonId(Integer personId) {
+		List<Phone> owned = new ArrayList<>();
+		for (Phone phone : phones.values()) {
+			if (phone.getOwnerId() == personId) {
+				owned.add(phone);
+			}
+		}
+		return owned;
+	}
+
+	@Override
+	public Long count() {
+		return (long) phones.size();
+	}
+}
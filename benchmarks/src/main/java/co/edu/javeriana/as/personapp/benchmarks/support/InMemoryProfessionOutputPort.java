@@ -0,0 +1,62 @@
+package co.edu.javeriana.as.personapp.benchmarks.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import co.edu.javeriana.as.personapp.application.port.out.BatchItemResult;
+import co.edu.javeriana.as.personapp.application.port.out.ProfessionOutputPort;
+import co.edu.javeriana.as.personapp.domain.Profession;
+
+public class InMemoryProfessionOutputPort implements ProfessionOutputPort {
+
+	private final Map<Integer, Profession> professions = new HashMap<>();
+
+	@Override
+	public Profession save(Profession profession) {
+		professions.put(profession.getIdentification(), profession);
+		return profession;
+	}
+
+	@Override
+	public List<BatchItemResult<Profession>> saveAll(Collection<Profession> professions) {
+		List<BatchItemResult<Profession>> results = new ArrayList<>(professions.size());
+		for (Profession profession : professions) {
+			results.add(BatchItemResult.saved(save(profession)));
+		}
+		return results;
+	}
+
+	@Override
+	public Boolean delete(Integer identification) {
+		return professions.remove(identification) != null;
+	}
+
+	@Override
+	public List<Profession> findAll() {
+		return new ArrayList<>(professions.values());
+	}
+
+	@Override
+	public List<Profession> findPage(Integer after, Integer limit) {
+		return professions.values().stream()
+				.filter(profession -> after == null || profession.getIdentification() > after)
+				.sorted(Comparator.comparing(Profession::getIdentification))
+				.limit(limit)
+				.collect(Collectors.toList());
+	}
+
+	@Override
+	public Profession findById(Integer identification) {
+		return professions.get(identification);
+	}
+
+	@Override
+	public Long count() {
+		return (long) professions.size();
+	}
+}
@@ -0,0 +1,81 @@
+package co.edu.javeriana.as.personapp.benchmarks.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import co.edu.javeriana.as.personapp.application.port.out.BatchItemResult;
+import co.edu.javeriana.as.personapp.application.port.out.StudyOutputPort;
+import co.edu.javeriana.as.personapp.domain.Study;
+
+public class InMemoryStudyOutputPort implements StudyOutputPort {
+
+	private final Map<String, Study> studies = new HashMap<>();
+
+	private static String key(Integer personId, Integer professionId) {
+		return personId + "_" + professionId;
+	}
+
+	@Override
+	public Study save(Study study) {
+		studies.put(key(study.getPersonId(), study.getProfessionId()), study);
+		return study;
+	}
+
+	@Override
+	public List<BatchItemResult<Study>> saveAll(Collection<Study> studies) {
+		List<BatchItemResult<Study>> results = new ArrayList<>(studies.size());
+		for (Study study : studies) {
+			results.add(BatchItemResult.saved(save(study)));
+		}
+		return results;
+	}
+
+	@Override
+	public Boolean delete(Integer personId, Integer professionId) {
+		return studies.remove(key(personId, professionId)) != null;
+	}
+
+	@Override
+	public List<Study> find() {
+		return new ArrayList<>(studies.values());
+	}
+
+	@Override
+	public List<Study> findPage(Integer afterProfessionId, Integer afterPersonId, Integer limit) {
+		return studies.values().stream()
+				.filter(study -> afterProfessionId == null
+						|| study.getProfessionId() > afterProfessionId
+						|| (study.getProfessionId() == afterProfessionId && study.getPersonId() > afterPersonId))
+				.sorted(Comparator.comparingInt(Study::getProfessionId).thenComparingInt(Study::getPersonId))
+				.limit(limit)
+				.collect(Collectors.toList());
+	}
+
+	@Override
+	public List<Study> findByPersonId(Integer personId) {
+		return studies.values().stream().filter(study -> study.getPersonId() == personId)
+				.collect(Collectors.toList());
+	}
+
+	@Override
+	public List<Study> findByProfessionId(Integer professionId) {
+		return studies.values().stream()
+				.filter(study -> study.getProfessionId() == professionId)
+				.collect(Collectors.toList());
+	}
+
+	@Override
+	public Study findById(Integer personId, Integer professionId) {
+		return studies.get(key(personId, professionId));
+	}
+
+	@Override
+	public Long count() {
+		return (long) studies.size();
+	}
+}
@@ -0,0 +1,26 @@
+package co.edu.javeriana.as.personapp.benchmarks.support;
+
+import co.edu.javeriana.as.personapp.domain.Person;
+
+/**
+ * Stand-in for a remote store: every lookup blocks its thread for a fixed
+ * latency, the way a JDBC or Mongo driver call waits on the network.
+ */
+public class SlowPersonOutputPort extends InMemoryPersonOutputPort {
+
+	private final long latencyMillis;
+
+	public SlowPersonOutputPort(long latencyMillis) {
+		this.latencyMillis = latencyMillis;
+	}
+
+	@Override
+	public Person findById(Long cc) {
+		try {
+			Thread.sleep(latencyMillis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return super.findById(cc);
+	}
+}
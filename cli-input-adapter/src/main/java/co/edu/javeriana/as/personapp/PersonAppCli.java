@@ -1,10 +1,13 @@
 package co.edu.javeriana.as.personapp;
 
+import java.util.Arrays;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
+import co.edu.javeriana.as.personapp.terminal.adapter.MigrationInputAdapterCli;
 import co.edu.javeriana.as.personapp.terminal.menu.MenuPrincipal;
 import lombok.extern.slf4j.Slf4j;
 
@@ -15,6 +18,9 @@ public class PersonAppCli implements CommandLineRunner {
 	@Autowired
 	private MenuPrincipal menuPrincipal;
 
+	@Autowired
+	private MigrationInputAdapterCli migrationInputAdapterCli;
+
 	public static void main(String[] args) {
 		log.info("Starting PersonAppCli ...");
 		SpringApplication.run(PersonAppCli.class, args);
@@ -24,7 +30,15 @@ public class PersonAppCli implements CommandLineRunner {
 	@Override
 	public void run(String... args) throws Exception {
 		log.info("EXECUTING : command line runner");
-		menuPrincipal.inicio();
+		if (args.length > 0 && args[0].equals("migrate")) {
+			// Batch mode: no menu, the exit code tells scripts whether the copy finished
+			boolean complete = migrationInputAdapterCli.migrar(Arrays.copyOfRange(args, 1, args.length));
+			if (!complete) {
+				System.exit(1);
+			}
+		} else {
+			menuPrincipal.inicio();
+		}
 		log.info("FINISHED : command line runner");
 	}
 
@@ -0,0 +1,188 @@
+package co.edu.javeriana.as.personapp.terminal.adapter;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+
+import co.edu.javeriana.as.personapp.application.port.out.PersonOutputPort;
+import co.edu.javeriana.as.personapp.application.port.out.PhoneOutputPort;
+import co.edu.javeriana.as.personapp.application.port.out.ProfessionOutputPort;
+import co.edu.javeriana.as.personapp.application.port.out.StudyOutputPort;
+import co.edu.javeriana.as.personapp.common.annotations.Adapter;
+import co.edu.javeriana.as.personapp.common.exceptions.InvalidOptionException;
+import co.edu.javeriana.as.personapp.common.setup.DatabaseOption;
+import co.edu.javeriana.as.personapp.domain.Person;
+import co.edu.javeriana.as.personapp.domain.PersonSummary;
+import co.edu.javeriana.as.personapp.domain.Phone;
+import co.edu.javeriana.as.personapp.domain.Profession;
+import co.edu.javeriana.as.personapp.domain.Study;
+import co.edu.javeriana.as.personapp.terminal.migration.BulkMigration;
+import co.edu.javeriana.as.personapp.terminal.migration.MigrationCheckpoint;
+import co.edu.javeriana.as.personapp.terminal.migration.TableCopy;
+import co.edu.javeriana.as.personapp.terminal.migration.TableCopyResult;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@code migrate --from=MARIA --to=MONGO [--batch-size=N] [--workers=N] [--checkpoint=FILE]}
+ * copies every persona, profesion, telefono and estudio between the backends.
+ * Running it again with the same checkpoint resumes an interrupted copy.
+ */
+@Slf4j
+@Adapter
+public class MigrationInputAdapterCli {
+
+    static final String USAGE = "Usage: migrate --from=MARIA|MONGO --to=MARIA|MONGO [--batch-size=N] [--workers=N]"
+            + " [--checkpoint=FILE]";
+
+    static final int DEFAULT_BATCH_SIZE = 1000;
+    static final int DEFAULT_WORKERS = 4;
+    static final String DEFAULT_CHECKPOINT = "migration.checkpoint";
+    static final int MAX_ATTEMPTS = 3;
+
+    @Autowired
+    @Qualifier("personOutputAdapterMaria")
+    private PersonOutputPort personOutputPortMaria;
+
+    @Autowired
+    @Qualifier("personOutputAdapterMongo")
+    private PersonOutputPort personOutputPortMongo;
+
+    @Autowired
+    @Qualifier("professionOutputAdapterMaria")
+    private ProfessionOutputPort professionOutputPortMaria;
+
+    @Autowired
+    @Qualifier("professionOutputAdapterMongo")
+    private ProfessionOutputPort professionOutputPortMongo;
+
+    @Autowired
+    @Qualifier("phoneOutputAdapterMaria")
+    private PhoneOutputPort phoneOutputPortMaria;
+
+    @Autowired
+    @Qualifier("phoneOutputAdapterMongo")
+    private PhoneOutputPort phoneOutputPortMongo;
+
+    @Autowired
+    @Qualifier("studyOutputAdapterMaria")
+    private StudyOutputPort studyOutputPortMaria;
+
+    @Autowired
+    @Qualifier("studyOutputAdapterMongo")
+    private StudyOutputPort studyOutputPortMongo;
+
+    Duration retryDelay = Duration.ofSeconds(1);
+    Duration reportInterval = Duration.ofSeconds(5);
+
+    /**
+     * @return true if every table was copied
+     */
+    public boolean migrar(String... options) {
+        DatabaseOption from = null;
+        DatabaseOption to = null;
+        int batchSize = DEFAULT_BATCH_SIZE;
+        int workers = DEFAULT_WORKERS;
+        Path checkpointFile = Paths.get(DEFAULT_CHECKPOINT);
+        try {
+            for (String option : options) {
+                String value = option.substring(option.indexOf('=') + 1);
+                if (option.startsWith("--from=")) {
+                    from = DatabaseOption.of(value);
+                } else if (option.startsWith("--to=")) {
+                    to = DatabaseOption.of(value);
+                } else if (option.startsWith("--batch-size=")) {
+                    batchSize = positive(value, "batch size");
+                } else if (option.startsWith("--workers=")) {
+                    workers = positive(value, "workers");
+                } else if (option.startsWith("--checkpoint=")) {
+                    checkpointFile = Paths.get(value);
+                } else {
+                    throw new InvalidOptionException("Unknown option: " + option);
+                }
+            }
+            if (!isMigratable(from) || !isMigratable(to) || from == to) {
+                throw new InvalidOptionException("--from and --to must be MARIA and MONGO, in either order");
+            }
+        } catch (InvalidOptionException e) {
+            System.out.println(e.getMessage());
+            System.out.println(USAGE);
+            return false;
+        }
+
+        log.info("Migrating {} -> {} with batches of {} and {} workers per table", from, to, batchSize, workers);
+        System.out.println("Migrating " + from + " -> " + to + ", checkpoint " + checkpointFile.toAbsolutePath());
+        try {
+            MigrationCheckpoint checkpoint = MigrationCheckpoint.open(checkpointFile, from, to);
+            BulkMigration migration = new BulkMigration(checkpoint, batchSize, workers, MAX_ATTEMPTS, retryDelay,
+                    reportInterval, System.out);
+            List<TableCopyResult> results = migration.run(phases(from == DatabaseOption.MARIA));
+            boolean complete = results.stream().allMatch(TableCopyResult::isComplete);
+            if (complete) {
+                System.out.println("Migration finished.");
+            }
+            return complete;
+        } catch (RuntimeException e) {
+            log.error("Migration {} -> {} failed", from, to, e);
+            System.out.println("Migration failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    // Persons and professions first: phones and studies reference them through foreign keys in MariaDB
+    private List<List<TableCopy<?>>> phases(boolean fromMaria) {
+        PersonOutputPort personSource = fromMaria ? personOutputPortMaria : personOutputPortMongo;
+        PersonOutputPort personTarget = fromMaria ? personOutputPortMongo : personOutputPortMaria;
+        ProfessionOutputPort professionSource = fromMaria ? professionOutputPortMaria : professionOutputPortMongo;
+        ProfessionOutputPort professionTarget = fromMaria ? professionOutputPortMongo : professionOutputPortMaria;
+        PhoneOutputPort phoneSource = fromMaria ? phoneOutputPortMaria : phoneOutputPortMongo;
+        PhoneOutputPort phoneTarget = fromMaria ? phoneOutputPortMongo : phoneOutputPortMaria;
+        StudyOutputPort studySource = fromMaria ? studyOutputPortMaria : studyOutputPortMongo;
+        StudyOutputPort studyTarget = fromMaria ? studyOutputPortMongo : studyOutputPortMaria;
+
+        TableCopy<Person> personas = new TableCopy<>("personas",
+                (after, limit) -> personSource.findSummaryPage(after != null ? Integer.valueOf(after) : null, limit)
+                        .stream().map(MigrationInputAdapterCli::toPerson).collect(Collectors.toList()),
+                person -> String.valueOf(person.getIdentification()), personTarget::saveAll);
+        TableCopy<Profession> profesiones = new TableCopy<>("profesiones",
+                (after, limit) -> professionSource.findPage(after != null ? Integer.valueOf(after) : null, limit),
+                profession -> String.valueOf(profession.getIdentification()), professionTarget::saveAll);
+        TableCopy<Phone> telefonos = new TableCopy<>("telefonos", phoneSource::findPage, Phone::getNumber,
+                phoneTarget::saveAll);
+        TableCopy<Study> estudios = new TableCopy<>("estudios", (after, limit) -> {
+            if (after == null) {
+                return studySource.findPage(null, null, limit);
+            }
+            String[] key = after.split(":");
+            return studySource.findPage(Integer.valueOf(key[0]), Integer.valueOf(key[1]), limit);
+        }, study -> study.getProfessionId() + ":" + study.getPersonId(),
+                studyTarget::saveAll);
+        return List.of(List.of(personas, profesiones), List.of(telefonos, estudios));
+    }
+
+    private static boolean isMigratable(DatabaseOption option) {
+        return option == DatabaseOption.MARIA || option == DatabaseOption.MONGO;
+    }
+
+    private static int positive(String value, String name) throws InvalidOptionException {
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed > 0) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw new InvalidOptionException("Invalid " + name + ": " + value);
+    }
+
+    // Phones and studies are copied as tables of their own, so persons are read without them
+    private static Person toPerson(PersonSummary summary) {
+        return new Person(summary.getIdentification(), summary.getFirstName(), summary.getLastName(),
+                summary.getGender(), summary.getAge(), null, null);
+    }
+}
@@ -164,13 +164,13 @@ public class PersonaInputAdapterCli {
 			String edadStr = keyboard.nextLine();
 			int edad;
 			if (edadStr.isEmpty() || edadStr.equals("-1")) {
-				edad = personToEdit.getAge() != null ? personToEdit.getAge() : 0; // Default if null
+				edad = personToEdit.isValidAge() ? personToEdit.getAge() : 0; // Default if unknown
 			} else {
 				try {
 					edad = Integer.parseInt(edadStr);
 				} catch (NumberFormatException e) {
 					System.out.println("Edad inválida. Se mantendrá la edad actual.");
-					edad = personToEdit.getAge() != null ? personToEdit.getAge() : 0;
+					edad = personToEdit.isValidAge() ? personToEdit.getAge() : 0;
 				}
 			}
 
@@ -97,7 +97,7 @@ public class StudyInputAdapterCli {
                 }
             }
 
-            Study newStudy = new Study(person, profession, graduationDate, universityName);
+            Study newStudy = new Study(personId, professionId, graduationDate, universityName);
             Study createdStudy = studyInputPort.create(newStudy);
             if (createdStudy != null) {
                  System.out.println("Study created successfully.");
@@ -211,8 +211,8 @@ public class StudyInputAdapterCli {
 
             // Create a new Study object with the original person and profession, but updated fields
             Study updatedStudy = new Study(
-                existingStudy.getPerson(), 
-                existingStudy.getProfession(), 
+                existingStudy.getPersonId(), 
+                existingStudy.getProfessionId(), 
                 finalGraduationDate, 
                 finalUniversityName
             );
@@ -72,7 +72,7 @@ public class TelefonoInputAdapterCli {
                 return;
             }
 
-            Phone phone = new Phone(number, company, owner);
+            Phone phone = new Phone(number, company, owner.getIdentification());
             phoneInputPort.create(phone);
             System.out.println("Phone created successfully.");
 
@@ -120,19 +120,19 @@ public class TelefonoInputAdapterCli {
                 company = existingPhone.getCompany();
             }
 
-            System.out.println("Enter new Owner's ID (CC) (leave blank to keep current: '" + existingPhone.getOwner().getIdentification() + "'):");
+            System.out.println("Enter new Owner's ID (CC) (leave blank to keep current: '" + existingPhone.getOwnerId() + "'):");
             String ownerIdStr = scanner.nextLine();
-            Person owner = existingPhone.getOwner();
+            int ownerId = existingPhone.getOwnerId();
             if (!ownerIdStr.trim().isEmpty()) {
-                Integer ownerId = Integer.parseInt(ownerIdStr);
-                owner = personInputPort.findOne(ownerId.longValue());
+                ownerId = Integer.parseInt(ownerIdStr);
+                Person owner = personInputPort.findOne((long) ownerId);
                  if (owner == null) {
                     System.out.println("Error: New Owner with ID " + ownerId + " does not exist.");
                     return;
                 }
             }
             
-            Phone updatedPhone = new Phone(number, company, owner);
+            Phone updatedPhone = new Phone(number, company, ownerId);
             phoneInputPort.edit(number, updatedPhone);
             System.out.println("Phone edited successfully.");
 
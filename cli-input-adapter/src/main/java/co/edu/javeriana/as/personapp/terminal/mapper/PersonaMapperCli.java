@@ -14,29 +14,27 @@ public class PersonaMapperCli {
 		personaModelCli.setNombre(person.getFirstName());
 		personaModelCli.setApellido(person.getLastName());
 		personaModelCli.setGenero(person.getGender().toString());
-		personaModelCli.setEdad(person.getAge());
+		personaModelCli.setEdad(person.isValidAge() ? person.getAge() : null);
 		return personaModelCli;
 	}
 
 	public Person fromAdapterToDomain(PersonaModelCli personaModelCli) {
-		Person person = new Person();
-		person.setIdentification(personaModelCli.getCc());
-		person.setFirstName(personaModelCli.getNombre());
-		person.setLastName(personaModelCli.getApellido());
-		person.setAge(personaModelCli.getEdad());
 		// Gender conversion
 		String genderStr = personaModelCli.getGenero();
+		Gender gender;
 		if (genderStr != null) {
 			if (genderStr.equalsIgnoreCase("MALE") || genderStr.equalsIgnoreCase("MASCULINO")) {
-				person.setGender(Gender.MALE);
+				gender = Gender.MALE;
 			} else if (genderStr.equalsIgnoreCase("FEMALE") || genderStr.equalsIgnoreCase("FEMENINO")) {
-				person.setGender(Gender.FEMALE);
+				gender = Gender.FEMALE;
 			} else {
-				person.setGender(Gender.OTHER);
+				gender = Gender.OTHER;
 			}
 		} else {
-			person.setGender(Gender.OTHER); // Default or handle as an error
+			gender = Gender.OTHER; // Default or handle as an error
 		}
-		return person;
+		Integer edad = personaModelCli.getEdad();
+		return new Person(personaModelCli.getCc(), personaModelCli.getNombre(), personaModelCli.getApellido(), gender,
+				edad != null ? edad : Person.UNKNOWN_AGE, null, null);
 	}
 }
@@ -22,13 +22,8 @@ public class ProfesionMapperCli {
         if (profesionModelCli == null) {
             return null;
         }
-        Profession profession = new Profession();
-        profession.setIdentification(profesionModelCli.getIdentification());
-        profession.setName(profesionModelCli.getName());
-        profession.setDescription(profesionModelCli.getDescription());
-        // Note: studies and person fields in Profession domain object are not set here,
-        // as they are typically handled by the use case or persistence layer
-        // when establishing relationships. This mapper focuses on direct field mapping.
-        return profession;
+        // Studies refer to the profession by id, so a profession carries only its own fields
+        return new Profession(profesionModelCli.getIdentification(), profesionModelCli.getName(),
+                profesionModelCli.getDescription());
     }
 }
@@ -5,8 +5,6 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 
 import co.edu.javeriana.as.personapp.common.annotations.Mapper;
-import co.edu.javeriana.as.personapp.domain.Person;
-import co.edu.javeriana.as.personapp.domain.Profession;
 import co.edu.javeriana.as.personapp.domain.Study;
 import co.edu.javeriana.as.personapp.terminal.model.StudyModelCli;
 import lombok.extern.slf4j.Slf4j;
@@ -19,20 +17,14 @@ public class StudyMapperCli {
 
     public StudyModelCli fromDomainToAdapterCli(Study study) {
         StudyModelCli studyModelCli = new StudyModelCli();
-        studyModelCli.setPersonId(study.getPerson().getIdentification());
-        studyModelCli.setProfessionId(study.getProfession().getIdentification());
+        studyModelCli.setPersonId(study.getPersonId());
+        studyModelCli.setProfessionId(study.getProfessionId());
         studyModelCli.setGraduationDate(study.getGraduationDate() != null ? study.getGraduationDate().format(DATE_FORMATTER) : null);
         studyModelCli.setUniversityName(study.getUniversityName());
         return studyModelCli;
     }
 
     public Study fromAdapterCliToDomain(StudyModelCli studyModelCli) {
-        Person person = new Person();
-        person.setIdentification(studyModelCli.getPersonId());
-
-        Profession profession = new Profession();
-        profession.setIdentification(studyModelCli.getProfessionId());
-
         LocalDate graduationDate = null;
         if (studyModelCli.getGraduationDate() != null && !studyModelCli.getGraduationDate().trim().isEmpty()) {
             try {
@@ -44,8 +36,8 @@ public class StudyMapperCli {
         }
 
         return new Study(
-                person,
-                profession,
+                studyModelCli.getPersonId(),
+                studyModelCli.getProfessionId(),
                 graduationDate,
                 studyModelCli.getUniversityName()
         );
@@ -0,0 +1,260 @@
+package co.edu.javeriana.as.personapp.terminal.migration;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import co.edu.javeriana.as.personapp.application.port.out.BatchItemResult;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Copies tables from one backend to another while the source stays online.
+ *
+ * Each table is read sequentially in keyset order, one page per batch, and
+ * its batches are written by a pool of workers of its own with the target's
+ * bulk upsert. The checkpoint only moves past a batch once that batch and
+ * every batch before it are written, so after a crash the copy resumes at the
+ * first batch that may be missing; batches written twice are harmless because
+ * every write is an upsert.
+ *
+ * Tables of one phase are copied concurrently and phases run in order, so
+ * rows referenced by foreign keys exist before the rows referencing them. A
+ * table whose batch still fails after the retries stops, and later phases are
+ * not started.
+ */
+@Slf4j
+public class BulkMigration {
+
+    private final MigrationCheckpoint checkpoint;
+    private final int batchSize;
+    private final int workers;
+    private final int maxAttempts;
+    private final Duration retryDelay;
+    private final Duration reportInterval;
+    private final PrintStream out;
+
+    private final Map<String, Progress> running = new ConcurrentHashMap<>();
+
+    public BulkMigration(MigrationCheckpoint checkpoint, int batchSize, int workers, int maxAttempts,
+            Duration retryDelay, Duration reportInterval, PrintStream out) {
+        this.checkpoint = checkpoint;
+        this.batchSize = batchSize;
+        this.workers = workers;
+        this.maxAttempts = maxAttempts;
+        this.retryDelay = retryDelay;
+        this.reportInterval = reportInterval;
+        this.out = out;
+    }
+
+    public List<TableCopyResult> run(List<List<TableCopy<?>>> phases) {
+        List<TableCopyResult> results = new ArrayList<>();
+        ScheduledExecutorService reporter = Executors
+                .newSingleThreadScheduledExecutor(new CustomizableThreadFactory("migrate-report-"));
+        long intervalMillis = reportInterval.toMillis();
+        reporter.scheduleAtFixedRate(this::report, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        try {
+            for (List<TableCopy<?>> phase : phases) {
+                List<TableCopyResult> phaseResults = runPhase(phase);
+                results.addAll(phaseResults);
+                if (phaseResults.stream().anyMatch(result -> !result.isComplete())) {
+                    out.println("Migration stopped; run it again to resume from the checkpoint.");
+                    break;
+                }
+            }
+        } finally {
+            reporter.shutdownNow();
+        }
+        return results;
+    }
+
+    private List<TableCopyResult> runPhase(List<TableCopy<?>> phase) {
+        ExecutorService tables = Executors.newFixedThreadPool(phase.size(), new CustomizableThreadFactory("migrate-"));
+        try {
+            List<Future<TableCopyResult>> futures = new ArrayList<>();
+            for (TableCopy<?> table : phase) {
+                futures.add(tables.submit(() -> copy(table)));
+            }
+            List<TableCopyResult> results = new ArrayList<>();
+            for (Future<TableCopyResult> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Migration interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Migration failed", e.getCause());
+        } finally {
+            tables.shutdownNow();
+        }
+    }
+
+    private <T> TableCopyResult copy(TableCopy<T> table) {
+        String name = table.getName();
+        if (checkpoint.isDone(name)) {
+            out.println(name + ": already copied, skipping");
+            return new TableCopyResult(name, 0, 0, 0, true, null);
+        }
+        String cursor = checkpoint.cursor(name);
+        out.println(name + ": copying" + (cursor != null ? " from after " + cursor : ""));
+        Progress progress = new Progress();
+        running.put(name, progress);
+        Watermark watermark = new Watermark();
+        AtomicReference<String> failure = new AtomicReference<>();
+        // Bounds the pages held in memory when the writers fall behind the reader
+        Semaphore inFlight = new Semaphore(workers * 2);
+        ExecutorService writers = Executors.newFixedThreadPool(workers,
+                new CustomizableThreadFactory("migrate-" + name + "-"));
+        try {
+            long sequence = 0;
+            while (failure.get() == null) {
+                List<T> page = table.getReader().apply(cursor, batchSize);
+                if (page.isEmpty()) {
+                    break;
+                }
+                cursor = table.getCursorOf().apply(page.get(page.size() - 1));
+                long batch = sequence++;
+                String batchCursor = cursor;
+                inFlight.acquire();
+                writers.execute(() -> {
+                    try {
+                        write(table, page, progress);
+                        watermark.complete(name, batch, batchCursor);
+                    } catch (RuntimeException e) {
+                        log.error("Batch of {} ending at {} failed after {} attempts", name, batchCursor, maxAttempts, e);
+                        failure.compareAndSet(null, e.getMessage());
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+                if (page.size() < batchSize) {
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, "interrupted");
+        } catch (RuntimeException e) {
+            log.error("Reading {} failed", name, e);
+            failure.compareAndSet(null, e.getMessage());
+        } finally {
+            writers.shutdown();
+            awaitQuietly(writers);
+            running.remove(name);
+        }
+        if (failure.get() == null) {
+            checkpoint.markDone(name);
+        }
+        TableCopyResult result = new TableCopyResult(name, progress.copied.get(), progress.failed.get(),
+                progress.elapsedMillis(), failure.get() == null, failure.get());
+        out.println(summary(result));
+        return result;
+    }
+
+    private <T> void write(TableCopy<T> table, List<T> page, Progress progress) {
+        List<BatchItemResult<T>> results = writeWithRetries(table, page);
+        for (BatchItemResult<T> result : results) {
+            if (result.isSaved()) {
+                progress.copied.incrementAndGet();
+            } else {
+                // Rejected rows (e.g. a missing foreign key) would fail again, so they are reported, not retried
+                progress.failed.incrementAndGet();
+                log.warn("{} row {} not copied: {}", table.getName(), table.getCursorOf().apply(result.getItem()),
+                        result.getError());
+            }
+        }
+    }
+
+    private <T> List<BatchItemResult<T>> writeWithRetries(TableCopy<T> table, List<T> page) {
+        for (int attempt = 1;; attempt++) {
+            try {
+                return table.getWriter().apply(page);
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                Duration delay = retryDelay.multipliedBy(1L << (attempt - 1));
+                log.warn("Batch of {} failed (attempt {} of {}), retrying in {}: {}", table.getName(), attempt,
+                        maxAttempts, delay, e.getMessage());
+                try {
+                    Thread.sleep(delay.toMillis());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private static void awaitQuietly(ExecutorService executor) {
+        try {
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void report() {
+        running.forEach((name, progress) -> out.println(name + ": " + progress.copied.get() + " rows copied, "
+                + progress.rowsPerSecond() + " rows/s"));
+    }
+
+    private static String summary(TableCopyResult result) {
+        String summary = result.getTable() + ": " + result.getCopied() + " rows copied"
+                + (result.getFailed() > 0 ? ", " + result.getFailed() + " rejected" : "") + " in "
+                + result.getElapsedMillis() + " ms (" + result.rowsPerSecond() + " rows/s)";
+        return result.isComplete() ? summary : summary + ", stopped: " + result.getError();
+    }
+
+    private static final class Progress {
+        private final long startNanos = System.nanoTime();
+        private final AtomicLong copied = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+
+        long elapsedMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        }
+
+        long rowsPerSecond() {
+            long elapsed = elapsedMillis();
+            return elapsed > 0 ? copied.get() * 1000 / elapsed : copied.get();
+        }
+    }
+
+    /**
+     * Tracks which batches are written, batches finishing out of order, and
+     * checkpoints the cursor of the last batch of the contiguous written prefix.
+     */
+    private final class Watermark {
+        private final TreeMap<Long, String> written = new TreeMap<>();
+        private long next;
+
+        // Checkpoints under the lock so a later cursor can never be overwritten by an earlier one
+        synchronized void complete(String table, long batch, String cursor) {
+            written.put(batch, cursor);
+            String advanced = null;
+            while (written.containsKey(next)) {
+                advanced = written.remove(next);
+                next++;
+            }
+            if (advanced != null) {
+                checkpoint.advance(table, advanced);
+            }
+        }
+    }
+}
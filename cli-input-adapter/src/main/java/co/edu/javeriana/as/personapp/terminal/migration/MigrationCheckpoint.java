@@ -0,0 +1,90 @@
+package co.edu.javeriana.as.personapp.terminal.migration;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+import co.edu.javeriana.as.personapp.common.setup.DatabaseOption;
+
+/**
+ * Progress of a migration, kept in a properties file: per table, the cursor of
+ * the last row known to be copied, and whether the table is finished.
+ *
+ * Every change rewrites a temporary file and moves it over the checkpoint, so
+ * a crash leaves either the previous or the new checkpoint, never a torn one.
+ */
+public class MigrationCheckpoint {
+
+    private static final String FROM = "from";
+    private static final String TO = "to";
+    private static final String DONE_SUFFIX = ".done";
+
+    private final Path file;
+    private final Properties properties;
+
+    private MigrationCheckpoint(Path file, Properties properties) {
+        this.file = file;
+        this.properties = properties;
+    }
+
+    /**
+     * Loads the checkpoint, or starts an empty one if the file does not exist.
+     *
+     * @throws IllegalStateException if the file belongs to a migration between
+     *                               other backends
+     */
+    public static MigrationCheckpoint open(Path file, DatabaseOption from, DatabaseOption to) {
+        Properties properties = new Properties();
+        if (Files.exists(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                properties.load(in);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot read checkpoint " + file, e);
+            }
+            if (!from.name().equals(properties.getProperty(FROM)) || !to.name().equals(properties.getProperty(TO))) {
+                throw new IllegalStateException("Checkpoint " + file + " belongs to a migration from "
+                        + properties.getProperty(FROM) + " to " + properties.getProperty(TO));
+            }
+        } else {
+            properties.setProperty(FROM, from.name());
+            properties.setProperty(TO, to.name());
+        }
+        return new MigrationCheckpoint(file, properties);
+    }
+
+    // Cursor of the last copied row of the table, null to start from the beginning
+    public synchronized String cursor(String table) {
+        return properties.getProperty(table);
+    }
+
+    public synchronized boolean isDone(String table) {
+        return Boolean.parseBoolean(properties.getProperty(table + DONE_SUFFIX));
+    }
+
+    public synchronized void advance(String table, String cursor) {
+        properties.setProperty(table, cursor);
+        store();
+    }
+
+    public synchronized void markDone(String table) {
+        properties.setProperty(table + DONE_SUFFIX, "true");
+        store();
+    }
+
+    private void store() {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                properties.store(out, "PersonApp migration checkpoint");
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write checkpoint " + file, e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package co.edu.javeriana.as.personapp.terminal.migration;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import co.edu.javeriana.as.personapp.application.port.out.BatchItemResult;
+import lombok.Value;
+
+/**
+ * One table to migrate: a keyset reader over the source, the cursor of a row
+ * (the reader resumes strictly after it) and a bulk writer into the target.
+ * Cursors are strings so they can be stored in the checkpoint as they are.
+ */
+@Value
+public class TableCopy<T> {
+    String name;
+    BiFunction<String, Integer, List<T>> reader;
+    Function<T, String> cursorOf;
+    Function<List<T>, List<BatchItemResult<T>>> writer;
+}
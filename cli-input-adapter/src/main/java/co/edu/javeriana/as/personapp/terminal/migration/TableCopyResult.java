@@ -0,0 +1,18 @@
+package co.edu.javeriana.as.personapp.terminal.migration;
+
+import lombok.Value;
+
+@Value
+public class TableCopyResult {
+    String table;
+    long copied;
+    long failed;
+    long elapsedMillis;
+    // False if the copy stopped early; the checkpoint then points at the first batch to redo
+    boolean complete;
+    String error;
+
+    public long rowsPerSecond() {
+        return elapsedMillis > 0 ? copied * 1000 / elapsedMillis : copied;
+    }
+}
@@ -0,0 +1,238 @@
+package co.edu.javeriana.as.personapp.terminal.adapter;
+
+import co.edu.javeriana.as.personapp.application.port.out.BatchItemResult;
+import co.edu.javeriana.as.personapp.application.port.out.PersonOutputPort;
+import co.edu.javeriana.as.personapp.application.port.out.PhoneOutputPort;
+import co.edu.javeriana.as.personapp.application.port.out.ProfessionOutputPort;
+import co.edu.javeriana.as.personapp.application.port.out.StudyOutputPort;
+import co.edu.javeriana.as.personapp.domain.Gender;
+import co.edu.javeriana.as.personapp.domain.Person;
+import co.edu.javeriana.as.personapp.domain.PersonSummary;
+import co.edu.javeriana.as.personapp.domain.Study;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+public class MigrationInputAdapterCliTest {
+
+    @Mock
+    private PersonOutputPort personOutputPortMaria;
+
+    @Mock
+    private PersonOutputPort personOutputPortMongo;
+
+    @Mock
+    private ProfessionOutputPort professionOutputPortMaria;
+
+    @Mock
+    private ProfessionOutputPort professionOutputPortMongo;
+
+    @Mock
+    private PhoneOutputPort phoneOutputPortMaria;
+
+    @Mock
+    private PhoneOutputPort phoneOutputPortMongo;
+
+    @Mock
+    private StudyOutputPort studyOutputPortMaria;
+
+    @Mock
+    private StudyOutputPort studyOutputPortMongo;
+
+    @InjectMocks
+    private MigrationInputAdapterCli migrationInputAdapterCli;
+
+    @TempDir
+    Path tempDir;
+
+    private Path checkpointFile;
+
+    private final ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+    private final PrintStream originalOut = System.out;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        System.setOut(new PrintStream(outContent)); // Capture System.out
+        migrationInputAdapterCli.retryDelay = Duration.ofMillis(1);
+        checkpointFile = tempDir.resolve("migration.checkpoint");
+        when(personOutputPortMongo.saveAll(anyCollection())).thenAnswer(invocation -> savedAll(invocation.getArgument(0)));
+        when(studyOutputPortMongo.saveAll(anyCollection())).thenAnswer(invocation -> savedAll(invocation.getArgument(0)));
+    }
+
+    @AfterEach
+    public void restoreStreams() {
+        System.setOut(originalOut);
+    }
+
+    private static <T> List<BatchItemResult<T>> savedAll(Collection<T> items) {
+        return items.stream().map(BatchItemResult::saved).collect(Collectors.toList());
+    }
+
+    private static PersonSummary summary(int cc) {
+        return new PersonSummary(cc, "Nombre" + cc, "Apellido" + cc, Gender.FEMALE, 30);
+    }
+
+    private Properties readCheckpoint() throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(checkpointFile)) {
+            properties.load(in);
+        }
+        return properties;
+    }
+
+    private void writeCheckpoint(Properties properties) throws IOException {
+        try (OutputStream out = Files.newOutputStream(checkpointFile)) {
+            properties.store(out, null);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Integer> personIdsSavedToMongo() {
+        ArgumentCaptor<Collection<Person>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(personOutputPortMongo, atLeastOnce()).saveAll(captor.capture());
+        return captor.getAllValues().stream().flatMap(Collection::stream).map(Person::getIdentification).sorted()
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void testMigrar_CopiesEveryTableInBatchesAndMarksTheCheckpointDone() throws IOException {
+        when(personOutputPortMaria.findSummaryPage(null, 2)).thenReturn(List.of(summary(1), summary(2)));
+        when(personOutputPortMaria.findSummaryPage(2, 2)).thenReturn(List.of(summary(3)));
+        Study study = new Study(1, 7, LocalDate.of(2020, 1, 1), "Javeriana");
+        when(studyOutputPortMaria.findPage(null, null, 2)).thenReturn(List.of(study));
+
+        boolean complete = migrationInputAdapterCli.migrar("--from=MARIA", "--to=MONGO", "--batch-size=2",
+                "--workers=2", "--checkpoint=" + checkpointFile);
+
+        assertTrue(complete);
+        assertEquals(List.of(1, 2, 3), personIdsSavedToMongo());
+        verify(personOutputPortMongo, times(2)).saveAll(anyCollection());
+        verify(studyOutputPortMongo).saveAll(List.of(study));
+        verify(personOutputPortMaria, never()).saveAll(anyCollection());
+        Properties checkpoint = readCheckpoint();
+        assertEquals("3", checkpoint.getProperty("personas"));
+        assertEquals("7:1", checkpoint.getProperty("estudios"));
+        for (String table : List.of("personas", "profesiones", "telefonos", "estudios")) {
+            assertEquals("true", checkpoint.getProperty(table + ".done"), table);
+        }
+        String output = outContent.toString();
+        assertTrue(output.contains("personas: 3 rows copied"));
+        assertTrue(output.contains("rows/s"));
+        assertTrue(output.contains("Migration finished."));
+    }
+
+    @Test
+    void testMigrar_ResumesAfterTheCheckpointedCursorAndSkipsFinishedTables() throws IOException {
+        Properties previous = new Properties();
+        previous.setProperty("from", "MARIA");
+        previous.setProperty("to", "MONGO");
+        previous.setProperty("personas", "2");
+        previous.setProperty("profesiones.done", "true");
+        previous.setProperty("telefonos.done", "true");
+        previous.setProperty("estudios.done", "true");
+        writeCheckpoint(previous);
+        when(personOutputPortMaria.findSummaryPage(2, MigrationInputAdapterCli.DEFAULT_BATCH_SIZE))
+                .thenReturn(List.of(summary(3)));
+
+        boolean complete = migrationInputAdapterCli.migrar("--from=MARIA", "--to=MONGO",
+                "--checkpoint=" + checkpointFile);
+
+        assertTrue(complete);
+        assertEquals(List.of(3), personIdsSavedToMongo());
+        verify(personOutputPortMaria, never()).findSummaryPage(isNull(), anyInt());
+        verify(professionOutputPortMaria, never()).findPage(any(), any());
+        verify(phoneOutputPortMaria, never()).findPage(any(), any());
+        verify(studyOutputPortMaria, never()).findPage(any(), any(), any());
+        Properties checkpoint = readCheckpoint();
+        assertEquals("3", checkpoint.getProperty("personas"));
+        assertEquals("true", checkpoint.getProperty("personas.done"));
+        assertTrue(outContent.toString().contains("profesiones: already copied, skipping"));
+    }
+
+    @Test
+    void testMigrar_FailedBatchStopsWithoutAdvancingTheCheckpointPastIt() throws IOException {
+        when(personOutputPortMaria.findSummaryPage(null, 1)).thenReturn(List.of(summary(1)));
+        when(personOutputPortMaria.findSummaryPage(1, 1)).thenReturn(List.of(summary(2)));
+        when(personOutputPortMaria.findSummaryPage(2, 1)).thenReturn(List.of(summary(3)));
+        when(personOutputPortMongo.saveAll(anyCollection())).thenAnswer(invocation -> {
+            Collection<Person> persons = invocation.getArgument(0);
+            if (persons.iterator().next().getIdentification() == 2) {
+                throw new IllegalStateException("MongoDB unreachable");
+            }
+            return savedAll(persons);
+        });
+
+        boolean complete = migrationInputAdapterCli.migrar("--from=MARIA", "--to=MONGO", "--batch-size=1",
+                "--workers=1", "--checkpoint=" + checkpointFile);
+
+        assertFalse(complete);
+        // The failing batch is tried once plus two retries
+        verify(personOutputPortMongo, times(MigrationInputAdapterCli.MAX_ATTEMPTS))
+                .saveAll(argThat(persons -> persons.iterator().next().getIdentification() == 2));
+        Properties checkpoint = readCheckpoint();
+        assertEquals("1", checkpoint.getProperty("personas"));
+        assertNull(checkpoint.getProperty("personas.done"));
+        // Phones and studies need their persons in place, so they wait for the next run
+        verify(phoneOutputPortMaria, never()).findPage(any(), any());
+        verify(studyOutputPortMaria, never()).findPage(any(), any(), any());
+        String output = outContent.toString();
+        assertTrue(output.contains("stopped: MongoDB unreachable"));
+        assertTrue(output.contains("run it again to resume"));
+    }
+
+    @Test
+    void testMigrar_RejectsACheckpointOfAnotherMigration() throws IOException {
+        Properties previous = new Properties();
+        previous.setProperty("from", "MONGO");
+        previous.setProperty("to", "MARIA");
+        writeCheckpoint(previous);
+
+        boolean complete = migrationInputAdapterCli.migrar("--from=MARIA", "--to=MONGO",
+                "--checkpoint=" + checkpointFile);
+
+        assertFalse(complete);
+        assertTrue(outContent.toString().contains("belongs to a migration from MONGO to MARIA"));
+        verify(personOutputPortMaria, never()).findSummaryPage(any(), any());
+    }
+
+    @Test
+    void testMigrar_InvalidOptions() {
+        assertFalse(migrationInputAdapterCli.migrar("--from=MARIA", "--to=MARIA"));
+        assertFalse(migrationInputAdapterCli.migrar("--from=MARIA", "--to=INMEMORY"));
+        assertFalse(migrationInputAdapterCli.migrar("--from=MARIA", "--to=MONGO", "--workers=0"));
+        assertFalse(migrationInputAdapterCli.migrar("--from=MARIA", "--to=MONGO", "--verbose"));
+
+        String output = outContent.toString();
+        assertTrue(output.contains(MigrationInputAdapterCli.USAGE));
+        assertTrue(output.contains("Invalid workers: 0"));
+        assertTrue(output.contains("Unknown option: --verbose"));
+        verifyNoInteractions(personOutputPortMaria, personOutputPortMongo);
+    }
+}
@@ -80,8 +80,8 @@ public class ProfesionInputAdapterCliTest {
 
     @Test
     void testListarProfesiones_WithData() {
-        Profession prof1Domain = new Profession(1, "Ingeniero", "Ingenieria de Sistemas", null);
-        Profession prof2Domain = new Profession(2, "Medico", "Medicina General", null);
+        Profession prof1Domain = new Profession(1, "Ingeniero", "Ingenieria de Sistemas");
+        Profession prof2Domain = new Profession(2, "Medico", "Medicina General");
         List<Profession> professionsDomain = List.of(prof1Domain, prof2Domain);
 
         ProfesionModelCli model1Cli = new ProfesionModelCli(1, "Ingeniero", "Ingenieria de Sistemas");
@@ -128,7 +128,7 @@ public class ProfesionInputAdapterCliTest {
     @Test
     void testObtenerProfesion_Success() throws NoExistException {
         Integer id = 1;
-        Profession professionDomain = new Profession(id, "Abogado", "Derecho Penal", null);
+        Profession professionDomain = new Profession(id, "Abogado", "Derecho Penal");
         ProfesionModelCli modelCli = new ProfesionModelCli(id, "Abogado", "Derecho Penal");
 
         when(professionInputPort.findOne(id)).thenReturn(professionDomain);
@@ -173,7 +173,7 @@ public class ProfesionInputAdapterCliTest {
     @Test
     void testCrearProfesion_Success() throws NoExistException {
         ProfesionModelCli modelCli = new ProfesionModelCli(10, "Arquitecto", "Diseño de Edificios");
-        Profession professionDomain = new Profession(10, "Arquitecto", "Diseño de Edificios", null);
+        Profession professionDomain = new Profession(10, "Arquitecto", "Diseño de Edificios");
 
         when(profesionMapperCli.fromAdapterCliToDomain(modelCli)).thenReturn(professionDomain);
         // For create, usually it might return the created object or void/boolean.
@@ -205,7 +205,7 @@ public class ProfesionInputAdapterCliTest {
     @Test
     void testCrearProfesion_PortThrowsRuntimeException() throws NoExistException {
         ProfesionModelCli modelCli = new ProfesionModelCli(13, "Manager", "Project Management");
-        Profession professionDomain = new Profession(13, "Manager", "Project Management", null);
+        Profession professionDomain = new Profession(13, "Manager", "Project Management");
         String runtimeErrorMessage = "Database constraint violation on create";
 
         when(profesionMapperCli.fromAdapterCliToDomain(modelCli)).thenReturn(professionDomain);
@@ -222,7 +222,7 @@ public class ProfesionInputAdapterCliTest {
     void testEditarProfesion_Success() throws NoExistException {
         Integer id = 1;
         ProfesionModelCli modelCliToEdit = new ProfesionModelCli(id, "Ingeniero de Software", "Desarrollo de Software");
-        Profession professionDomainMapped = new Profession(id, "Ingeniero de Software", "Desarrollo de Software", null);
+        Profession professionDomainMapped = new Profession(id, "Ingeniero de Software", "Desarrollo de Software");
         // Assume edit in port returns the edited object or the same object reference
         when(profesionMapperCli.fromAdapterCliToDomain(modelCliToEdit)).thenReturn(professionDomainMapped);
         when(professionInputPort.edit(id, professionDomainMapped)).thenReturn(professionDomainMapped);
@@ -253,7 +253,7 @@ public class ProfesionInputAdapterCliTest {
     void testEditarProfesion_PortThrowsNoExistException() throws NoExistException {
         Integer id = 3;
         ProfesionModelCli modelCliToEdit = new ProfesionModelCli(id, "Cientifico", "Investigacion");
-        Profession professionDomainMapped = new Profession(id, "Cientifico", "Investigacion", null);
+        Profession professionDomainMapped = new Profession(id, "Cientifico", "Investigacion");
         String noExistMessage = "Profession with ID " + id + " not found for editing.";
 
         when(profesionMapperCli.fromAdapterCliToDomain(modelCliToEdit)).thenReturn(professionDomainMapped);
@@ -270,7 +270,7 @@ public class ProfesionInputAdapterCliTest {
     void testEditarProfesion_PortThrowsRuntimeException() throws NoExistException {
         Integer id = 4;
         ProfesionModelCli modelCliToEdit = new ProfesionModelCli(id, "Diseñador", "Diseño Grafico");
-        Profession professionDomainMapped = new Profession(id, "Diseñador", "Diseño Grafico", null);
+        Profession professionDomainMapped = new Profession(id, "Diseñador", "Diseño Grafico");
         String runtimeErrorMessage = "Database error during edit operation";
 
         when(profesionMapperCli.fromAdapterCliToDomain(modelCliToEdit)).thenReturn(professionDomainMapped);
@@ -117,12 +117,12 @@ public class StudyInputAdapterCliTest {
     public void testListAllStudies_WithData() {
         // Arrange
         Person person1 = new Person(1001, "Doe", "John", Gender.MALE, 30, null, null);
-        Profession profession1 = new Profession(1, "Engineer", "Desc1", null);
-        Study study1 = new Study(person1, profession1, LocalDate.parse("2020-01-01", DATE_FORMATTER), "UnivA");
+        Profession profession1 = new Profession(1, "Engineer", "Desc1");
+        Study study1 = new Study(person1.getIdentification(), profession1.getIdentification(), LocalDate.parse("2020-01-01", DATE_FORMATTER), "UnivA");
         
         Person person2 = new Person(1002, "Smith", "Jane", Gender.FEMALE, 28, null, null);
-        Profession profession2 = new Profession(2, "Doctor", "Desc2", null);
-        Study study2 = new Study(person2, profession2, null, "UnivB");
+        Profession profession2 = new Profession(2, "Doctor", "Desc2");
+        Study study2 = new Study(person2.getIdentification(), profession2.getIdentification(), null, "UnivB");
 
         List<Study> studies = List.of(study1, study2);
         when(studyInputPort.findAll()).thenReturn(studies);
@@ -199,8 +199,8 @@ public class StudyInputAdapterCliTest {
         Scanner mockScanner = provideInput(input);
 
         Person person = new Person(personId, "Doe", "John", Gender.MALE, 30, null, null);
-        Profession profession = new Profession(professionId, "Engineer", "Desc1", null);
-        Study foundStudy = new Study(person, profession, LocalDate.parse("2020-01-01", DATE_FORMATTER), "UnivA");
+        Profession profession = new Profession(professionId, "Engineer", "Desc1");
+        Study foundStudy = new Study(person.getIdentification(), profession.getIdentification(), LocalDate.parse("2020-01-01", DATE_FORMATTER), "UnivA");
         StudyModelCli expectedModel = new StudyModelCli(); // Populate as per your mapper
         expectedModel.setPersonId(personId);
         expectedModel.setProfessionId(professionId);
@@ -334,12 +334,12 @@ public class StudyInputAdapterCliTest {
         Scanner mockScanner = provideInput(input);
 
         Person mockPerson = new Person(personId, "Test", "Person", Gender.OTHER, 25, null, null);
-        Profession mockProfession = new Profession(professionId, "Test Prof", "Desc", null);
+        Profession mockProfession = new Profession(professionId, "Test Prof", "Desc");
         
         when(personInputPort.findOne(personId.longValue())).thenReturn(mockPerson);
         when(professionInputPort.findOne(professionId)).thenReturn(mockProfession);
 
-        Study studyToCreate = new Study(mockPerson, mockProfession, graduationDate, universityName);
+        Study studyToCreate = new Study(mockPerson.getIdentification(), mockProfession.getIdentification(), graduationDate, universityName);
         when(studyInputPort.create(any(Study.class))).thenReturn(studyToCreate); 
 
         // Act
@@ -352,8 +352,8 @@ public class StudyInputAdapterCliTest {
         verify(personInputPort, times(1)).findOne(personId.longValue());
         verify(professionInputPort, times(1)).findOne(professionId);
         verify(studyInputPort, times(1)).create(argThat(study -> 
-            study.getPerson().getIdentification().equals(personId) &&
-            study.getProfession().getIdentification().equals(professionId) &&
+            study.getPersonId() == personId &&
+            study.getProfessionId() == professionId &&
             study.getUniversityName().equals(universityName) &&
             study.getGraduationDate().equals(graduationDate)
         ));
@@ -374,20 +374,20 @@ public class StudyInputAdapterCliTest {
         Scanner mockScanner = provideInput(input);
 
         Person mockPerson = new Person(personId, "Another", "User", Gender.FEMALE, 30, null, null);
-        Profession mockProfession = new Profession(professionId, "Another Prof", "More Desc", null);
+        Profession mockProfession = new Profession(professionId, "Another Prof", "More Desc");
 
         when(personInputPort.findOne(personId.longValue())).thenReturn(mockPerson);
         when(professionInputPort.findOne(professionId)).thenReturn(mockProfession);
 
-        // Study studyToCreate = new Study(mockPerson, mockProfession, null, universityName); // null for grad date
+        // Study studyToCreate = new Study(mockPerson.getIdentification(), mockProfession.getIdentification(), null, universityName); // null for grad date
         // when(studyInputPort.create(any(Study.class))).thenReturn(studyToCreate);
         // More robustly, mock the create to return the object that would be formed
         when(studyInputPort.create(argThat(study -> 
-            study.getPerson().getIdentification().equals(personId) &&
-            study.getProfession().getIdentification().equals(professionId) &&
+            study.getPersonId() == personId &&
+            study.getProfessionId() == professionId &&
             study.getUniversityName().equals(universityName) &&
             study.getGraduationDate() == null
-        ))).thenReturn(new Study(mockPerson, mockProfession, null, universityName));
+        ))).thenReturn(new Study(mockPerson.getIdentification(), mockProfession.getIdentification(), null, universityName));
 
 
         // Act
@@ -400,8 +400,8 @@ public class StudyInputAdapterCliTest {
         verify(personInputPort, times(1)).findOne(personId.longValue());
         verify(professionInputPort, times(1)).findOne(professionId);
         verify(studyInputPort, times(1)).create(argThat(study -> 
-            study.getPerson().getIdentification().equals(personId) &&
-            study.getProfession().getIdentification().equals(professionId) &&
+            study.getPersonId() == personId &&
+            study.getProfessionId() == professionId &&
             study.getUniversityName().equals(universityName) &&
             study.getGraduationDate() == null
         ));
@@ -485,12 +485,12 @@ public class StudyInputAdapterCliTest {
         Scanner mockScanner = provideInput(input);
 
         Person mockPerson = new Person(validPersonIdAfterRecovery, "Test", "Person", Gender.OTHER, 25, null, null);
-        Profession mockProfession = new Profession(professionId, "Test Prof", "Desc", null);
+        Profession mockProfession = new Profession(professionId, "Test Prof", "Desc");
         
         // Mock the calls that will happen AFTER safeIntegerInput recovers
         when(personInputPort.findOne(validPersonIdAfterRecovery.longValue())).thenReturn(mockPerson);
         when(professionInputPort.findOne(professionId)).thenReturn(mockProfession);
-        when(studyInputPort.create(any(Study.class))).thenReturn(new Study(mockPerson, mockProfession, graduationDate, universityName));
+        when(studyInputPort.create(any(Study.class))).thenReturn(new Study(mockPerson.getIdentification(), mockProfession.getIdentification(), graduationDate, universityName));
 
         // Act
         studyInputAdapterCli.createStudy(mockScanner);
@@ -546,7 +546,7 @@ public class StudyInputAdapterCliTest {
         Scanner mockScanner = provideInput(input);
 
         Person mockPerson = new Person(personId, "Test", "Person", Gender.MALE, 30, null, null);
-        Profession mockProfession = new Profession(professionId, "Test Prof", "Desc", null);
+        Profession mockProfession = new Profession(professionId, "Test Prof", "Desc");
 
         when(personInputPort.findOne(personId.longValue())).thenReturn(mockPerson);
         when(professionInputPort.findOne(professionId)).thenReturn(mockProfession);
@@ -576,7 +576,7 @@ public class StudyInputAdapterCliTest {
         Scanner mockScanner = provideInput(input);
 
         Person mockPerson = new Person(personId, "Test", "Person", Gender.MALE, 30, null, null);
-        Profession mockProfession = new Profession(professionId, "Test Prof", "Desc", null);
+        Profession mockProfession = new Profession(professionId, "Test Prof", "Desc");
 
         when(personInputPort.findOne(personId.longValue())).thenReturn(mockPerson);
         when(professionInputPort.findOne(professionId)).thenReturn(mockProfession);
@@ -605,7 +605,7 @@ public class StudyInputAdapterCliTest {
         Scanner mockScanner = provideInput(input);
 
         Person mockPerson = new Person(personId, "Another", "Person", Gender.FEMALE, 28, null, null);
-        Profession mockProfession = new Profession(professionId, "Another", "Prof", null);
+        Profession mockProfession = new Profession(professionId, "Another", "Prof");
 
         when(personInputPort.findOne(personId.longValue())).thenReturn(mockPerson);
         when(professionInputPort.findOne(professionId)).thenReturn(mockProfession);
@@ -636,7 +636,7 @@ public class StudyInputAdapterCliTest {
         Scanner mockScanner = provideInput(input);
 
         Person mockPerson = new Person(personId, "Final", "Test", Gender.OTHER, 33, null, null);
-        Profession mockProfession = new Profession(professionId, "Final", "Prof", null);
+        Profession mockProfession = new Profession(professionId, "Final", "Prof");
 
         when(personInputPort.findOne(personId.longValue())).thenReturn(mockPerson);
         when(professionInputPort.findOne(professionId)).thenReturn(mockProfession);
@@ -670,9 +670,9 @@ public class StudyInputAdapterCliTest {
         Scanner mockScanner = provideInput(input);
 
         Person mockPerson = new Person(personId, "Test", "Person", Gender.MALE, 30, null, null);
-        Profession mockProfession = new Profession(professionId, "Test Prof", "Desc", null);
-        Study existingStudy = new Study(mockPerson, mockProfession, originalGradDate, originalUniversity);
-        Study editedStudy = new Study(mockPerson, mockProfession, newGradDate, newUniversity);
+        Profession mockProfession = new Profession(professionId, "Test Prof", "Desc");
+        Study existingStudy = new Study(mockPerson.getIdentification(), mockProfession.getIdentification(), originalGradDate, originalUniversity);
+        Study editedStudy = new Study(mockPerson.getIdentification(), mockProfession.getIdentification(), newGradDate, newUniversity);
 
         when(studyInputPort.findOne(personId, professionId)).thenReturn(existingStudy);
         when(studyInputPort.edit(eq(personId), eq(professionId), any(Study.class))).thenReturn(editedStudy);
@@ -691,8 +691,8 @@ public class StudyInputAdapterCliTest {
         verify(studyInputPort, times(1)).edit(eq(personId), eq(professionId), argThat(study ->
             study.getUniversityName().equals(newUniversity) &&
             study.getGraduationDate().equals(newGradDate) &&
-            study.getPerson().getIdentification().equals(personId) &&
-            study.getProfession().getIdentification().equals(professionId)
+            study.getPersonId() == personId &&
+            study.getProfessionId() == professionId
         ));
     }
 
@@ -712,8 +712,8 @@ public class StudyInputAdapterCliTest {
         Scanner mockScanner = provideInput(input);
 
         Person mockPerson = new Person(personId, "Keeper", "Person", Gender.FEMALE, 35, null, null);
-        Profession mockProfession = new Profession(professionId, "Keeper Prof", "Keep Desc", null);
-        Study existingStudy = new Study(mockPerson, mockProfession, originalGradDate, originalUniversity);
+        Profession mockProfession = new Profession(professionId, "Keeper Prof", "Keep Desc");
+        Study existingStudy = new Study(mockPerson.getIdentification(), mockProfession.getIdentification(), originalGradDate, originalUniversity);
         // The edited study should be identical to the existing one if values are kept
         
         when(studyInputPort.findOne(personId, professionId)).thenReturn(existingStudy);
@@ -748,9 +748,9 @@ public class StudyInputAdapterCliTest {
         Scanner mockScanner = provideInput(input);
 
         Person mockPerson = new Person(personId, "Clearer", "Person", Gender.OTHER, 29, null, null);
-        Profession mockProfession = new Profession(professionId, "Clearer Prof", "Clear Desc", null);
-        Study existingStudy = new Study(mockPerson, mockProfession, originalGradDate, originalUniversity);
-        Study studyWithClearedDate = new Study(mockPerson, mockProfession, null, newUniversity);
+        Profession mockProfession = new Profession(professionId, "Clearer Prof", "Clear Desc");
+        Study existingStudy = new Study(mockPerson.getIdentification(), mockProfession.getIdentification(), originalGradDate, originalUniversity);
+        Study studyWithClearedDate = new Study(mockPerson.getIdentification(), mockProfession.getIdentification(), null, newUniversity);
 
         when(studyInputPort.findOne(personId, professionId)).thenReturn(existingStudy);
         when(studyInputPort.edit(eq(personId), eq(professionId), any(Study.class))).thenReturn(studyWithClearedDate);
@@ -804,8 +804,8 @@ public class StudyInputAdapterCliTest {
         Scanner mockScanner = provideInput(input);
 
         Person mockPerson = new Person(personId, "DateTest", "Person", Gender.MALE, 40, null, null);
-        Profession mockProfession = new Profession(professionId, "DateTest Prof", "Desc", null);
-        Study existingStudy = new Study(mockPerson, mockProfession, originalGradDate, originalUniversity);
+        Profession mockProfession = new Profession(professionId, "DateTest Prof", "Desc");
+        Study existingStudy = new Study(mockPerson.getIdentification(), mockProfession.getIdentification(), originalGradDate, originalUniversity);
 
         when(studyInputPort.findOne(personId, professionId)).thenReturn(existingStudy);
 
@@ -825,7 +825,7 @@ public class StudyInputAdapterCliTest {
         // Arrange
         Integer personId = 1005;
         Integer professionId = 5;
-        Study existingStudy = new Study(new Person(personId, "P", "P", Gender.MALE, 1, null, null), new Profession(professionId, "Pr", "D", null), LocalDate.now(), "Univ");
+        Study existingStudy = new Study(personId, professionId, LocalDate.now(), "Univ");
         String input = personId + "\n" + professionId + "\n" + "New Univ\n" + "2023-10-10\n";
         Scanner mockScanner = provideInput(input);
 
@@ -847,7 +847,7 @@ public class StudyInputAdapterCliTest {
         Integer personId = 1006;
         Integer professionId = 6;
         String exceptionMessage = "Underlying entity disappeared during edit";
-        Study existingStudy = new Study(new Person(personId, "P", "P", Gender.FEMALE, 1, null, null), new Profession(professionId, "Pr", "D", null), LocalDate.now(), "Univ");
+        Study existingStudy = new Study(personId, professionId, LocalDate.now(), "Univ");
         String input = personId + "\n" + professionId + "\n" + "New Univ\n" + "2023-10-10\n";
         Scanner mockScanner = provideInput(input);
 
@@ -868,7 +868,7 @@ public class StudyInputAdapterCliTest {
         // Arrange
         Integer personId = 1007;
         Integer professionId = 7;
-        Study existingStudy = new Study(new Person(personId, "P", "P", Gender.OTHER, 1, null, null), new Profession(professionId, "Pr", "D", null), LocalDate.now(), "Univ");
+        Study existingStudy = new Study(personId, professionId, LocalDate.now(), "Univ");
         String input = personId + "\n" + professionId + "\n" + "New Univ\n" + "2023-10-10\n";
         Scanner mockScanner = provideInput(input);
 
@@ -901,9 +901,9 @@ public class StudyInputAdapterCliTest {
 
         Person mockPerson = new Person(validPersonId, "P", "P", Gender.MALE, 1, null, null);
         // Profession also needs to be mocked for the validProfessionId
-        Profession mockProfession = new Profession(validProfessionId, "Pf", "D", null);
-        Study mockStudy = new Study(mockPerson, mockProfession, LocalDate.now().minusYears(1), "Old University"); // Existing study
-        Study editedStudy = new Study(mockPerson, mockProfession, LocalDate.parse(newGradDate, DATE_FORMATTER), newUniversityName);
+        Profession mockProfession = new Profession(validProfessionId, "Pf", "D");
+        Study mockStudy = new Study(mockPerson.getIdentification(), mockProfession.getIdentification(), LocalDate.now().minusYears(1), "Old University"); // Existing study
+        Study editedStudy = new Study(mockPerson.getIdentification(), mockProfession.getIdentification(), LocalDate.parse(newGradDate, DATE_FORMATTER), newUniversityName);
 
         // This will be called after safeIntegerInput recovers for personId
         // when(personInputPort.findOne(validPersonId.longValue())).thenReturn(mockPerson); // Not needed as editStudy doesn't use personInputPort
@@ -927,7 +927,7 @@ public class StudyInputAdapterCliTest {
         Integer personId = 1;
         String input = personId + "\nxyz\n1\nNew Name\n2023-01-01\n"; 
         Scanner mockScanner = provideInput(input);
-        Study existingStudy = new Study(new Person(personId, "P", "P", Gender.MALE, 1, null, null), new Profession(1, "Pr", "D", null), LocalDate.now(), "Univ");
+        Study existingStudy = new Study(personId, 1, LocalDate.now(), "Univ");
         
         when(studyInputPort.findOne(eq(personId), eq(1))).thenReturn(existingStudy);
         when(studyInputPort.edit(eq(personId), eq(1), any(Study.class))).thenReturn(existingStudy);
@@ -0,0 +1,83 @@
+package co.edu.javeriana.as.personapp.common.logging;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+
+/**
+ * Logs a repeated diagnostic at most once per interval. The occurrences in
+ * between are only counted, and the count is appended to the next message
+ * that gets through. Meant for per-row conditions in mappers and adapters,
+ * where a bad batch would otherwise write one line per row.
+ *
+ * Use one instance per message: the interval is shared by every call on it.
+ */
+public final class SampledLog {
+
+	private final Logger logger;
+	private final long intervalNanos;
+	private final LongSupplier nanoTime;
+	private final AtomicLong nextAllowed;
+	private final LongAdder suppressed = new LongAdder();
+
+	public SampledLog(Logger logger, Duration interval) {
+		this(logger, interval, System::nanoTime);
+	}
+
+	// The clock is a parameter for the tests
+	SampledLog(Logger logger, Duration interval, LongSupplier nanoTime) {
+		this.logger = logger;
+		this.intervalNanos = interval.toNanos();
+		this.nanoTime = nanoTime;
+		this.nextAllowed = new AtomicLong(nanoTime.getAsLong());
+	}
+
+	public void warn(String format, Object... args) {
+		if (logger.isWarnEnabled() && tryAcquire()) {
+			long skipped = suppressed.sumThenReset();
+			if (skipped == 0) {
+				logger.warn(format, args);
+			} else {
+				logger.warn(withSuppressed(format), withSuppressed(args, skipped));
+			}
+		}
+	}
+
+	public void error(String format, Object... args) {
+		if (logger.isErrorEnabled() && tryAcquire()) {
+			long skipped = suppressed.sumThenReset();
+			if (skipped == 0) {
+				logger.error(format, args);
+			} else {
+				logger.error(withSuppressed(format), withSuppressed(args, skipped));
+			}
+		}
+	}
+
+	private boolean tryAcquire() {
+		long now = nanoTime.getAsLong();
+		long next = nextAllowed.get();
+		if (now - next >= 0 && nextAllowed.compareAndSet(next, now + intervalNanos)) {
+			return true;
+		}
+		suppressed.increment();
+		return false;
+	}
+
+	private static String withSuppressed(String format) {
+		return format + " ({} similar messages suppressed before this one)";
+	}
+
+	// The count goes before a trailing throwable, so SLF4J still prints its stack trace
+	private static Object[] withSuppressed(Object[] args, long skipped) {
+		Object[] all = Arrays.copyOf(args, args.length + 1);
+		int at = args.length > 0 && args[args.length - 1] instanceof Throwable ? args.length - 1 : args.length;
+		System.arraycopy(args, at, all, at + 1, args.length - at);
+		all[at] = skipped;
+		return all;
+	}
+}
@@ -1,5 +1,20 @@
 package co.edu.javeriana.as.personapp.common.setup;
 
+import co.edu.javeriana.as.personapp.common.exceptions.InvalidOptionException;
+
 public enum DatabaseOption {
-	MONGO, MARIA
+	MONGO, MARIA, INMEMORY,
+	// Read-only fan-out over MARIA and MONGO, only accepted by the person queries
+	ALL;
+
+	public static DatabaseOption of(String dbOption) throws InvalidOptionException {
+		if (dbOption != null) {
+			for (DatabaseOption option : values()) {
+				if (option.name().equalsIgnoreCase(dbOption)) {
+					return option;
+				}
+			}
+		}
+		throw new InvalidOptionException("Invalid database option: " + dbOption);
+	}
 }
@@ -0,0 +1,110 @@
+package co.edu.javeriana.as.personapp.common.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+
+class SampledLogTest {
+
+    private static final Duration INTERVAL = Duration.ofSeconds(10);
+    private static final String FORMAT = "Row {} skipped";
+    private static final String WITH_COUNT = FORMAT + " ({} similar messages suppressed before this one)";
+
+    private Logger logger;
+    private AtomicLong now;
+    private SampledLog log;
+
+    @BeforeEach
+    void setUp() {
+        logger = mock(Logger.class);
+        when(logger.isWarnEnabled()).thenReturn(true);
+        when(logger.isErrorEnabled()).thenReturn(true);
+        now = new AtomicLong(1_000);
+        log = new SampledLog(logger, INTERVAL, now::get);
+    }
+
+    private void advance(Duration duration) {
+        now.addAndGet(duration.toNanos());
+    }
+
+    private long lines(String level) {
+        return mockingDetails(logger).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals(level)).count();
+    }
+
+    // Object[] so the varargs overload SampledLog calls is the one verified
+    private static Object[] args(Object... args) {
+        return args;
+    }
+
+    @Test
+    void theFirstMessageGoesThroughAndTheRestOfTheIntervalIsSuppressed() {
+        log.warn(FORMAT, args(1));
+        advance(INTERVAL.minusNanos(1));
+        log.warn(FORMAT, args(2));
+        log.warn(FORMAT, args(3));
+
+        verify(logger).warn(FORMAT, args(1));
+        assertEquals(1, lines("warn"));
+    }
+
+    @Test
+    void theNextLineCarriesTheSuppressedCount() {
+        log.warn(FORMAT, args(1));
+        log.warn(FORMAT, args(2));
+        log.warn(FORMAT, args(3));
+        advance(INTERVAL);
+
+        log.warn(FORMAT, args(4));
+
+        verify(logger).warn(WITH_COUNT, args(4, 2L));
+    }
+
+    @Test
+    void theCountGoesBeforeATrailingThrowable() {
+        IllegalStateException failure = new IllegalStateException("bad row");
+        log.error(FORMAT, args(1, failure));
+        log.error(FORMAT, args(2, failure));
+        advance(INTERVAL);
+
+        log.error(FORMAT, args(3, failure));
+
+        // SLF4J only prints the stack trace of a throwable in the last position
+        verify(logger).error(WITH_COUNT, args(3, 1L, failure));
+    }
+
+    @Test
+    void theCountIsResetOnceItIsLogged() {
+        log.warn(FORMAT, args(1));
+        log.warn(FORMAT, args(2));
+        advance(INTERVAL);
+        log.warn(FORMAT, args(3));
+        advance(INTERVAL);
+
+        log.warn(FORMAT, args(4));
+
+        verify(logger).warn(WITH_COUNT, args(3, 1L));
+        verify(logger).warn(FORMAT, args(4));
+    }
+
+    @Test
+    void nothingIsCountedWhileTheLevelIsDisabled() {
+        when(logger.isWarnEnabled()).thenReturn(false);
+        log.warn(FORMAT, args(1));
+        log.warn(FORMAT, args(2));
+
+        when(logger.isWarnEnabled()).thenReturn(true);
+        log.warn(FORMAT, args(3));
+
+        verify(logger).warn(FORMAT, args(3));
+    }
+}
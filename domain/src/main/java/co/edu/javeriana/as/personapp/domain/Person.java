@@ -1,37 +1,52 @@
 package co.edu.javeriana.as.personapp.domain;
 
+import java.util.Collections;
 import java.util.List;
 
-import lombok.AllArgsConstructor;
-import lombok.Data;
 import lombok.EqualsAndHashCode;
-import lombok.NoArgsConstructor;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import lombok.ToString;
+import lombok.Value;
+import lombok.With;
 
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
-@RequiredArgsConstructor
+/**
+ * Immutable person. An unknown age is {@link #UNKNOWN_AGE}; the adapters
+ * store it as a null column or field. Missing phone and study lists are the
+ * shared empty list, and the lists given are kept as they are, not copied.
+ */
+@Value
 public class Person {
+	public static final int UNKNOWN_AGE = -1;
+
+	int identification;
 	@NonNull
-	private Integer identification;
-	@NonNull
-	private String firstName;
+	String firstName;
 	@NonNull
-	private String lastName;
+	String lastName;
 	@NonNull
-	private Gender gender;
-	private Integer age;
+	Gender gender;
+	int age;
+	@With
 	@ToString.Exclude
 	@EqualsAndHashCode.Exclude
-	private List<Phone> phoneNumbers;
+	List<Phone> phoneNumbers;
+	@With
 	@ToString.Exclude
 	@EqualsAndHashCode.Exclude
-	private List<Study> studies;
+	List<Study> studies;
+
+	public Person(int identification, @NonNull String firstName, @NonNull String lastName, @NonNull Gender gender,
+			int age, List<Phone> phoneNumbers, List<Study> studies) {
+		this.identification = identification;
+		this.firstName = firstName;
+		this.lastName = lastName;
+		this.gender = gender;
+		this.age = age;
+		this.phoneNumbers = phoneNumbers != null ? phoneNumbers : Collections.emptyList();
+		this.studies = studies != null ? studies : Collections.emptyList();
+	}
 
-	public Boolean isValidAge() {
+	public boolean isValidAge() {
 		return this.age >= 0;
 	}
 }
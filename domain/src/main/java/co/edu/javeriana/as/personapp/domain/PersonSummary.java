@@ -0,0 +1,21 @@
+package co.edu.javeriana.as.personapp.domain;
+
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * Scalar fields of a {@link Person} without phones or studies, for listings
+ * that never look at the child collections. An unknown age is
+ * {@link Person#UNKNOWN_AGE}.
+ */
+@Value
+public class PersonSummary {
+	int identification;
+	@NonNull
+	String firstName;
+	@NonNull
+	String lastName;
+	@NonNull
+	Gender gender;
+	int age;
+}
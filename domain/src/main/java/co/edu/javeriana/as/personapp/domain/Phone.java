@@ -1,22 +1,15 @@
 package co.edu.javeriana.as.personapp.domain;
 
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.EqualsAndHashCode;
-import lombok.NoArgsConstructor;
 import lombok.NonNull;
-import lombok.ToString;
+import lombok.Value;
+import lombok.With;
 
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
+@Value
 public class Phone {
+	@With
 	@NonNull
-	private String number;
+	String number;
 	@NonNull
-	private String company;
-	@NonNull
-	@ToString.Exclude
-	@EqualsAndHashCode.Exclude
-	private Person owner;
+	String company;
+	int ownerId;
 }
@@ -1,26 +1,14 @@
 package co.edu.javeriana.as.personapp.domain;
 
-import java.util.List;
-
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.EqualsAndHashCode;
-import lombok.NoArgsConstructor;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
-import lombok.ToString;
+import lombok.Value;
+import lombok.With;
 
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
-@RequiredArgsConstructor
+@Value
 public class Profession {
+	@With
+	int identification;
 	@NonNull
-	private Integer identification;
-	@NonNull
-	private String name;
-	private String description;
-	@ToString.Exclude
-	@EqualsAndHashCode.Exclude
-	private List<Study> studies;
+	String name;
+	String description;
 }
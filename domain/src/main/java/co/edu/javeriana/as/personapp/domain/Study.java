@@ -2,27 +2,15 @@ package co.edu.javeriana.as.personapp.domain;
 
 import java.time.LocalDate;
 
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.EqualsAndHashCode;
-import lombok.NoArgsConstructor;
-import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
-import lombok.ToString;
+import lombok.Value;
+import lombok.With;
 
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
-@RequiredArgsConstructor
+@Value
 public class Study {
-	@NonNull
-	@ToString.Exclude
-	@EqualsAndHashCode.Exclude
-	private Person person;
-	@NonNull
-	@ToString.Exclude
-	@EqualsAndHashCode.Exclude
-	private Profession profession;
-	private LocalDate graduationDate;
-	private String universityName;
+	@With
+	int personId;
+	@With
+	int professionId;
+	LocalDate graduationDate;
+	String universityName;
 }
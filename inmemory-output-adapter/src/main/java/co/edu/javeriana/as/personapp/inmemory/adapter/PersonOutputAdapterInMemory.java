@@ -0,0 +1,94 @@
+package co.edu.javeriana.as.personapp.inmemory.adapter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+
+import co.edu.javeriana.as.personapp.application.port.out.BatchItemResult;
+import co.edu.javeriana.as.personapp.application.port.out.PersonOutputPort;
+import co.edu.javeriana.as.personapp.common.annotations.Adapter;
+import co.edu.javeriana.as.personapp.domain.Person;
+import co.edu.javeriana.as.personapp.domain.PersonSummary;
+import co.edu.javeriana.as.personapp.inmemory.store.InMemoryDatabase;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Adapter("personOutputAdapterInMemory")
+public class PersonOutputAdapterInMemory implements PersonOutputPort {
+
+	@Autowired
+	private InMemoryDatabase inMemoryDatabase;
+
+	@Override
+	public Person save(Person person) {
+		log.debug("Into save on Adapter InMemory");
+		return inMemoryDatabase.savePerson(person);
+	}
+
+	@Override
+	public List<BatchItemResult<Person>> saveAll(Collection<Person> persons) {
+		log.debug("Into saveAll on Adapter InMemory with {} persons", persons.size());
+		List<BatchItemResult<Person>> results = new ArrayList<>(persons.size());
+		for (Person person : persons) {
+			results.add(BatchItemResult.saved(inMemoryDatabase.savePerson(person)));
+		}
+		return results;
+	}
+
+	@Override
+	public Boolean delete(Long cc) {
+		log.debug("Into delete on Adapter InMemory");
+		return inMemoryDatabase.deletePerson(cc.intValue());
+	}
+
+	@Override
+	public List<Person> findAll() {
+		log.debug("Into findAll on Adapter InMemory");
+		return inMemoryDatabase.findPersons();
+	}
+
+	@Override
+	public List<Person> findPage(Integer after, Integer limit) {
+		log.debug("Into findPage on Adapter InMemory after {} limit {}", after, limit);
+		return inMemoryDatabase.findPersonsAfter(after, limit);
+	}
+
+	@Override
+	public Person findById(Long cc) {
+		log.debug("Into findById on Adapter InMemory");
+		return inMemoryDatabase.findPerson(cc.intValue());
+	}
+
+	@Override
+	public List<PersonSummary> findAllSummaries() {
+		log.debug("Into findAllSummaries on Adapter InMemory");
+		return inMemoryDatabase.findPersonSummaries();
+	}
+
+	@Override
+	public List<PersonSummary> findSummaryPage(Integer after, Integer limit) {
+		log.debug("Into findSummaryPage on Adapter InMemory after {} limit {}", after, limit);
+		return inMemoryDatabase.findPersonSummariesAfter(after, limit);
+	}
+
+	@Override
+	public List<PersonSummary> findSummariesById(Collection<Long> ccs) {
+		log.debug("Into findSummariesById on Adapter InMemory with {} ids", ccs.size());
+		return inMemoryDatabase.findPersonSummaries(ccs);
+	}
+
+	@Override
+	public Stream<Person> streamAll() {
+		log.debug("Into streamAll on Adapter InMemory");
+		return inMemoryDatabase.streamPersons();
+	}
+
+	@Override
+	public Long count() {
+		log.debug("Into count on Adapter InMemory");
+		return inMemoryDatabase.countPersons();
+	}
+}
@@ -0,0 +1,69 @@
+package co.edu.javeriana.as.personapp.inmemory.adapter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+
+import co.edu.javeriana.as.personapp.application.port.out.BatchItemResult;
+import co.edu.javeriana.as.personapp.application.port.out.PhoneOutputPort;
+import co.edu.javeriana.as.personapp.common.annotations.Adapter;
+import co.edu.javeriana.as.personapp.domain.Phone;
+import co.edu.javeriana.as.personapp.inmemory.store.InMemoryDatabase;
+
+@Adapter("phoneOutputAdapterInMemory")
+public class PhoneOutputAdapterInMemory implements PhoneOutputPort {
+
+    @Autowired
+    private InMemoryDatabase inMemoryDatabase;
+
+    @Override
+    public Phone save(Phone phone) {
+        return inMemoryDatabase.savePhone(phone);
+    }
+
+    @Override
+    public List<BatchItemResult<Phone>> saveAll(Collection<Phone> phones) {
+        List<BatchItemResult<Phone>> results = new ArrayList<>(phones.size());
+        for (Phone phone : phones) {
+            try {
+                results.add(BatchItemResult.saved(inMemoryDatabase.savePhone(phone)));
+            } catch (IllegalArgumentException e) {
+                // A missing parent fails only its own item, as the foreign keys do in MariaDB
+                results.add(BatchItemResult.failed(phone, e.getMessage()));
+            }
+        }
+        return results;
+    }
+
+    @Override
+    public Boolean delete(String number) {
+        return inMemoryDatabase.deletePhone(number);
+    }
+
+    @Override
+    public List<Phone> find() {
+        return inMemoryDatabase.findPhones();
+    }
+
+    @Override
+    public List<Phone> findPage(String after, Integer limit) {
+        return inMemoryDatabase.findPhonesAfter(after, limit);
+    }
+
+    @Override
+    public Phone findById(String number) {
+        return inMemoryDatabase.findPhone(number);
+    }
+
+    @Override
+    public List<Phone> findByPersonId(Integer personId) {
+        return inMemoryDatabase.findPhonesByOwner(personId);
+    }
+
+    @Override
+    public Long count() {
+        return inMemoryDatabase.countPhones();
+    }
+}
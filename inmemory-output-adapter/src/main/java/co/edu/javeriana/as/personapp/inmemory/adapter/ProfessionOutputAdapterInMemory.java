@@ -0,0 +1,68 @@
+package co.edu.javeriana.as.personapp.inmemory.adapter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+
+import co.edu.javeriana.as.personapp.application.port.out.BatchItemResult;
+import co.edu.javeriana.as.personapp.application.port.out.ProfessionOutputPort;
+import co.edu.javeriana.as.personapp.common.annotations.Adapter;
+import co.edu.javeriana.as.personapp.domain.Profession;
+import co.edu.javeriana.as.personapp.inmemory.store.InMemoryDatabase;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Adapter("professionOutputAdapterInMemory")
+public class ProfessionOutputAdapterInMemory implements ProfessionOutputPort {
+
+    @Autowired
+    private InMemoryDatabase inMemoryDatabase;
+
+    @Override
+    public Profession save(Profession profession) {
+        log.debug("Into save Profession in InMemory Adapter");
+        return inMemoryDatabase.saveProfession(profession);
+    }
+
+    @Override
+    public List<BatchItemResult<Profession>> saveAll(Collection<Profession> professions) {
+        log.debug("Into saveAll Profession in InMemory Adapter with {} professions", professions.size());
+        List<BatchItemResult<Profession>> results = new ArrayList<>(professions.size());
+        for (Profession profession : professions) {
+            results.add(BatchItemResult.saved(inMemoryDatabase.saveProfession(profession)));
+        }
+        return results;
+    }
+
+    @Override
+    public Boolean delete(Integer identification) {
+        log.debug("Into delete Profession in InMemory Adapter");
+        return inMemoryDatabase.deleteProfession(identification);
+    }
+
+    @Override
+    public List<Profession> findAll() {
+        log.debug("Into findAll Profession in InMemory Adapter");
+        return inMemoryDatabase.findProfessions();
+    }
+
+    @Override
+    public List<Profession> findPage(Integer after, Integer limit) {
+        log.debug("Into findPage Profession in InMemory Adapter after {} limit {}", after, limit);
+        return inMemoryDatabase.findProfessionsAfter(after, limit);
+    }
+
+    @Override
+    public Profession findById(Integer identification) {
+        log.debug("Into findById Profession in InMemory Adapter");
+        return inMemoryDatabase.findProfession(identification);
+    }
+
+    @Override
+    public Long count() {
+        log.debug("Into count Profession in InMemory Adapter");
+        return inMemoryDatabase.countProfessions();
+    }
+}
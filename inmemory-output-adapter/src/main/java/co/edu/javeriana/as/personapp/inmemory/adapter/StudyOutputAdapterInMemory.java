@@ -0,0 +1,85 @@
+package co.edu.javeriana.as.personapp.inmemory.adapter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+
+import co.edu.javeriana.as.personapp.application.port.out.BatchItemResult;
+import co.edu.javeriana.as.personapp.application.port.out.StudyOutputPort;
+import co.edu.javeriana.as.personapp.common.annotations.Adapter;
+import co.edu.javeriana.as.personapp.domain.Study;
+import co.edu.javeriana.as.personapp.inmemory.store.InMemoryDatabase;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Adapter("studyOutputAdapterInMemory")
+public class StudyOutputAdapterInMemory implements StudyOutputPort {
+
+    @Autowired
+    private InMemoryDatabase inMemoryDatabase;
+
+    @Override
+    public Study save(Study study) {
+        log.debug("Into save Study in InMemory Adapter");
+        return inMemoryDatabase.saveStudy(study);
+    }
+
+    @Override
+    public List<BatchItemResult<Study>> saveAll(Collection<Study> studies) {
+        log.debug("Into saveAll Study in InMemory Adapter with {} studies", studies.size());
+        List<BatchItemResult<Study>> results = new ArrayList<>(studies.size());
+        for (Study study : studies) {
+            try {
+                results.add(BatchItemResult.saved(inMemoryDatabase.saveStudy(study)));
+            } catch (IllegalArgumentException e) {
+                results.add(BatchItemResult.failed(study, e.getMessage()));
+            }
+        }
+        return results;
+    }
+
+    @Override
+    public Boolean delete(Integer personId, Integer professionId) {
+        log.debug("Into delete Study in InMemory Adapter with personId {} and professionId {}", personId, professionId);
+        return inMemoryDatabase.deleteStudy(personId, professionId);
+    }
+
+    @Override
+    public List<Study> find() {
+        log.debug("Into find Studies in InMemory Adapter");
+        return inMemoryDatabase.findStudies();
+    }
+
+    @Override
+    public List<Study> findPage(Integer afterProfessionId, Integer afterPersonId, Integer limit) {
+        log.debug("Into findPage Study in InMemory Adapter after ({}, {}) limit {}", afterProfessionId, afterPersonId,
+                limit);
+        return inMemoryDatabase.findStudiesAfter(afterProfessionId, afterPersonId, limit);
+    }
+
+    @Override
+    public List<Study> findByPersonId(Integer personId) {
+        log.debug("Into findByPersonId Study in InMemory Adapter with personId {}", personId);
+        return inMemoryDatabase.findStudiesByPerson(personId);
+    }
+
+    @Override
+    public List<Study> findByProfessionId(Integer professionId) {
+        log.debug("Into findByProfessionId Study in InMemory Adapter with professionId {}", professionId);
+        return inMemoryDatabase.findStudiesByProfession(professionId);
+    }
+
+    @Override
+    public Study findById(Integer personId, Integer professionId) {
+        log.debug("Into findById Study in InMemory Adapter with personId {} and professionId {}", personId, professionId);
+        return inMemoryDatabase.findStudy(personId, professionId);
+    }
+
+    @Override
+    public Long count() {
+        log.debug("Into count Studies in InMemory Adapter");
+        return inMemoryDatabase.countStudies();
+    }
+}
@@ -0,0 +1,399 @@
+package co.edu.javeriana.as.personapp.inmemory.store;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+
+import co.edu.javeriana.as.personapp.domain.Person;
+import co.edu.javeriana.as.personapp.domain.PersonSummary;
+import co.edu.javeriana.as.personapp.domain.Phone;
+import co.edu.javeriana.as.personapp.domain.Profession;
+import co.edu.javeriana.as.personapp.domain.Study;
+
+/**
+ * Shared state of the in-memory persistence option.
+ *
+ * Rows are the immutable domain objects themselves, kept flat: a stored person
+ * has no phones or studies, and phones and studies refer to their person and
+ * profession by id. Reads return the stored rows without copying them.
+ * Phones are indexed by owner and studies by person and by profession; every
+ * primary-map update maintains those indexes inside the map's per-key
+ * compute so concurrent writers cannot leave them inconsistent.
+ *
+ * Like the foreign keys of the MariaDB schema, a phone or study whose person
+ * (or profession) is missing is rejected. A child save indexes the row first
+ * and then checks its parent, while a parent delete removes the parent first
+ * and then cascades over the index: whichever order they race in, either the
+ * save sees the parent gone and undoes itself or the cascade finds the row.
+ */
+@Component
+public class InMemoryDatabase {
+
+	private final ConcurrentSkipListMap<Integer, Person> persons = new ConcurrentSkipListMap<>();
+	private final ConcurrentHashMap<String, Phone> phones = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<Integer, Profession> professions = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<Long, Study> studies = new ConcurrentHashMap<>();
+
+	private final ConcurrentHashMap<Integer, Set<String>> phonesByOwner = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<Integer, Set<Long>> studiesByPerson = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<Integer, Set<Long>> studiesByProfession = new ConcurrentHashMap<>();
+
+	// ---- persons ----
+
+	public Person savePerson(Person person) {
+		persons.put(person.getIdentification(), flat(person));
+		return findPerson(person.getIdentification());
+	}
+
+	public boolean deletePerson(Integer cc) {
+		if (persons.remove(cc) == null) {
+			return false;
+		}
+		// Same cascade as the MariaDB mapping: a person's phones and studies go with it
+		for (String number : snapshot(phonesByOwner.get(cc))) {
+			deletePhone(number);
+		}
+		for (Long key : snapshot(studiesByPerson.get(cc))) {
+			deleteStudy(key);
+		}
+		return true;
+	}
+
+	public Person findPerson(Integer cc) {
+		Person stored = persons.get(cc);
+		return stored != null ? withRelations(stored) : null;
+	}
+
+	public List<Person> findPersons() {
+		return withRelations(persons);
+	}
+
+	public List<Person> findPersonsAfter(Integer after, int limit) {
+		NavigableMap<Integer, Person> tail = after != null ? persons.tailMap(after, false) : persons;
+		List<Person> page = new ArrayList<>(limit);
+		for (Person stored : tail.values()) {
+			if (page.size() == limit) {
+				break;
+			}
+			page.add(withRelations(stored));
+		}
+		return page;
+	}
+
+	public List<PersonSummary> findPersonSummaries() {
+		List<PersonSummary> result = new ArrayList<>(persons.size());
+		for (Person stored : persons.values()) {
+			result.add(summaryOf(stored));
+		}
+		return result;
+	}
+
+	public List<PersonSummary> findPersonSummariesAfter(Integer after, int limit) {
+		NavigableMap<Integer, Person> tail = after != null ? persons.tailMap(after, false) : persons;
+		List<PersonSummary> page = new ArrayList<>(limit);
+		for (Person stored : tail.values()) {
+			if (page.size() == limit) {
+				break;
+			}
+			page.add(summaryOf(stored));
+		}
+		return page;
+	}
+
+	public List<PersonSummary> findPersonSummaries(Collection<Long> ccs) {
+		List<PersonSummary> result = new ArrayList<>(ccs.size());
+		for (Long cc : ccs) {
+			Person stored = persons.get(cc.intValue());
+			if (stored != null) {
+				result.add(summaryOf(stored));
+			}
+		}
+		return result;
+	}
+
+	public Stream<Person> streamPersons() {
+		return persons.values().stream().map(this::withRelations);
+	}
+
+	public long countPersons() {
+		return persons.size();
+	}
+
+	// ---- phones ----
+
+	/**
+	 * @throws IllegalArgumentException if the owner does not exist, or was deleted during the save
+	 */
+	public Phone savePhone(Phone phone) {
+		int ownerId = phone.getOwnerId();
+		requirePerson(ownerId);
+		phones.compute(phone.getNumber(), (number, previous) -> {
+			if (previous != null && previous.getOwnerId() != ownerId) {
+				removeFromIndex(phonesByOwner, previous.getOwnerId(), number);
+			}
+			phonesByOwner.computeIfAbsent(ownerId, id -> ConcurrentHashMap.newKeySet()).add(number);
+			return phone;
+		});
+		if (!persons.containsKey(ownerId)) {
+			// The owner's cascade may have run before the phone was indexed
+			phones.computeIfPresent(phone.getNumber(), (number, stored) -> {
+				if (stored != phone) {
+					return stored;
+				}
+				removeFromIndex(phonesByOwner, ownerId, number);
+				return null;
+			});
+			requirePerson(ownerId);
+		}
+		return findPhone(phone.getNumber());
+	}
+
+	public boolean deletePhone(String number) {
+		boolean[] removed = new boolean[1];
+		phones.computeIfPresent(number, (key, previous) -> {
+			removeFromIndex(phonesByOwner, previous.getOwnerId(), key);
+			removed[0] = true;
+			return null;
+		});
+		return removed[0];
+	}
+
+	public Phone findPhone(String number) {
+		return phones.get(number);
+	}
+
+	public List<Phone> findPhones() {
+		return new ArrayList<>(phones.values());
+	}
+
+	public List<Phone> findPhonesByOwner(Integer ownerId) {
+		Set<String> numbers = phonesByOwner.get(ownerId);
+		if (numbers == null) {
+			return Collections.emptyList();
+		}
+		List<Phone> result = new ArrayList<>(numbers.size());
+		for (String number : numbers) {
+			Phone stored = phones.get(number);
+			if (stored != null) {
+				result.add(stored);
+			}
+		}
+		return result;
+	}
+
+	// Unlike persons, phones are not kept sorted, so a page sorts the matching numbers
+	public List<Phone> findPhonesAfter(String after, int limit) {
+		return phones.keySet().stream()
+				.filter(number -> after == null || number.compareTo(after) > 0)
+				.sorted()
+				.limit(limit)
+				.map(this::findPhone)
+				.filter(phone -> phone != null)
+				.collect(Collectors.toList());
+	}
+
+	public long countPhones() {
+		return phones.size();
+	}
+
+	// ---- professions ----
+
+	public Profession saveProfession(Profession profession) {
+		professions.put(profession.getIdentification(), profession);
+		return profession;
+	}
+
+	public boolean deleteProfession(Integer id) {
+		if (professions.remove(id) == null) {
+			return false;
+		}
+		for (Long key : snapshot(studiesByProfession.get(id))) {
+			deleteStudy(key);
+		}
+		return true;
+	}
+
+	public Profession findProfession(Integer id) {
+		return professions.get(id);
+	}
+
+	public List<Profession> findProfessions() {
+		return new ArrayList<>(professions.values());
+	}
+
+	public List<Profession> findProfessionsAfter(Integer after, int limit) {
+		return professions.keySet().stream()
+				.filter(id -> after == null || id > after)
+				.sorted()
+				.limit(limit)
+				.map(this::findProfession)
+				.filter(profession -> profession != null)
+				.collect(Collectors.toList());
+	}
+
+	public long countProfessions() {
+		return professions.size();
+	}
+
+	// ---- studies ----
+
+	/**
+	 * @throws IllegalArgumentException if the person or the profession does not exist, or was
+	 *         deleted during the save
+	 */
+	public Study saveStudy(Study study) {
+		int personId = study.getPersonId();
+		int professionId = study.getProfessionId();
+		requirePerson(personId);
+		requireProfession(professionId);
+		long studyKey = studyKey(personId, professionId);
+		studies.compute(studyKey, (key, previous) -> {
+			studiesByPerson.computeIfAbsent(personId, id -> ConcurrentHashMap.newKeySet()).add(key);
+			studiesByProfession.computeIfAbsent(professionId, id -> ConcurrentHashMap.newKeySet()).add(key);
+			return study;
+		});
+		if (!persons.containsKey(personId) || !professions.containsKey(professionId)) {
+			// The person's or the profession's cascade may have run before the study was indexed
+			studies.computeIfPresent(studyKey, (key, stored) -> {
+				if (stored != study) {
+					return stored;
+				}
+				removeFromIndex(studiesByPerson, personId, key);
+				removeFromIndex(studiesByProfession, professionId, key);
+				return null;
+			});
+			requirePerson(personId);
+			requireProfession(professionId);
+		}
+		return study;
+	}
+
+	public boolean deleteStudy(Integer personId, Integer professionId) {
+		return deleteStudy(studyKey(personId, professionId));
+	}
+
+	public Study findStudy(Integer personId, Integer professionId) {
+		return studies.get(studyKey(personId, professionId));
+	}
+
+	public List<Study> findStudies() {
+		return new ArrayList<>(studies.values());
+	}
+
+	public List<Study> findStudiesByPerson(Integer personId) {
+		return findStudiesByKeys(studiesByPerson.get(personId));
+	}
+
+	public List<Study> findStudiesByProfession(Integer professionId) {
+		return findStudiesByKeys(studiesByProfession.get(professionId));
+	}
+
+	public List<Study> findStudiesAfter(Integer afterProfessionId, Integer afterPersonId, int limit) {
+		Comparator<Study> order = Comparator.comparingInt(Study::getProfessionId).thenComparingInt(Study::getPersonId);
+		return studies.values().stream()
+				.filter(study -> afterProfessionId == null || study.getProfessionId() > afterProfessionId
+						|| (study.getProfessionId() == afterProfessionId && study.getPersonId() > afterPersonId))
+				.sorted(order)
+				.limit(limit)
+				.collect(Collectors.toList());
+	}
+
+	public long countStudies() {
+		return studies.size();
+	}
+
+	// ---- internals ----
+
+	private void requirePerson(int cc) {
+		if (!persons.containsKey(cc)) {
+			throw new IllegalArgumentException("Person " + cc + " does not exist");
+		}
+	}
+
+	private void requireProfession(int id) {
+		if (!professions.containsKey(id)) {
+			throw new IllegalArgumentException("Profession " + id + " does not exist");
+		}
+	}
+
+	private boolean deleteStudy(Long studyKey) {
+		boolean[] removed = new boolean[1];
+		studies.computeIfPresent(studyKey, (key, previous) -> {
+			removeFromIndex(studiesByPerson, previous.getPersonId(), key);
+			removeFromIndex(studiesByProfession, previous.getProfessionId(), key);
+			removed[0] = true;
+			return null;
+		});
+		return removed[0];
+	}
+
+	private List<Study> findStudiesByKeys(Set<Long> keys) {
+		if (keys == null) {
+			return Collections.emptyList();
+		}
+		List<Study> result = new ArrayList<>(keys.size());
+		for (Long key : keys) {
+			Study stored = studies.get(key);
+			if (stored != null) {
+				result.add(stored);
+			}
+		}
+		return result;
+	}
+
+	/** Packs the (person, profession) composite key into a single long. */
+	static long studyKey(Integer personId, Integer professionId) {
+		return ((long) personId << 32) | (professionId & 0xFFFFFFFFL);
+	}
+
+	private static <K, V> void removeFromIndex(ConcurrentHashMap<K, Set<V>> index, K indexKey, V value) {
+		index.computeIfPresent(indexKey, (key, values) -> {
+			values.remove(value);
+			return values.isEmpty() ? null : values;
+		});
+	}
+
+	private static <V> Set<V> snapshot(Set<V> values) {
+		return values != null ? Set.copyOf(values) : Collections.emptySet();
+	}
+
+	private List<Person> withRelations(Map<Integer, Person> source) {
+		List<Person> result = new ArrayList<>(source.size());
+		for (Person stored : source.values()) {
+			result.add(withRelations(stored));
+		}
+		return result;
+	}
+
+	private Person withRelations(Person stored) {
+		return new Person(stored.getIdentification(), stored.getFirstName(), stored.getLastName(),
+				stored.getGender(), stored.getAge(), findPhonesByOwner(stored.getIdentification()),
+				findStudiesByPerson(stored.getIdentification()));
+	}
+
+	// Skips the phone and study index lookups of withRelations
+	private static PersonSummary summaryOf(Person stored) {
+		return new PersonSummary(stored.getIdentification(), stored.getFirstName(), stored.getLastName(),
+				stored.getGender(), stored.getAge());
+	}
+
+	// Phones and studies are kept in their own maps
+	private static Person flat(Person person) {
+		if (person.getPhoneNumbers().isEmpty() && person.getStudies().isEmpty()) {
+			return person;
+		}
+		return new Person(person.getIdentification(), person.getFirstName(), person.getLastName(),
+				person.getGender(), person.getAge(), null, null);
+	}
+}
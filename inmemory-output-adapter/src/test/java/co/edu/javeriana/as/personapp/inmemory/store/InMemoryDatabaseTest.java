@@ -0,0 +1,150 @@
+package co.edu.javeriana.as.personapp.inmemory.store;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import co.edu.javeriana.as.personapp.domain.Gender;
+import co.edu.javeriana.as.personapp.domain.Person;
+import co.edu.javeriana.as.personapp.domain.Phone;
+import co.edu.javeriana.as.personapp.domain.Profession;
+import co.edu.javeriana.as.personapp.domain.Study;
+
+class InMemoryDatabaseTest {
+
+    private InMemoryDatabase database;
+
+    @BeforeEach
+    void setUp() {
+        database = new InMemoryDatabase();
+        database.savePerson(person(1));
+        database.savePerson(person(2));
+        database.saveProfession(new Profession(10, "Ingeniero", null));
+        database.saveProfession(new Profession(20, "Medico", null));
+    }
+
+    private static Person person(int cc) {
+        return new Person(cc, "Nombre" + cc, "Apellido" + cc, Gender.FEMALE, 30, null, null);
+    }
+
+    private static Phone phone(String number, int ownerId) {
+        return new Phone(number, "Claro", ownerId);
+    }
+
+    private static Study study(int personId, int professionId) {
+        return new Study(personId, professionId, LocalDate.of(2020, 6, 1), "Javeriana");
+    }
+
+    private List<String> phonesOf(int ownerId) {
+        return database.findPhonesByOwner(ownerId).stream().map(Phone::getNumber).sorted()
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void aPhoneMovedToAnotherOwnerLeavesTheFormerOwnersIndex() {
+        database.savePhone(phone("300", 1));
+        database.savePhone(phone("301", 1));
+
+        database.savePhone(phone("300", 2));
+
+        assertEquals(List.of("301"), phonesOf(1));
+        assertEquals(List.of("300"), phonesOf(2));
+    }
+
+    @Test
+    void deletingAPhoneRemovesItFromItsOwner() {
+        database.savePhone(phone("300", 1));
+
+        assertTrue(database.deletePhone("300"));
+
+        assertTrue(phonesOf(1).isEmpty());
+        assertFalse(database.deletePhone("300"));
+    }
+
+    @Test
+    void deletingAPersonDeletesItsPhonesAndStudies() {
+        database.savePhone(phone("300", 1));
+        database.savePhone(phone("400", 2));
+        database.saveStudy(study(1, 10));
+        database.saveStudy(study(2, 10));
+
+        assertTrue(database.deletePerson(1));
+
+        assertNull(database.findPhone("300"));
+        assertNull(database.findStudy(1, 10));
+        assertEquals(List.of("400"), phonesOf(2));
+        assertEquals(List.of(study(2, 10)), database.findStudiesByProfession(10));
+        assertEquals(1, database.countPhones());
+        assertEquals(1, database.countStudies());
+    }
+
+    @Test
+    void deletingAProfessionDeletesItsStudiesFromEachPerson() {
+        database.saveStudy(study(1, 10));
+        database.saveStudy(study(1, 20));
+
+        assertTrue(database.deleteProfession(10));
+
+        assertEquals(List.of(study(1, 20)), database.findStudiesByPerson(1));
+        assertTrue(database.findStudiesByProfession(10).isEmpty());
+    }
+
+    @Test
+    void aPhoneOrStudyOfAMissingParentIsRejectedAndNotIndexed() {
+        assertThrows(IllegalArgumentException.class, () -> database.savePhone(phone("300", 99)));
+        assertThrows(IllegalArgumentException.class, () -> database.saveStudy(study(99, 10)));
+        assertThrows(IllegalArgumentException.class, () -> database.saveStudy(study(1, 99)));
+
+        assertEquals(0, database.countPhones());
+        assertEquals(0, database.countStudies());
+        assertTrue(database.findPhonesByOwner(99).isEmpty());
+        assertTrue(database.findStudiesByPerson(1).isEmpty());
+    }
+
+    @Test
+    void childSavesRacingTheDeleteOfTheirPersonLeaveNoOrphans() throws Exception {
+        for (int round = 0; round < 500; round++) {
+            database.savePerson(person(3));
+            CyclicBarrier start = new CyclicBarrier(2);
+            String number = "310" + round;
+            CompletableFuture<Void> saves = CompletableFuture.runAsync(() -> {
+                await(start);
+                try {
+                    database.savePhone(phone(number, 3));
+                    database.saveStudy(study(3, 10));
+                } catch (IllegalArgumentException e) {
+                    // The delete won
+                }
+            });
+            await(start);
+            database.deletePerson(3);
+            saves.get(5, TimeUnit.SECONDS);
+
+            assertNull(database.findPhone(number), "round " + round);
+            assertNull(database.findStudy(3, 10), "round " + round);
+            assertTrue(database.findPhonesByOwner(3).isEmpty(), "round " + round);
+            assertTrue(database.findStudiesByPerson(3).isEmpty(), "round " + round);
+        }
+        assertEquals(List.of(), database.findStudiesByProfession(10));
+    }
+
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await(5, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package co.edu.javeriana.as.personapp.mariadb.adapter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import co.edu.javeriana.as.personapp.application.port.out.BatchItemResult;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Chunking shared by the adapters' saveAll: each chunk is upserted in its own
+ * transaction, and a chunk that fails is replayed item by item so only the
+ * offending items are reported failed.
+ */
+@Slf4j
+final class ChunkedUpsert {
+
+	private ChunkedUpsert() {
+	}
+
+	static <T> List<BatchItemResult<T>> run(TransactionTemplate transaction, Collection<T> items, int chunkSize,
+			Function<List<T>, List<BatchItemResult<T>>> upsert) {
+		List<BatchItemResult<T>> results = new ArrayList<>(items.size());
+		List<T> chunk = new ArrayList<>(chunkSize);
+		for (T item : items) {
+			chunk.add(item);
+			if (chunk.size() == chunkSize) {
+				results.addAll(runChunk(transaction, chunk, upsert));
+				chunk.clear();
+			}
+		}
+		if (!chunk.isEmpty()) {
+			results.addAll(runChunk(transaction, chunk, upsert));
+		}
+		return results;
+	}
+
+	private static <T> List<BatchItemResult<T>> runChunk(TransactionTemplate transaction, List<T> chunk,
+			Function<List<T>, List<BatchItemResult<T>>> upsert) {
+		try {
+			return transaction.execute(status -> upsert.apply(chunk));
+		} catch (RuntimeException e) {
+			log.warn("Batch of {} items failed, retrying one by one: {}", chunk.size(), e.getMessage());
+			List<BatchItemResult<T>> results = new ArrayList<>(chunk.size());
+			for (T item : chunk) {
+				try {
+					results.addAll(transaction.execute(status -> upsert.apply(List.of(item))));
+				} catch (RuntimeException itemError) {
+					results.add(BatchItemResult.failed(item,
+							NestedExceptionUtils.getMostSpecificCause(itemError).getMessage()));
+				}
+			}
+			return results;
+		}
+	}
+}
@@ -0,0 +1,117 @@
+package co.edu.javeriana.as.personapp.mariadb.adapter;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Query;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import co.edu.javeriana.as.personapp.application.port.out.PersonOutboxEntry;
+import co.edu.javeriana.as.personapp.application.port.out.PersonOutboxPort;
+import co.edu.javeriana.as.personapp.common.annotations.Adapter;
+import co.edu.javeriana.as.personapp.mariadb.entity.PersonaOutboxEntity;
+import co.edu.javeriana.as.personapp.mariadb.repository.PersonaOutboxRepositoryMaria;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Outbox table next to persona. {@link #record} runs the person write and the
+ * outbox INSERT in one transaction, which the MariaDB person adapter joins, so
+ * a person change is committed together with its outbox row or not at all.
+ * The exception is saveAll, which commits its own chunks; its rows are
+ * inserted once it returns.
+ */
+@Slf4j
+@Adapter("personOutboxAdapterMaria")
+@Transactional
+public class PersonOutboxAdapterMaria implements PersonOutboxPort {
+
+	// Rows per multi-row INSERT
+	static final int INSERT_BATCH_SIZE = 500;
+
+	@Autowired
+	private PersonaOutboxRepositoryMaria personaOutboxRepositoryMaria;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	public <T> T record(Supplier<T> write, Collection<Long> ccs) {
+		T result = write.get();
+		log.debug("Into record on Outbox Adapter MariaDB with {} persons", ccs.size());
+		insert(new ArrayList<>(ccs));
+		return result;
+	}
+
+	// IDENTITY ids rule out JDBC batching through persist, so the rows are inserted with one statement per chunk
+	private void insert(List<Long> ccs) {
+		Timestamp now = Timestamp.from(Instant.now());
+		for (int from = 0; from < ccs.size(); from += INSERT_BATCH_SIZE) {
+			List<Long> chunk = ccs.subList(from, Math.min(from + INSERT_BATCH_SIZE, ccs.size()));
+			StringBuilder sql = new StringBuilder(
+					"INSERT INTO persona_db.persona_outbox (cc, creado, intentos, proximo_intento) VALUES ");
+			for (int i = 0; i < chunk.size(); i++) {
+				sql.append(i == 0 ? "" : ", ").append("(?, ?, 0, ?)");
+			}
+			Query insert = entityManager.createNativeQuery(sql.toString());
+			int position = 1;
+			for (Long cc : chunk) {
+				insert.setParameter(position++, cc.intValue());
+				insert.setParameter(position++, now);
+				insert.setParameter(position++, now);
+			}
+			insert.executeUpdate();
+		}
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public List<PersonOutboxEntry> findDue(Instant now, int limit) {
+		return personaOutboxRepositoryMaria.findByProximoIntentoLessThanEqualOrderByIdAsc(now, PageRequest.of(0, limit))
+				.stream().map(PersonOutboxAdapterMaria::toEntry).collect(Collectors.toList());
+	}
+
+	@Override
+	public void remove(Collection<String> ids) {
+		personaOutboxRepositoryMaria.deleteByIdIn(toLongs(ids));
+	}
+
+	@Override
+	public void retryLater(Collection<String> ids, Instant nextAttempt, String error) {
+		personaOutboxRepositoryMaria.retryLater(toLongs(ids), nextAttempt, truncate(error));
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Instant oldestCreatedAt() {
+		return personaOutboxRepositoryMaria.findOldestCreado();
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Long count() {
+		return personaOutboxRepositoryMaria.count();
+	}
+
+	private static PersonOutboxEntry toEntry(PersonaOutboxEntity entity) {
+		return new PersonOutboxEntry(entity.getId().toString(), entity.getCc().longValue(), entity.getCreado(),
+				entity.getIntentos());
+	}
+
+	private static List<Long> toLongs(Collection<String> ids) {
+		return ids.stream().map(Long::valueOf).collect(Collectors.toList());
+	}
+
+	private static String truncate(String error) {
+		return error != null && error.length() > 255 ? error.substring(0, 255) : error;
+	}
+}
@@ -1,20 +1,39 @@
 package co.edu.javeriana.as.personapp.mariadb.adapter;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
-
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.EntityTransaction;
+import javax.persistence.PersistenceContext;
+import javax.persistence.PersistenceUnit;
 import javax.transaction.Transactional;
 
+import org.hibernate.jpa.QueryHints;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import co.edu.javeriana.as.personapp.application.port.out.BatchItemResult;
 import co.edu.javeriana.as.personapp.application.port.out.PersonOutputPort;
 import co.edu.javeriana.as.personapp.common.annotations.Adapter;
 import co.edu.javeriana.as.personapp.domain.Person;
+import co.edu.javeriana.as.personapp.domain.PersonSummary;
 import co.edu.javeriana.as.personapp.mariadb.entity.PersonaEntity;
 import co.edu.javeriana.as.personapp.mariadb.mapper.PersonaMapperMaria;
+import co.edu.javeriana.as.personapp.mariadb.repository.EstudiosRepositoryMaria;
 import co.edu.javeriana.as.personapp.mariadb.repository.PersonaRepositoryMaria;
+import co.edu.javeriana.as.personapp.mariadb.repository.PersonaSummaryMaria;
+import co.edu.javeriana.as.personapp.mariadb.repository.TelefonoRepositoryMaria;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -25,9 +44,29 @@ public class PersonOutputAdapterMaria implements PersonOutputPort {
 	@Autowired
 	private PersonaRepositoryMaria personaRepositoryMaria;
 
+	@Autowired
+	private TelefonoRepositoryMaria telefonoRepositoryMaria;
+
+	@Autowired
+	private EstudiosRepositoryMaria estudiosRepositoryMaria;
+
 	@Autowired
 	private PersonaMapperMaria personaMapperMaria;
 
+	@PersistenceUnit
+	private EntityManagerFactory entityManagerFactory;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	static final int STREAM_FETCH_SIZE = 500;
+
+	// Matches spring.jpa.properties.hibernate.jdbc.batch_size
+	static final int SAVE_BATCH_SIZE = 500;
+
 	@Override
 	public Person save(Person person) {
 		log.debug("Into save on Adapter MariaDB");
@@ -35,18 +74,64 @@ public class PersonOutputAdapterMaria implements PersonOutputPort {
 		return personaMapperMaria.fromAdapterToDomain(persistedPersona);
 	}
 
+	/**
+	 * Upserts in chunks of {@link #SAVE_BATCH_SIZE}, one transaction each.
+	 * Existing rows of a chunk are loaded with a single IN query, so unlike
+	 * {@link #save(Person)} no per-row SELECT is issued, and the resulting
+	 * INSERTs and UPDATEs go out as JDBC batches. If a chunk fails it is
+	 * replayed row by row so only the offending persons are reported failed.
+	 */
+	@Override
+	@Transactional(Transactional.TxType.NOT_SUPPORTED)
+	public List<BatchItemResult<Person>> saveAll(Collection<Person> persons) {
+		log.debug("Into saveAll on Adapter MariaDB with {} persons", persons.size());
+		return ChunkedUpsert.run(new TransactionTemplate(transactionManager), persons, SAVE_BATCH_SIZE, this::upsert);
+	}
+
+	private List<BatchItemResult<Person>> upsert(List<Person> chunk) {
+		Set<Integer> ids = chunk.stream().map(Person::getIdentification).collect(Collectors.toSet());
+		Map<Integer, PersonaEntity> managed = new HashMap<>();
+		for (PersonaEntity existing : personaRepositoryMaria.findAllById(ids)) {
+			managed.put(existing.getCc(), existing);
+		}
+		List<BatchItemResult<Person>> results = new ArrayList<>(chunk.size());
+		for (Person person : chunk) {
+			PersonaEntity incoming = personaMapperMaria.fromDomainToAdapter(person);
+			PersonaEntity entity = managed.get(incoming.getCc());
+			if (entity == null) {
+				entityManager.persist(incoming);
+				managed.put(incoming.getCc(), incoming);
+			} else {
+				// Managed entity: dirty checking turns this into a batched UPDATE
+				entity.setNombre(incoming.getNombre());
+				entity.setApellido(incoming.getApellido());
+				entity.setGenero(incoming.getGenero());
+				entity.setEdad(incoming.getEdad());
+			}
+			results.add(BatchItemResult.saved(person));
+		}
+		entityManager.flush();
+		return results;
+	}
+
+	/**
+	 * The schema has no ON DELETE CASCADE, so phones and studies are removed
+	 * first with one bulk DELETE each; nothing is loaded, and the row count of
+	 * the person DELETE tells whether the person existed.
+	 */
 	@Override
 	public Boolean delete(Long cc) {
 		log.debug("Into delete on Adapter MariaDB");
-		personaRepositoryMaria.deleteById(cc.intValue());
-		return personaRepositoryMaria.findById(cc.intValue()).isEmpty();
+		telefonoRepositoryMaria.deleteByDuenioCc(cc.intValue());
+		estudiosRepositoryMaria.deleteByCcPer(cc.intValue());
+		return personaRepositoryMaria.deleteByCcReturningCount(cc.intValue()) > 0;
 	}
 
 	@Override
 	public List<Person> findAll() {
 		log.debug("Into findAll on Adapter MariaDB");
 		try {
-			return personaRepositoryMaria.findAll().stream().map(personaMapperMaria::fromAdapterToDomain)
+			return personaRepositoryMaria.findAllWithTelefonos().stream().map(personaMapperMaria::fromAdapterToDomain)
 					.collect(Collectors.toList());
 		} catch (Exception e) {
 			log.error("Error mapping data from MariaDB: " + e.getMessage(), e);
@@ -54,19 +139,97 @@ public class PersonOutputAdapterMaria implements PersonOutputPort {
 		}
 	}
 
+	@Override
+	public List<Person> findPage(Integer after, Integer limit) {
+		log.debug("Into findPage on Adapter MariaDB after {} limit {}", after, limit);
+		PageRequest page = PageRequest.of(0, limit);
+		List<PersonaEntity> personas = after == null ? personaRepositoryMaria.findAllByOrderByCcAsc(page)
+				: personaRepositoryMaria.findByCcGreaterThanOrderByCcAsc(after, page);
+		return personas.stream().map(personaMapperMaria::fromAdapterToDomain).collect(Collectors.toList());
+	}
+
 	@Override
 	public Person findById(Long cc) {
 		log.debug("Into findById on Adapter MariaDB");
 		try {
-			if (personaRepositoryMaria.findById(cc.intValue()).isEmpty()) {
-				return null;
-			} else {
-				return personaMapperMaria.fromAdapterToDomain(personaRepositoryMaria.findById(cc.intValue()).get());
-			}
+			return personaRepositoryMaria.findWithTelefonosByCc(cc.intValue()).map(personaMapperMaria::fromAdapterToDomain)
+					.orElse(null);
 		} catch (Exception e) {
 			log.error("Error finding person by ID in MariaDB: " + e.getMessage(), e);
 			return null;
 		}
 	}
 
+	@Override
+	public List<PersonSummary> findAllSummaries() {
+		log.debug("Into findAllSummaries on Adapter MariaDB");
+		return personaRepositoryMaria.findSummariesByOrderByCcAsc().stream()
+				.map(personaMapperMaria::fromAdapterToSummary).collect(Collectors.toList());
+	}
+
+	@Override
+	public List<PersonSummary> findSummaryPage(Integer after, Integer limit) {
+		log.debug("Into findSummaryPage on Adapter MariaDB after {} limit {}", after, limit);
+		PageRequest page = PageRequest.of(0, limit);
+		List<PersonaSummaryMaria> personas = after == null ? personaRepositoryMaria.findSummariesByOrderByCcAsc(page)
+				: personaRepositoryMaria.findSummariesByCcGreaterThanOrderByCcAsc(after, page);
+		return personas.stream().map(personaMapperMaria::fromAdapterToSummary).collect(Collectors.toList());
+	}
+
+	@Override
+	public List<PersonSummary> findSummariesById(Collection<Long> ccs) {
+		log.debug("Into findSummariesById on Adapter MariaDB with {} ids", ccs.size());
+		List<Integer> ids = ccs.stream().map(Long::intValue).collect(Collectors.toList());
+		return personaRepositoryMaria.findSummariesByCcIn(ids).stream().map(personaMapperMaria::fromAdapterToSummary)
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Streams from a forward-only cursor on a dedicated read-only
+	 * EntityManager that lives until the stream is closed, so the caller may
+	 * consume it after this method (and any surrounding transaction) returns.
+	 * Phones are join-fetched, rows are ordered by cc so Hibernate can group
+	 * them per person, and each entity is detached once mapped to keep the
+	 * persistence context from growing with the table.
+	 */
+	@Override
+	@Transactional(Transactional.TxType.NOT_SUPPORTED)
+	public Stream<Person> streamAll() {
+		log.debug("Into streamAll on Adapter MariaDB");
+		EntityManager entityManager = entityManagerFactory.createEntityManager();
+		EntityTransaction transaction = entityManager.getTransaction();
+		try {
+			transaction.begin();
+			Stream<PersonaEntity> personas = entityManager
+					.createQuery("SELECT p FROM PersonaEntity p LEFT JOIN FETCH p.telefonos ORDER BY p.cc",
+							PersonaEntity.class)
+					.setHint(QueryHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+					.setHint(QueryHints.HINT_READONLY, true)
+					.getResultStream();
+			return personas.map(persona -> {
+				Person person = personaMapperMaria.fromAdapterToDomain(persona);
+				entityManager.detach(persona);
+				return person;
+			}).onClose(() -> close(entityManager, transaction));
+		} catch (RuntimeException e) {
+			close(entityManager, transaction);
+			throw e;
+		}
+	}
+
+	private void close(EntityManager entityManager, EntityTransaction transaction) {
+		try {
+			if (transaction.isActive()) {
+				transaction.rollback();
+			}
+		} finally {
+			entityManager.close();
+		}
+	}
+
+	@Override
+	public Long count() {
+		log.debug("Into count on Adapter MariaDB");
+		return personaRepositoryMaria.count();
+	}
 }
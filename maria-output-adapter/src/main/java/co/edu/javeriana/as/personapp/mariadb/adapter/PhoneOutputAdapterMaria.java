@@ -1,16 +1,30 @@
 package co.edu.javeriana.as.personapp.mariadb.adapter;
 
+import co.edu.javeriana.as.personapp.application.port.out.BatchItemResult;
 import co.edu.javeriana.as.personapp.application.port.out.PhoneOutputPort;
 import co.edu.javeriana.as.personapp.common.annotations.Adapter;
 import co.edu.javeriana.as.personapp.domain.Phone;
+import co.edu.javeriana.as.personapp.mariadb.entity.PersonaEntity;
 import co.edu.javeriana.as.personapp.mariadb.entity.TelefonoEntity;
 import co.edu.javeriana.as.personapp.mariadb.mapper.TelefonoMapperMaria;
 import co.edu.javeriana.as.personapp.mariadb.repository.TelefonoRepositoryMaria;
+import co.edu.javeriana.as.personapp.mariadb.repository.TelefonoRowMaria;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Adapter("phoneOutputAdapterMaria")
@@ -23,6 +37,15 @@ public class PhoneOutputAdapterMaria implements PhoneOutputPort {
     @Autowired
     private TelefonoMapperMaria telefonoMapperMaria;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // Matches spring.jpa.properties.hibernate.jdbc.batch_size
+    static final int SAVE_BATCH_SIZE = 500;
+
     @Override
     public Phone save(Phone phone) {
         TelefonoEntity telefonoEntity = telefonoMapperMaria.fromDomainToAdapter(phone);
@@ -30,10 +53,44 @@ public class PhoneOutputAdapterMaria implements PhoneOutputPort {
         return telefonoMapperMaria.fromAdapterToDomain(savedEntity);
     }
 
+    /**
+     * Upserts in chunks of {@link #SAVE_BATCH_SIZE}, one transaction each.
+     * Owners are set as references, so no persona row is read; a missing
+     * owner fails the chunk on the foreign key and is then reported per phone.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BatchItemResult<Phone>> saveAll(Collection<Phone> phones) {
+        return ChunkedUpsert.run(new TransactionTemplate(transactionManager), phones, SAVE_BATCH_SIZE, this::upsert);
+    }
+
+    private List<BatchItemResult<Phone>> upsert(List<Phone> chunk) {
+        Set<String> numbers = chunk.stream().map(Phone::getNumber).collect(Collectors.toSet());
+        Map<String, TelefonoEntity> managed = new HashMap<>();
+        for (TelefonoEntity existing : telefonoRepositoryMaria.findAllById(numbers)) {
+            managed.put(existing.getNum(), existing);
+        }
+        List<BatchItemResult<Phone>> results = new ArrayList<>(chunk.size());
+        for (Phone phone : chunk) {
+            PersonaEntity owner = entityManager.getReference(PersonaEntity.class, phone.getOwnerId());
+            TelefonoEntity entity = managed.get(phone.getNumber());
+            if (entity == null) {
+                entity = new TelefonoEntity(phone.getNumber(), phone.getCompany(), owner);
+                entityManager.persist(entity);
+                managed.put(entity.getNum(), entity);
+            } else {
+                entity.setOperador(phone.getCompany());
+                entity.setDuenio(owner);
+            }
+            results.add(BatchItemResult.saved(phone));
+        }
+        entityManager.flush();
+        return results;
+    }
+
     @Override
     public Boolean delete(String number) {
-        telefonoRepositoryMaria.deleteById(number);
-        return telefonoRepositoryMaria.findById(number).isEmpty();
+        return telefonoRepositoryMaria.deleteByNumReturningCount(number) > 0;
     }
 
     @Override
@@ -43,6 +100,14 @@ public class PhoneOutputAdapterMaria implements PhoneOutputPort {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Phone> findPage(String after, Integer limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        List<TelefonoRowMaria> rows = after == null ? telefonoRepositoryMaria.findRows(page)
+                : telefonoRepositoryMaria.findRowsAfter(after, page);
+        return rows.stream().map(PhoneOutputAdapterMaria::toDomain).collect(Collectors.toList());
+    }
+
     @Override
     public Phone findById(String number) {
         Optional<TelefonoEntity> optionalTelefonoEntity = telefonoRepositoryMaria.findById(number);
@@ -54,4 +119,13 @@ public class PhoneOutputAdapterMaria implements PhoneOutputPort {
         List<TelefonoEntity> telefonoEntities = telefonoRepositoryMaria.findByDuenio_Cc(personId);
         return telefonoMapperMaria.fromAdapterListToDomainList(telefonoEntities);
     }
-} 
\ No newline at end of file
+
+    @Override
+    public Long count() {
+        return telefonoRepositoryMaria.count();
+    }
+
+    private static Phone toDomain(TelefonoRowMaria row) {
+        return new Phone(row.getNum(), row.getOperador(), row.getDuenio());
+    }
+}
@@ -1,9 +1,20 @@
 package co.edu.javeriana.as.personapp.mariadb.adapter;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
 import javax.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import co.edu.javeriana.as.personapp.application.port.out.BatchItemResult;
 import co.edu.javeriana.as.personapp.application.port.out.ProfessionOutputPort;
 import co.edu.javeriana.as.personapp.common.annotations.Adapter;
 import co.edu.javeriana.as.personapp.domain.Profession;
@@ -23,6 +34,15 @@ public class ProfessionOutputAdapterMaria implements ProfessionOutputPort {
     @Autowired
     private ProfesionMapperMaria profesionMapperMaria;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // Matches spring.jpa.properties.hibernate.jdbc.batch_size
+    static final int SAVE_BATCH_SIZE = 500;
+
     @Override
     public Profession save(Profession profession) {
         log.debug("Into save Profession in MariaDB Adapter");
@@ -31,6 +51,41 @@ public class ProfessionOutputAdapterMaria implements ProfessionOutputPort {
         return profesionMapperMaria.fromAdapterToDomain(persistedProfesion);
     }
 
+    /**
+     * Upserts in chunks of {@link #SAVE_BATCH_SIZE}, one transaction each,
+     * loading the chunk's existing rows with a single IN query.
+     */
+    @Override
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public List<BatchItemResult<Profession>> saveAll(Collection<Profession> professions) {
+        log.debug("Into saveAll Profession in MariaDB Adapter with {} professions", professions.size());
+        return ChunkedUpsert.run(new TransactionTemplate(transactionManager), professions, SAVE_BATCH_SIZE,
+                this::upsert);
+    }
+
+    private List<BatchItemResult<Profession>> upsert(List<Profession> chunk) {
+        Set<Integer> ids = chunk.stream().map(Profession::getIdentification).collect(Collectors.toSet());
+        Map<Integer, ProfesionEntity> managed = new HashMap<>();
+        for (ProfesionEntity existing : profesionRepositoryMaria.findAllById(ids)) {
+            managed.put(existing.getId(), existing);
+        }
+        List<BatchItemResult<Profession>> results = new ArrayList<>(chunk.size());
+        for (Profession profession : chunk) {
+            ProfesionEntity incoming = profesionMapperMaria.fromDomainToAdapter(profession);
+            ProfesionEntity entity = managed.get(incoming.getId());
+            if (entity == null) {
+                entityManager.persist(incoming);
+                managed.put(incoming.getId(), incoming);
+            } else {
+                entity.setNombre(incoming.getNombre());
+                entity.setDescripcion(incoming.getDescripcion());
+            }
+            results.add(BatchItemResult.saved(profession));
+        }
+        entityManager.flush();
+        return results;
+    }
+
     @Override
     public Boolean delete(Integer identification) {
         log.debug("Into delete Profession in MariaDB Adapter");
@@ -46,6 +101,15 @@ public class ProfessionOutputAdapterMaria implements ProfessionOutputPort {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Profession> findPage(Integer after, Integer limit) {
+        log.debug("Into findPage Profession in MariaDB Adapter after {} limit {}", after, limit);
+        PageRequest page = PageRequest.of(0, limit);
+        List<ProfesionEntity> profesiones = after == null ? profesionRepositoryMaria.findAllByOrderByIdAsc(page)
+                : profesionRepositoryMaria.findByIdGreaterThanOrderByIdAsc(after, page);
+        return profesiones.stream().map(profesionMapperMaria::fromAdapterToDomain).collect(Collectors.toList());
+    }
+
     @Override
     public Profession findById(Integer identification) {
         log.debug("Into findById Profession in MariaDB Adapter");
@@ -53,4 +117,10 @@ public class ProfessionOutputAdapterMaria implements ProfessionOutputPort {
                 .map(profesionMapperMaria::fromAdapterToDomain)
                 .orElse(null);
     }
-} 
\ No newline at end of file
+
+    @Override
+    public Long count() {
+        log.debug("Into count Profession in MariaDB Adapter");
+        return profesionRepositoryMaria.count();
+    }
+}
@@ -1,19 +1,35 @@
 package co.edu.javeriana.as.personapp.mariadb.adapter;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
 import javax.transaction.Transactional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import co.edu.javeriana.as.personapp.application.port.out.BatchItemResult;
 import co.edu.javeriana.as.personapp.application.port.out.StudyOutputPort;
 import co.edu.javeriana.as.personapp.common.annotations.Adapter;
 import co.edu.javeriana.as.personapp.domain.Study;
 import co.edu.javeriana.as.personapp.mariadb.entity.EstudiosEntity;
 import co.edu.javeriana.as.personapp.mariadb.entity.EstudiosEntityPK;
+import co.edu.javeriana.as.personapp.mariadb.entity.PersonaEntity;
+import co.edu.javeriana.as.personapp.mariadb.entity.ProfesionEntity;
 import co.edu.javeriana.as.personapp.mariadb.mapper.EstudiosMapperMaria;
 import co.edu.javeriana.as.personapp.mariadb.repository.EstudiosRepositoryMaria;
+import co.edu.javeriana.as.personapp.mariadb.repository.EstudiosRowMaria;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -29,19 +45,64 @@ public class StudyOutputAdapterMaria implements StudyOutputPort {
     @Autowired
     private EstudiosMapperMaria estudiosMapperMaria;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // Matches spring.jpa.properties.hibernate.jdbc.batch_size
+    static final int SAVE_BATCH_SIZE = 500;
+
     @Override
     public Study save(Study study) {
         log.debug("Into save StudyOutputAdapterMaria for study of person {} and profession {}", 
-            study.getPerson().getIdentification(), study.getProfession().getIdentification());
+            study.getPersonId(), study.getProfessionId());
         EstudiosEntity estudiosEntity = estudiosMapperMaria.fromDomainToAdapter(study);
         estudiosRepositoryMaria.save(estudiosEntity);
         return study; // Return the original domain object as it reflects the saved state
     }
 
+    /**
+     * Upserts in chunks of {@link #SAVE_BATCH_SIZE}, one transaction each.
+     * The persona and profesion are set as references, so neither row is read.
+     */
+    @Override
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public List<BatchItemResult<Study>> saveAll(Collection<Study> studies) {
+        return ChunkedUpsert.run(new TransactionTemplate(transactionManager), studies, SAVE_BATCH_SIZE, this::upsert);
+    }
+
+    private List<BatchItemResult<Study>> upsert(List<Study> chunk) {
+        Set<EstudiosEntityPK> keys = chunk.stream()
+                .map(study -> new EstudiosEntityPK(study.getProfessionId(), study.getPersonId()))
+                .collect(Collectors.toSet());
+        Map<EstudiosEntityPK, EstudiosEntity> managed = new HashMap<>();
+        for (EstudiosEntity existing : estudiosRepositoryMaria.findAllById(keys)) {
+            managed.put(existing.getEstudiosPK(), existing);
+        }
+        List<BatchItemResult<Study>> results = new ArrayList<>(chunk.size());
+        for (Study study : chunk) {
+            EstudiosEntity incoming = estudiosMapperMaria.fromDomainToAdapter(study);
+            EstudiosEntity entity = managed.get(incoming.getEstudiosPK());
+            if (entity == null) {
+                incoming.setPersona(entityManager.getReference(PersonaEntity.class, study.getPersonId()));
+                incoming.setProfesion(entityManager.getReference(ProfesionEntity.class, study.getProfessionId()));
+                entityManager.persist(incoming);
+                managed.put(incoming.getEstudiosPK(), incoming);
+            } else {
+                entity.setFecha(incoming.getFecha());
+                entity.setUniver(incoming.getUniver());
+            }
+            results.add(BatchItemResult.saved(study));
+        }
+        entityManager.flush();
+        return results;
+    }
+
     @Override
     public Boolean delete(Integer personId, Integer professionId) {
-        estudiosRepositoryMaria.deleteById(new EstudiosEntityPK(professionId, personId));
-        return estudiosRepositoryMaria.findById(new EstudiosEntityPK(professionId, personId)).isEmpty();
+        return estudiosRepositoryMaria.deleteByIdReturningCount(personId, professionId) > 0;
     }
 
     @Override
@@ -51,10 +112,43 @@ public class StudyOutputAdapterMaria implements StudyOutputPort {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Study> findPage(Integer afterProfessionId, Integer afterPersonId, Integer limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        List<EstudiosRowMaria> rows = afterProfessionId == null ? estudiosRepositoryMaria.findRows(page)
+                : estudiosRepositoryMaria.findRowsAfter(afterProfessionId, afterPersonId, page);
+        return rows.stream().map(StudyOutputAdapterMaria::toDomain).collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Study> findByPersonId(Integer personId) {
+        return estudiosRepositoryMaria.findByCcPer(personId).stream().map(StudyOutputAdapterMaria::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Study> findByProfessionId(Integer professionId) {
+        return estudiosRepositoryMaria.findByIdProf(professionId).stream().map(StudyOutputAdapterMaria::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Study findById(Integer personId, Integer professionId) {
         return estudiosRepositoryMaria.findById(new EstudiosEntityPK(professionId, personId))
                 .map(estudiosMapperMaria::fromAdapterToDomain)
                 .orElse(null);
     }
-} 
\ No newline at end of file
+
+    @Override
+    public Long count() {
+        return estudiosRepositoryMaria.count();
+    }
+
+    private static Study toDomain(EstudiosRowMaria row) {
+        return new Study(row.getCcPer(), row.getIdProf(), toLocalDate(row.getFecha()), row.getUniver());
+    }
+
+    private static LocalDate toLocalDate(Date fecha) {
+        return fecha != null ? new java.sql.Date(fecha.getTime()).toLocalDate() : null;
+    }
+}
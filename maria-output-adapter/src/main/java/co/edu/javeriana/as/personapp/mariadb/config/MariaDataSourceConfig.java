@@ -0,0 +1,94 @@
+package co.edu.javeriana.as.personapp.mariadb.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The MariaDB connection pool: URL and credentials come from
+ * {@code spring.datasource.*}, the pool and driver tuning from
+ * {@code personapp.maria.*}. The pool opens its connections on first use.
+ * Hibernate takes its dialect from
+ * {@code spring.jpa.properties.hibernate.dialect} instead of asking the
+ * database, so the applications still start without one.
+ */
+@Slf4j
+@Configuration
+public class MariaDataSourceConfig {
+
+    // Pool; the defaults are Hikari's
+    @Value("${personapp.maria.pool.max-size:10}")
+    private int poolMaxSize;
+
+    // Below max-size, idle connections above it are closed after idle-timeout
+    @Value("${personapp.maria.pool.min-idle:10}")
+    private int poolMinIdle;
+
+    // How long a request waits for a free connection before failing
+    @Value("${personapp.maria.pool.connection-timeout:30s}")
+    private Duration connectionTimeout;
+
+    @Value("${personapp.maria.pool.idle-timeout:10m}")
+    private Duration idleTimeout;
+
+    // Keep it below the server's wait_timeout
+    @Value("${personapp.maria.pool.max-lifetime:30m}")
+    private Duration maxLifetime;
+
+    @Value("${personapp.maria.pool.keepalive-time:0s}")
+    private Duration keepaliveTime;
+
+    // Logs the stack of a connection held longer than this; 0 disables it
+    @Value("${personapp.maria.pool.leak-detection-threshold:0s}")
+    private Duration leakDetectionThreshold;
+
+    // Driver (MariaDB Connector/J 3.x); the defaults are the driver's
+    @Value("${personapp.maria.driver.cache-prep-stmts:true}")
+    private boolean cachePrepStmts;
+
+    @Value("${personapp.maria.driver.prep-stmt-cache-size:250}")
+    private int prepStmtCacheSize;
+
+    @Value("${personapp.maria.driver.use-server-prep-stmts:false}")
+    private boolean useServerPrepStmts;
+
+    @Value("${personapp.maria.driver.use-bulk-stmts:true}")
+    private boolean useBulkStmts;
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("maria");
+        dataSource.setMaximumPoolSize(poolMaxSize);
+        dataSource.setMinimumIdle(poolMinIdle);
+        dataSource.setConnectionTimeout(connectionTimeout.toMillis());
+        dataSource.setIdleTimeout(idleTimeout.toMillis());
+        dataSource.setMaxLifetime(maxLifetime.toMillis());
+        dataSource.setKeepaliveTime(keepaliveTime.toMillis());
+        dataSource.setLeakDetectionThreshold(leakDetectionThreshold.toMillis());
+        dataSource.addDataSourceProperty("cachePrepStmts", String.valueOf(cachePrepStmts));
+        dataSource.addDataSourceProperty("prepStmtCacheSize", String.valueOf(prepStmtCacheSize));
+        dataSource.addDataSourceProperty("useServerPrepStmts", String.valueOf(useServerPrepStmts));
+        dataSource.addDataSourceProperty("useBulkStmts", String.valueOf(useBulkStmts));
+        // Publishes hikaricp.connections.active, .idle, .pending and the .acquire timer, tagged pool=maria
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+        }
+        log.info("MariaDB pool: {}..{} connections (timeout {}), server prepared statements {}", poolMinIdle,
+                poolMaxSize, connectionTimeout, useServerPrepStmts);
+        return dataSource;
+    }
+}
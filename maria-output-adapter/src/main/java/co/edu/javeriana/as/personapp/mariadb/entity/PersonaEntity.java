@@ -13,6 +13,8 @@ import javax.persistence.Table;
 import javax.persistence.NamedQueries;
 import javax.persistence.NamedQuery;
 
+import org.hibernate.annotations.BatchSize;
+
 /**
  *
  * @author aasanchez
@@ -42,7 +44,9 @@ public class PersonaEntity implements Serializable {
 	@Column(nullable = false)
 	private Character genero;
 	private Integer edad;
+	// Lazy phone lists of a page of persons are initialized together, up to 100 owners per query
 	@OneToMany(cascade = CascadeType.ALL, mappedBy = "duenio")
+	@BatchSize(size = 100)
 	private List<TelefonoEntity> telefonos;
 	@OneToMany(cascade = CascadeType.ALL, mappedBy = "persona")
 	private List<EstudiosEntity> estudios;
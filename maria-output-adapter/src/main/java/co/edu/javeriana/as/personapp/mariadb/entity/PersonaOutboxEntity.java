@@ -0,0 +1,43 @@
+package co.edu.javeriana.as.personapp.mariadb.entity;
+
+import java.time.Instant;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Pending replication of a persona row, see scripts/persona_ddl_maria.sql.
+ * Rows are inserted with a native multi-row INSERT, never through persist.
+ */
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "persona_outbox", catalog = "persona_db", schema = "")
+public class PersonaOutboxEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(nullable = false)
+	private Integer cc;
+
+	@Column(nullable = false)
+	private Instant creado;
+
+	@Column(nullable = false)
+	private Integer intentos;
+
+	@Column(name = "proximo_intento", nullable = false)
+	private Instant proximoIntento;
+
+	@Column(length = 255)
+	private String error;
+}
@@ -3,16 +3,11 @@ package co.edu.javeriana.as.personapp.mariadb.mapper;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
-import java.util.stream.Collectors;
-
-import org.springframework.beans.factory.annotation.Autowired;
 
 import co.edu.javeriana.as.personapp.common.annotations.Mapper;
-import co.edu.javeriana.as.personapp.domain.Gender;
-import co.edu.javeriana.as.personapp.domain.Person;
-import co.edu.javeriana.as.personapp.domain.Profession;
 import co.edu.javeriana.as.personapp.domain.Study;
 import co.edu.javeriana.as.personapp.mariadb.entity.EstudiosEntity;
 import co.edu.javeriana.as.personapp.mariadb.entity.EstudiosEntityPK;
@@ -22,50 +17,63 @@ import co.edu.javeriana.as.personapp.mariadb.entity.ProfesionEntity;
 @Mapper
 public class EstudiosMapperMaria {
 
-	@Autowired
-	private PersonaMapperMaria personaMapperMaria;
-
-	@Autowired
-	private ProfesionMapperMaria profesionMapperMaria;
-
 	public EstudiosEntity fromDomainToAdapter(Study study) {
 		EstudiosEntityPK estudioPK = new EstudiosEntityPK();
-		estudioPK.setCcPer(study.getPerson().getIdentification());
-		estudioPK.setIdProf(study.getProfession().getIdentification());
+		estudioPK.setCcPer(study.getPersonId());
+		estudioPK.setIdProf(study.getProfessionId());
 
 		EstudiosEntity estudiosEntity = new EstudiosEntity(estudioPK);
-		estudiosEntity.setFecha(study.getGraduationDate() != null ? Date.from(study.getGraduationDate().atStartOfDay(ZoneId.systemDefault()).toInstant()) : null);
+		estudiosEntity.setFecha(toDate(study.getGraduationDate()));
 		estudiosEntity.setUniver(study.getUniversityName());
-		
-		// Set related entities for FK relationship
-		PersonaEntity personaEntity = new PersonaEntity();
-		personaEntity.setCc(study.getPerson().getIdentification());
-		// Potentially fetch the full PersonaEntity if needed by ORM, but for FK only ID is usually enough
-		// personaEntity = personaRepositoryMaria.findById(study.getPerson().getIdentification()).orElse(null);
-		estudiosEntity.setPersona(personaEntity);
 
+		// Only the keys are needed for the FK relationships
+		estudiosEntity.setPersona(new PersonaEntity(study.getPersonId()));
 		ProfesionEntity profesionEntity = new ProfesionEntity();
-		profesionEntity.setId(study.getProfession().getIdentification());
-		// Potentially fetch the full ProfesionEntity if needed
-		// profesionEntity = profesionRepositoryMaria.findById(study.getProfession().getIdentification()).orElse(null);
+		profesionEntity.setId(study.getProfessionId());
 		estudiosEntity.setProfesion(profesionEntity);
-		
+
 		return estudiosEntity;
 	}
 
+	// The keys are enough, so neither the person nor the profession is loaded
 	public Study fromAdapterToDomain(EstudiosEntity estudiosEntity) {
-		Person person = personaMapperMaria.fromAdapterToDomain(estudiosEntity.getPersona());
-		Profession profession = profesionMapperMaria.fromAdapterToDomain(estudiosEntity.getProfesion());
-		LocalDate graduationDate = estudiosEntity.getFecha() != null ? new java.sql.Date(estudiosEntity.getFecha().getTime()).toLocalDate() : null;
-		return new Study(person, profession, graduationDate, estudiosEntity.getUniver());
+		EstudiosEntityPK estudioPK = estudiosEntity.getEstudiosPK();
+		return new Study(estudioPK.getCcPer(), estudioPK.getIdProf(), toLocalDate(estudiosEntity.getFecha()),
+				estudiosEntity.getUniver());
 	}
 
 	public List<Study> fromAdapterListToDomainList(List<EstudiosEntity> estudiosEntities) {
-		if (estudiosEntities == null) {
-			return new ArrayList<>();
+		if (estudiosEntities == null || estudiosEntities.isEmpty()) {
+			return Collections.emptyList();
+		}
+		List<Study> studies = new ArrayList<>(estudiosEntities.size());
+		for (int i = 0; i < estudiosEntities.size(); i++) {
+			studies.add(fromAdapterToDomain(estudiosEntities.get(i)));
+		}
+		return studies;
+	}
+
+	public List<EstudiosEntity> fromDomainListToAdapterList(List<Study> studies) {
+		if (studies == null || studies.isEmpty()) {
+			return Collections.emptyList();
+		}
+		List<EstudiosEntity> estudios = new ArrayList<>(studies.size());
+		for (int i = 0; i < studies.size(); i++) {
+			estudios.add(fromDomainToAdapter(studies.get(i)));
+		}
+		return estudios;
+	}
+
+	private static Date toDate(LocalDate graduationDate) {
+		return graduationDate != null ? Date.from(graduationDate.atStartOfDay(ZoneId.systemDefault()).toInstant()) : null;
+	}
+
+	// Hibernate already loads DATE columns as java.sql.Date
+	private static LocalDate toLocalDate(Date fecha) {
+		if (fecha == null) {
+			return null;
 		}
-		return estudiosEntities.stream()
-				.map(this::fromAdapterToDomain)
-				.collect(Collectors.toList());
+		return fecha instanceof java.sql.Date ? ((java.sql.Date) fecha).toLocalDate()
+				: new java.sql.Date(fecha.getTime()).toLocalDate();
 	}
-}
\ No newline at end of file
+}
@@ -1,116 +1,95 @@
 package co.edu.javeriana.as.personapp.mariadb.mapper;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.time.Duration;
 
-import org.springframework.beans.factory.annotation.Autowired;
+import org.mapstruct.BeforeMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
 
-import co.edu.javeriana.as.personapp.common.annotations.Mapper;
+import co.edu.javeriana.as.personapp.common.logging.SampledLog;
 import co.edu.javeriana.as.personapp.domain.Gender;
 import co.edu.javeriana.as.personapp.domain.Person;
-import co.edu.javeriana.as.personapp.domain.Phone;
-import co.edu.javeriana.as.personapp.domain.Study;
-import co.edu.javeriana.as.personapp.mariadb.entity.EstudiosEntity;
+import co.edu.javeriana.as.personapp.domain.PersonSummary;
 import co.edu.javeriana.as.personapp.mariadb.entity.PersonaEntity;
-import co.edu.javeriana.as.personapp.mariadb.entity.TelefonoEntity;
+import co.edu.javeriana.as.personapp.mariadb.repository.PersonaSummaryMaria;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Generated by MapStruct (PersonaMapperMariaImpl); the methods below are the
+ * conversions it calls. Null or empty children map to the shared empty list.
+ */
 @Slf4j
-@Mapper
-public class PersonaMapperMaria {
-
-	@Autowired
-	private EstudiosMapperMaria estudiosMapperMaria;
-
-	@Autowired
-	private TelefonoMapperMaria telefonoMapperMaria;
-
-	public PersonaEntity fromDomainToAdapter(Person person) {
-		PersonaEntity personaEntity = new PersonaEntity();
-		log.info("PersonaMapperMaria: Mapping Person domain (ID: {}) to PersonaEntity. Gender from domain: {}", person.getIdentification(), person.getGender());
-		if (person.getGender() == null) {
-		    log.error("CRITICAL: Person domain object has NULL gender when trying to map to PersonaEntity!");
-        }
-		personaEntity.setCc(person.getIdentification());
-		personaEntity.setNombre(person.getFirstName());
-		personaEntity.setApellido(person.getLastName());
-		personaEntity.setGenero(validateGenero(person.getGender()));
-		personaEntity.setEdad(validateEdad(person.getAge()));
-		personaEntity.setEstudios(validateEstudios(person.getStudies()));
-		personaEntity.setTelefonos(validateTelefonos(person.getPhoneNumbers()));
-		return personaEntity;
-	}
-
-	private Character validateGenero(@NonNull Gender gender) {
-		return gender == Gender.FEMALE ? 'F' : gender == Gender.MALE ? 'M' : ' ';
-	}
-
-	private Integer validateEdad(Integer age) {
-		return age != null && age >= 0 ? age : null;
+@Mapper(componentModel = "spring", uses = { TelefonoMapperMaria.class, EstudiosMapperMaria.class })
+public abstract class PersonaMapperMaria {
+
+	private static final SampledLog nullGender = new SampledLog(log, Duration.ofMinutes(1));
+
+	@Mapping(source = "identification", target = "cc")
+	@Mapping(source = "firstName", target = "nombre")
+	@Mapping(source = "lastName", target = "apellido")
+	@Mapping(source = "gender", target = "genero")
+	@Mapping(source = "age", target = "edad", qualifiedByName = "toEdad")
+	@Mapping(source = "phoneNumbers", target = "telefonos")
+	@Mapping(source = "studies", target = "estudios")
+	public abstract PersonaEntity fromDomainToAdapter(Person person);
+
+	// Studies are not mapped back, so reading a person never loads them; the study port has them
+	@Mapping(source = "cc", target = "identification")
+	@Mapping(source = "nombre", target = "firstName")
+	@Mapping(source = "apellido", target = "lastName")
+	@Mapping(source = "genero", target = "gender")
+	@Mapping(source = "edad", target = "age", qualifiedByName = "toAge")
+	@Mapping(source = "telefonos", target = "phoneNumbers")
+	@Mapping(target = "studies", ignore = true)
+	public abstract Person fromAdapterToDomain(PersonaEntity personaEntity);
+
+	public PersonSummary fromAdapterToSummary(PersonaSummaryMaria persona) {
+		return new PersonSummary(persona.getCc(), persona.getNombre(), persona.getApellido(),
+				validateGender(persona.getGenero()), toAge(persona.getEdad()));
 	}
 
-	private List<EstudiosEntity> validateEstudios(List<Study> studies) {
-		return studies != null && !studies.isEmpty()
-				? studies.stream().map(study -> estudiosMapperMaria.fromDomainToAdapter(study)).collect(Collectors.toList())
-				: new ArrayList<EstudiosEntity>();
+	@BeforeMapping
+	protected void checkGender(Person person) {
+		if (person != null && person.getGender() == null) {
+			nullGender.error("Person {} has a null gender when mapped to PersonaEntity", person.getIdentification());
+		}
 	}
 
-	private List<TelefonoEntity> validateTelefonos(List<Phone> phoneNumbers) {
-		return phoneNumbers != null && !phoneNumbers.isEmpty() ? phoneNumbers.stream()
-				.map(phone -> telefonoMapperMaria.fromDomainToAdapter(phone)).collect(Collectors.toList())
-				: new ArrayList<TelefonoEntity>();
+	protected Character validateGenero(@NonNull Gender gender) {
+		switch (gender) {
+		case FEMALE:
+			return 'F';
+		case MALE:
+			return 'M';
+		default:
+			return ' ';
+		}
 	}
 
-	public Person fromAdapterToDomain(PersonaEntity personaEntity) {
-		if (personaEntity == null) {
-			return null; // Or handle as an empty Person domain object if preferred
+	protected @NonNull Gender validateGender(Character genero) {
+		if (genero == null) {
+			return Gender.OTHER;
 		}
-		Person person = new Person();
-		person.setIdentification(personaEntity.getCc());
-		person.setFirstName(personaEntity.getNombre());
-		person.setLastName(personaEntity.getApellido());
-		person.setGender(validateGender(personaEntity.getGenero()));
-		person.setAge(validateAge(personaEntity.getEdad()));
-		
-		// Skip study relationships to avoid circular dependencies
-		person.setStudies(new ArrayList<Study>());
-		if (personaEntity.getTelefonos() != null) {
-			person.setPhoneNumbers(personaEntity.getTelefonos().stream()
-				.map(telefonoEntity -> {
-					// Create Phone without setting its owner to break the cycle
-					Phone phone = new Phone();
-					phone.setNumber(telefonoEntity.getNum());
-					phone.setCompany(telefonoEntity.getOperador());
-					// phone.setOwner(person); // This would cause the cycle
-					return phone;
-				})
-				.collect(Collectors.toList()));
-		} else {
-			person.setPhoneNumbers(new ArrayList<Phone>());
+		switch (genero) {
+		case 'F':
+			return Gender.FEMALE;
+		case 'M':
+			return Gender.MALE;
+		default:
+			return Gender.OTHER;
 		}
-		return person;
-	}
-
-	private @NonNull Gender validateGender(Character genero) {
-		return genero == 'F' ? Gender.FEMALE : genero == 'M' ? Gender.MALE : Gender.OTHER;
-	}
-
-	private Integer validateAge(Integer edad) {
-		return edad != null && edad >= 0 ? edad : null;
 	}
 
-	// This method is intentionally not used to avoid circular dependencies
-	private List<Study> validateStudiesOld(List<EstudiosEntity> estudiosEntity) {
-		return estudiosEntity != null && !estudiosEntity.isEmpty() ? estudiosEntity.stream()
-				.map(estudio -> estudiosMapperMaria.fromAdapterToDomain(estudio)).collect(Collectors.toList())
-				: new ArrayList<Study>();
+	// An unknown age is stored as NULL
+	@Named("toEdad")
+	protected Integer toEdad(int age) {
+		return age >= 0 ? age : null;
 	}
 
-	private List<Phone> validatePhones(List<TelefonoEntity> telefonoEntities) {
-		return telefonoEntities != null && !telefonoEntities.isEmpty() ? telefonoEntities.stream()
-				.map(telefono -> telefonoMapperMaria.fromAdapterToDomain(telefono)).collect(Collectors.toList())
-				: new ArrayList<Phone>();
+	@Named("toAge")
+	protected int toAge(Integer edad) {
+		return edad != null && edad >= 0 ? edad : Person.UNKNOWN_AGE;
 	}
-}
\ No newline at end of file
+}
@@ -1,84 +1,55 @@
 package co.edu.javeriana.as.personapp.mariadb.mapper;
 
-import org.springframework.beans.factory.annotation.Autowired;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
 
-import co.edu.javeriana.as.personapp.common.annotations.Mapper;
-import co.edu.javeriana.as.personapp.domain.Gender;
-import co.edu.javeriana.as.personapp.domain.Person;
 import co.edu.javeriana.as.personapp.domain.Phone;
 import co.edu.javeriana.as.personapp.mariadb.entity.PersonaEntity;
 import co.edu.javeriana.as.personapp.mariadb.entity.TelefonoEntity;
-import lombok.NonNull;
 
-import java.util.List;
-import java.util.stream.Collectors;
+@Mapper(componentModel = "spring")
+public abstract class TelefonoMapperMaria {
 
-@Mapper
-public class TelefonoMapperMaria {
+	@Mapping(source = "number", target = "num")
+	@Mapping(source = "company", target = "operador")
+	@Mapping(source = "ownerId", target = "duenio", qualifiedByName = "ccOnly")
+	public abstract TelefonoEntity fromDomainToAdapter(Phone phone);
 
-	@Autowired
-	private PersonaMapperMaria personaMapperMaria;
+	@Mapping(source = "num", target = "number")
+	@Mapping(source = "operador", target = "company")
+	@Mapping(source = "duenio.cc", target = "ownerId")
+	public abstract Phone fromAdapterToDomain(TelefonoEntity telefonoEntity);
 
-	public TelefonoEntity fromDomainToAdapter(Phone phone) {
-		if (phone == null) {
-			return null;
+	public List<Phone> fromAdapterListToDomainList(List<TelefonoEntity> telefonoEntities) {
+		if (telefonoEntities == null || telefonoEntities.isEmpty()) {
+			return Collections.emptyList();
 		}
-		PersonaEntity personaEntity = null;
-		if (phone.getOwner() != null) {
-			// Avoid full mapping if only ID is needed or to prevent cycles
-			personaEntity = new PersonaEntity();
-			personaEntity.setCc(phone.getOwner().getIdentification());
+		List<Phone> phones = new ArrayList<>(telefonoEntities.size());
+		for (int i = 0; i < telefonoEntities.size(); i++) {
+			phones.add(fromAdapterToDomain(telefonoEntities.get(i)));
 		}
-		return new TelefonoEntity(
-				phone.getNumber(),
-				phone.getCompany(),
-				personaEntity
-		);
+		return phones;
 	}
 
-	private PersonaEntity validateDuenio(@NonNull Person owner) {
-		if (owner == null) return new PersonaEntity();
-		
-		// Just create a simple entity with basic data to avoid circular dependencies
-		PersonaEntity personaEntity = new PersonaEntity();
-		personaEntity.setCc(owner.getIdentification());
-		personaEntity.setNombre(owner.getFirstName());
-		personaEntity.setApellido(owner.getLastName());
-		personaEntity.setGenero(owner.getGender() == Gender.FEMALE ? 'F' : owner.getGender() == Gender.MALE ? 'M' : ' ');
-		personaEntity.setEdad(owner.getAge());
-		return personaEntity;
-	}
-
-	public Phone fromAdapterToDomain(TelefonoEntity telefonoEntity) {
-		if (telefonoEntity == null) {
-			return null;
-		}
-		Person person = null;
-		if (telefonoEntity.getDuenio() != null) {
-			person = personaMapperMaria.fromAdapterToDomain(telefonoEntity.getDuenio());
+	public List<TelefonoEntity> fromDomainListToAdapterList(List<Phone> phones) {
+		if (phones == null || phones.isEmpty()) {
+			return Collections.emptyList();
 		}
-		return new Phone(
-				telefonoEntity.getNum(),
-				telefonoEntity.getOperador(),
-				person
-		);
-	}
-
-	public List<Phone> fromAdapterListToDomainList(List<TelefonoEntity> telefonoEntities) {
-		if (telefonoEntities == null) {
-			return null;
+		List<TelefonoEntity> telefonos = new ArrayList<>(phones.size());
+		for (int i = 0; i < phones.size(); i++) {
+			telefonos.add(fromDomainToAdapter(phones.get(i)));
 		}
-		return telefonoEntities.stream()
-				.map(this::fromAdapterToDomain)
-				.collect(Collectors.toList());
+		return telefonos;
 	}
 
-	public List<TelefonoEntity> fromDomainListToAdapterList(List<Phone> phones) {
-		if (phones == null) {
-			return null;
-		}
-		return phones.stream()
-				.map(this::fromDomainToAdapter)
-				.collect(Collectors.toList());
+	// Only the key is needed for the foreign key
+	@Named("ccOnly")
+	protected PersonaEntity ccOnly(int ownerId) {
+		return new PersonaEntity(ownerId);
 	}
-}
\ No newline at end of file
+}
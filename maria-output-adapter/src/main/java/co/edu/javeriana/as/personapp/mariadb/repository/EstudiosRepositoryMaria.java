@@ -1,6 +1,12 @@
 package co.edu.javeriana.as.personapp.mariadb.repository;
 
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import co.edu.javeriana.as.personapp.mariadb.entity.EstudiosEntity;
@@ -8,4 +14,34 @@ import co.edu.javeriana.as.personapp.mariadb.entity.EstudiosEntityPK;
 
 @Repository
 public interface EstudiosRepositoryMaria extends JpaRepository<EstudiosEntity, EstudiosEntityPK> {
+
+    @Query("SELECT e.estudiosPK.ccPer AS ccPer, e.estudiosPK.idProf AS idProf, e.fecha AS fecha, e.univer AS univer"
+            + " FROM EstudiosEntity e ORDER BY e.estudiosPK.idProf, e.estudiosPK.ccPer")
+    List<EstudiosRowMaria> findRows(Pageable pageable);
+
+    // Keyset on the primary key order (id_prof, cc_per), written so the key's index can serve it
+    @Query("SELECT e.estudiosPK.ccPer AS ccPer, e.estudiosPK.idProf AS idProf, e.fecha AS fecha, e.univer AS univer"
+            + " FROM EstudiosEntity e WHERE e.estudiosPK.idProf >= :idProf"
+            + " AND (e.estudiosPK.idProf > :idProf OR e.estudiosPK.ccPer > :ccPer)"
+            + " ORDER BY e.estudiosPK.idProf, e.estudiosPK.ccPer")
+    List<EstudiosRowMaria> findRowsAfter(@Param("idProf") Integer idProf, @Param("ccPer") Integer ccPer,
+            Pageable pageable);
+
+    // Served by estudios_cc_per_idx
+    @Query("SELECT e.estudiosPK.ccPer AS ccPer, e.estudiosPK.idProf AS idProf, e.fecha AS fecha, e.univer AS univer"
+            + " FROM EstudiosEntity e WHERE e.estudiosPK.ccPer = :ccPer ORDER BY e.estudiosPK.idProf")
+    List<EstudiosRowMaria> findByCcPer(@Param("ccPer") Integer ccPer);
+
+    // Served by the primary key, whose first column is id_prof
+    @Query("SELECT e.estudiosPK.ccPer AS ccPer, e.estudiosPK.idProf AS idProf, e.fecha AS fecha, e.univer AS univer"
+            + " FROM EstudiosEntity e WHERE e.estudiosPK.idProf = :idProf ORDER BY e.estudiosPK.ccPer")
+    List<EstudiosRowMaria> findByIdProf(@Param("idProf") Integer idProf);
+
+    @Modifying
+    @Query("DELETE FROM EstudiosEntity e WHERE e.estudiosPK.ccPer = :ccPer AND e.estudiosPK.idProf = :idProf")
+    int deleteByIdReturningCount(@Param("ccPer") Integer ccPer, @Param("idProf") Integer idProf);
+
+    @Modifying
+    @Query("DELETE FROM EstudiosEntity e WHERE e.estudiosPK.ccPer = :ccPer")
+    int deleteByCcPer(@Param("ccPer") Integer ccPer);
 } 
\ No newline at end of file
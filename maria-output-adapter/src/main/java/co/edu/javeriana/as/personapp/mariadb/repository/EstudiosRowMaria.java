@@ -0,0 +1,18 @@
+package co.edu.javeriana.as.personapp.mariadb.repository;
+
+import java.util.Date;
+
+/**
+ * Flat row of {@code estudios} with only the key columns, so reading it does
+ * not load the persona and the profesion.
+ */
+public interface EstudiosRowMaria {
+
+	Integer getCcPer();
+
+	Integer getIdProf();
+
+	Date getFecha();
+
+	String getUniver();
+}
@@ -0,0 +1,31 @@
+package co.edu.javeriana.as.personapp.mariadb.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import co.edu.javeriana.as.personapp.mariadb.entity.PersonaOutboxEntity;
+
+public interface PersonaOutboxRepositoryMaria extends JpaRepository<PersonaOutboxEntity, Long> {
+
+	// Served by the (proximo_intento, id) index
+	List<PersonaOutboxEntity> findByProximoIntentoLessThanEqualOrderByIdAsc(Instant now, Pageable pageable);
+
+	@Modifying
+	@Query("DELETE FROM PersonaOutboxEntity o WHERE o.id IN :ids")
+	int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+	@Modifying
+	@Query("UPDATE PersonaOutboxEntity o SET o.intentos = o.intentos + 1, o.proximoIntento = :next, o.error = :error"
+			+ " WHERE o.id IN :ids")
+	int retryLater(@Param("ids") Collection<Long> ids, @Param("next") Instant next, @Param("error") String error);
+
+	@Query("SELECT MIN(o.creado) FROM PersonaOutboxEntity o")
+	Instant findOldestCreado();
+}
@@ -1,10 +1,48 @@
 package co.edu.javeriana.as.personapp.mariadb.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.stereotype.Repository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import co.edu.javeriana.as.personapp.mariadb.entity.PersonaEntity;
 
 public interface PersonaRepositoryMaria extends JpaRepository<PersonaEntity, Integer>{
 
+	// Keyset pagination over the primary key: WHERE cc > :cc ORDER BY cc LIMIT :size
+	List<PersonaEntity> findByCcGreaterThanOrderByCcAsc(Integer cc, Pageable pageable);
+
+	List<PersonaEntity> findAllByOrderByCcAsc(Pageable pageable);
+
+	// Summary reads: SELECT cc, nombre, apellido, genero, edad only
+	List<PersonaSummaryMaria> findSummariesByOrderByCcAsc();
+
+	List<PersonaSummaryMaria> findSummariesByOrderByCcAsc(Pageable pageable);
+
+	List<PersonaSummaryMaria> findSummariesByCcGreaterThanOrderByCcAsc(Integer cc, Pageable pageable);
+
+	List<PersonaSummaryMaria> findSummariesByCcIn(Collection<Integer> ccs);
+
+	// Every person with its phones in a single query; DISTINCT only dedupes the fetched roots in memory
+	@Query("SELECT DISTINCT p FROM PersonaEntity p LEFT JOIN FETCH p.telefonos")
+	@QueryHints(@QueryHint(name = "hibernate.query.passDistinctThrough", value = "false"))
+	List<PersonaEntity> findAllWithTelefonos();
+
+	// Person and phones in one query, for mappers that read the phone list
+	@EntityGraph(attributePaths = "telefonos")
+	Optional<PersonaEntity> findWithTelefonosByCc(Integer cc);
+
+	// Single DELETE statement; the row count doubles as the existence check
+	@Modifying
+	@Query("DELETE FROM PersonaEntity p WHERE p.cc = :cc")
+	int deleteByCcReturningCount(@Param("cc") Integer cc);
 }
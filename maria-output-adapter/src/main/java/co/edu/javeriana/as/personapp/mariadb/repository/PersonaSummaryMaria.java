@@ -0,0 +1,18 @@
+package co.edu.javeriana.as.personapp.mariadb.repository;
+
+/**
+ * Closed projection of {@code persona}: Spring Data selects just these
+ * columns and never touches the phone or study associations.
+ */
+public interface PersonaSummaryMaria {
+
+	Integer getCc();
+
+	String getNombre();
+
+	String getApellido();
+
+	Character getGenero();
+
+	Integer getEdad();
+}
@@ -1,5 +1,8 @@
 package co.edu.javeriana.as.personapp.mariadb.repository;
 
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -8,4 +11,8 @@ import co.edu.javeriana.as.personapp.mariadb.entity.ProfesionEntity;
 @Repository
 public interface ProfesionRepositoryMaria extends JpaRepository<ProfesionEntity, Integer> {
     // Integer is the type of the primary key (id) in ProfesionEntity
+
+    List<ProfesionEntity> findAllByOrderByIdAsc(Pageable pageable);
+
+    List<ProfesionEntity> findByIdGreaterThanOrderByIdAsc(Integer after, Pageable pageable);
 } 
\ No newline at end of file
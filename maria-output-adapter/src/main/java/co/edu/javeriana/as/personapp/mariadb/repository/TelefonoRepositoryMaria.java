@@ -1,7 +1,11 @@
 package co.edu.javeriana.as.personapp.mariadb.repository;
 
 import co.edu.javeriana.as.personapp.mariadb.entity.TelefonoEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,4 +13,19 @@ import java.util.List;
 @Repository
 public interface TelefonoRepositoryMaria extends JpaRepository<TelefonoEntity, String> {
     List<TelefonoEntity> findByDuenio_Cc(Integer duenioCc);
+
+    @Query("SELECT t.num AS num, t.operador AS operador, t.duenio.cc AS duenio FROM TelefonoEntity t ORDER BY t.num")
+    List<TelefonoRowMaria> findRows(Pageable pageable);
+
+    @Query("SELECT t.num AS num, t.operador AS operador, t.duenio.cc AS duenio FROM TelefonoEntity t"
+            + " WHERE t.num > :after ORDER BY t.num")
+    List<TelefonoRowMaria> findRowsAfter(@Param("after") String after, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM TelefonoEntity t WHERE t.num = :num")
+    int deleteByNumReturningCount(@Param("num") String num);
+
+    @Modifying
+    @Query("DELETE FROM TelefonoEntity t WHERE t.duenio.cc = :cc")
+    int deleteByDuenioCc(@Param("cc") Integer cc);
 } 
\ No newline at end of file
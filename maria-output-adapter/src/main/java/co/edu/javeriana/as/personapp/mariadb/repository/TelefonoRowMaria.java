@@ -0,0 +1,14 @@
+package co.edu.javeriana.as.personapp.mariadb.repository;
+
+/**
+ * Flat row of {@code telefono} with only the owner's id, so reading it does
+ * not load the owning persona.
+ */
+public interface TelefonoRowMaria {
+
+	String getNum();
+
+	String getOperador();
+
+	Integer getDuenio();
+}
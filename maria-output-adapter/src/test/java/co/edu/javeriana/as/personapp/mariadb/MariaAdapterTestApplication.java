@@ -0,0 +1,11 @@
+package co.edu.javeriana.as.personapp.mariadb;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Anchors the slice tests of this module: entities and repositories are
+ * picked up from this package downwards.
+ */
+@SpringBootApplication
+public class MariaAdapterTestApplication {
+}
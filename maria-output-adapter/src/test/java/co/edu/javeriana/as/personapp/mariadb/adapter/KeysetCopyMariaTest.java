@@ -0,0 +1,163 @@
+package co.edu.javeriana.as.personapp.mariadb.adapter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import co.edu.javeriana.as.personapp.application.port.out.BatchItemResult;
+import co.edu.javeriana.as.personapp.application.port.out.PersonOutputPort;
+import co.edu.javeriana.as.personapp.application.port.out.PhoneOutputPort;
+import co.edu.javeriana.as.personapp.application.port.out.ProfessionOutputPort;
+import co.edu.javeriana.as.personapp.application.port.out.StudyOutputPort;
+import co.edu.javeriana.as.personapp.domain.Gender;
+import co.edu.javeriana.as.personapp.domain.Person;
+import co.edu.javeriana.as.personapp.domain.Phone;
+import co.edu.javeriana.as.personapp.domain.Profession;
+import co.edu.javeriana.as.personapp.domain.Study;
+import co.edu.javeriana.as.personapp.mariadb.mapper.EstudiosMapperMaria;
+import co.edu.javeriana.as.personapp.mariadb.mapper.PersonaMapperMariaImpl;
+import co.edu.javeriana.as.personapp.mariadb.mapper.ProfesionMapperMariaImpl;
+import co.edu.javeriana.as.personapp.mariadb.mapper.TelefonoMapperMariaImpl;
+import co.edu.javeriana.as.personapp.mariadb.repository.EstudiosRepositoryMaria;
+import co.edu.javeriana.as.personapp.mariadb.repository.PersonaRepositoryMaria;
+import co.edu.javeriana.as.personapp.mariadb.repository.ProfesionRepositoryMaria;
+import co.edu.javeriana.as.personapp.mariadb.repository.TelefonoRepositoryMaria;
+
+/**
+ * Bulk upserts, keyset pages and indexed lookups of the tables the migrate
+ * command copies. Runs without the usual per-test transaction because saveAll
+ * commits per chunk.
+ */
+@DataJpaTest(properties = {
+        "spring.main.allow-circular-references=true",
+        "spring.datasource.url=jdbc:h2:mem:keyset_copy_test;MODE=MariaDB;DB_CLOSE_DELAY=-1;INIT=CREATE SCHEMA IF NOT EXISTS persona_db",
+        "spring.jpa.hibernate.ddl-auto=create-drop" })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ PersonOutputAdapterMaria.class, ProfessionOutputAdapterMaria.class, PhoneOutputAdapterMaria.class,
+        StudyOutputAdapterMaria.class, PersonaMapperMariaImpl.class, TelefonoMapperMariaImpl.class,
+        EstudiosMapperMaria.class, ProfesionMapperMariaImpl.class })
+class KeysetCopyMariaTest {
+
+    @Autowired
+    private PersonOutputPort personOutputAdapterMaria;
+
+    @Autowired
+    private ProfessionOutputPort professionOutputAdapterMaria;
+
+    @Autowired
+    private PhoneOutputPort phoneOutputAdapterMaria;
+
+    @Autowired
+    private StudyOutputPort studyOutputAdapterMaria;
+
+    @Autowired
+    private EstudiosRepositoryMaria estudiosRepositoryMaria;
+
+    @Autowired
+    private TelefonoRepositoryMaria telefonoRepositoryMaria;
+
+    @Autowired
+    private PersonaRepositoryMaria personaRepositoryMaria;
+
+    @Autowired
+    private ProfesionRepositoryMaria profesionRepositoryMaria;
+
+    @BeforeEach
+    void setUp() {
+        List<Person> persons = new ArrayList<>();
+        for (int cc = 1; cc <= 3; cc++) {
+            persons.add(new Person(cc, "Name" + cc, "Last" + cc, Gender.FEMALE, Person.UNKNOWN_AGE, null, null));
+        }
+        personOutputAdapterMaria.saveAll(persons);
+        professionOutputAdapterMaria.saveAll(List.of(new Profession(20, "Medico", null), new Profession(10, "Ingeniero", null)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        estudiosRepositoryMaria.deleteAll();
+        telefonoRepositoryMaria.deleteAll();
+        personaRepositoryMaria.deleteAll();
+        profesionRepositoryMaria.deleteAll();
+    }
+
+    private static Study study(int cc, int professionId, String university) {
+        return new Study(cc, professionId, LocalDate.of(2020, 6, 1), university);
+    }
+
+    @Test
+    void studyPagesFollowTheKeyAcrossProfessionBoundaries() {
+        List<Study> studies = List.of(study(3, 10, "U"), study(1, 20, "U"), study(2, 10, "U"), study(1, 10, "U"),
+                study(3, 20, "U"));
+        assertTrue(studyOutputAdapterMaria.saveAll(studies).stream().allMatch(BatchItemResult::isSaved));
+
+        List<String> keys = new ArrayList<>();
+        List<Study> page = studyOutputAdapterMaria.findPage(null, null, 2);
+        while (!page.isEmpty()) {
+            page.forEach(s -> keys.add(s.getProfessionId() + ":" + s.getPersonId()));
+            Study last = page.get(page.size() - 1);
+            page = studyOutputAdapterMaria.findPage(last.getProfessionId(), last.getPersonId(), 2);
+        }
+
+        assertEquals(List.of("10:1", "10:2", "10:3", "20:1", "20:3"), keys);
+        assertEquals(LocalDate.of(2020, 6, 1), studyOutputAdapterMaria.findPage(null, null, 1).get(0).getGraduationDate());
+    }
+
+    @Test
+    void saveAllUpdatesExistingRowsAndReportsRowsWithMissingReferences() {
+        phoneOutputAdapterMaria.saveAll(List.of(new Phone("300", "CLARO", 1), new Phone("200", "TIGO", 2)));
+        studyOutputAdapterMaria.saveAll(List.of(study(1, 10, "Javeriana")));
+
+        List<BatchItemResult<Phone>> phones = phoneOutputAdapterMaria.saveAll(
+                List.of(new Phone("300", "MOVISTAR", 3), new Phone("400", "CLARO", 99)));
+        List<BatchItemResult<Study>> studies = studyOutputAdapterMaria.saveAll(
+                List.of(study(1, 10, "Andes"), study(2, 99, "Andes")));
+
+        assertTrue(phones.get(0).isSaved());
+        assertFalse(phones.get(1).isSaved());
+        assertTrue(studies.get(0).isSaved());
+        assertFalse(studies.get(1).isSaved());
+        List<Phone> phonePage = phoneOutputAdapterMaria.findPage(null, 10);
+        assertEquals(List.of("200", "300"), phonePage.stream().map(Phone::getNumber).collect(Collectors.toList()));
+        assertEquals("MOVISTAR", phonePage.get(1).getCompany());
+        assertEquals(3, phonePage.get(1).getOwnerId());
+        assertEquals(List.of("300"), phoneOutputAdapterMaria.findPage("200", 10).stream().map(Phone::getNumber)
+                .collect(Collectors.toList()));
+        assertEquals("Andes", studyOutputAdapterMaria.findById(1, 10).getUniversityName());
+        assertEquals(1L, studyOutputAdapterMaria.count());
+        assertEquals(List.of(10, 20), professionOutputAdapterMaria.findPage(null, 10).stream()
+                .map(Profession::getIdentification).collect(Collectors.toList()));
+        assertEquals(List.of(20), professionOutputAdapterMaria.findPage(10, 10).stream()
+                .map(Profession::getIdentification).collect(Collectors.toList()));
+    }
+
+    @Test
+    void studiesAreFoundByPersonAndByProfessionWithTheirKeys() {
+        studyOutputAdapterMaria.saveAll(List.of(study(1, 20, "Andes"), study(1, 10, "Javeriana"), study(2, 10, "Rosario")));
+
+        List<Study> byPerson = studyOutputAdapterMaria.findByPersonId(1);
+        List<Study> byProfession = studyOutputAdapterMaria.findByProfessionId(10);
+
+        assertEquals(List.of(10, 20), byPerson.stream().map(Study::getProfessionId).collect(Collectors.toList()));
+        assertEquals("Ingeniero", professionOutputAdapterMaria.findById(byPerson.get(0).getProfessionId()).getName());
+        assertEquals(1, byPerson.get(0).getPersonId());
+        assertEquals(LocalDate.of(2020, 6, 1), byPerson.get(0).getGraduationDate());
+        assertEquals(List.of(1, 2), byProfession.stream().map(Study::getPersonId).collect(Collectors.toList()));
+        assertTrue(studyOutputAdapterMaria.findByPersonId(3).isEmpty());
+    }
+}
@@ -0,0 +1,124 @@
+package co.edu.javeriana.as.personapp.mariadb.adapter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import co.edu.javeriana.as.personapp.application.port.out.PersonOutboxEntry;
+import co.edu.javeriana.as.personapp.application.port.out.PersonOutboxPort;
+import co.edu.javeriana.as.personapp.application.port.out.PersonOutputPort;
+import co.edu.javeriana.as.personapp.domain.Gender;
+import co.edu.javeriana.as.personapp.domain.Person;
+import co.edu.javeriana.as.personapp.mariadb.mapper.EstudiosMapperMaria;
+import co.edu.javeriana.as.personapp.mariadb.mapper.PersonaMapperMariaImpl;
+import co.edu.javeriana.as.personapp.mariadb.mapper.ProfesionMapperMariaImpl;
+import co.edu.javeriana.as.personapp.mariadb.mapper.TelefonoMapperMariaImpl;
+import co.edu.javeriana.as.personapp.mariadb.repository.PersonaOutboxRepositoryMaria;
+import co.edu.javeriana.as.personapp.mariadb.repository.PersonaRepositoryMaria;
+
+/**
+ * Runs without the usual per-test transaction so that the outbox's own
+ * transaction boundaries are the ones under test.
+ */
+@DataJpaTest(properties = {
+        "spring.main.allow-circular-references=true",
+        "spring.datasource.url=jdbc:h2:mem:outbox_test;MODE=MariaDB;DB_CLOSE_DELAY=-1;INIT=CREATE SCHEMA IF NOT EXISTS persona_db",
+        "spring.jpa.hibernate.ddl-auto=create-drop" })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ PersonOutboxAdapterMaria.class, PersonOutputAdapterMaria.class, PersonaMapperMariaImpl.class,
+        TelefonoMapperMariaImpl.class, EstudiosMapperMaria.class, ProfesionMapperMariaImpl.class })
+class PersonOutboxAdapterMariaTest {
+
+    @Autowired
+    private PersonOutboxPort personOutboxAdapterMaria;
+
+    @Autowired
+    private PersonOutputPort personOutputAdapterMaria;
+
+    @Autowired
+    private PersonaOutboxRepositoryMaria personaOutboxRepositoryMaria;
+
+    @Autowired
+    private PersonaRepositoryMaria personaRepositoryMaria;
+
+    @AfterEach
+    void tearDown() {
+        personaOutboxRepositoryMaria.deleteAll();
+        personaRepositoryMaria.deleteAll();
+    }
+
+    @Test
+    void recordCommitsThePersonAndItsOutboxEntry() {
+        Person person = new Person(7, "Ana", "Diaz", Gender.FEMALE, Person.UNKNOWN_AGE, null, null);
+
+        personOutboxAdapterMaria.record(() -> personOutputAdapterMaria.save(person), List.of(7L));
+
+        assertNotNull(personOutputAdapterMaria.findById(7L));
+        List<PersonOutboxEntry> due = personOutboxAdapterMaria.findDue(Instant.now(), 10);
+        assertEquals(1, due.size());
+        assertEquals(7L, due.get(0).getCc());
+        assertEquals(0, due.get(0).getAttempts());
+        assertNotNull(personOutboxAdapterMaria.oldestCreatedAt());
+    }
+
+    @Test
+    void failedWriteLeavesNeitherThePersonNorAnOutboxEntry() {
+        Person person = new Person(8, "Luis", "Rojas", Gender.MALE, Person.UNKNOWN_AGE, null, null);
+
+        assertThrows(IllegalStateException.class, () -> personOutboxAdapterMaria.record(() -> {
+            personOutputAdapterMaria.save(person);
+            throw new IllegalStateException("write failed after the insert");
+        }, List.of(8L)));
+
+        assertNull(personOutputAdapterMaria.findById(8L));
+        assertEquals(0L, personOutboxAdapterMaria.count());
+        assertNull(personOutboxAdapterMaria.oldestCreatedAt());
+    }
+
+    @Test
+    void retryLaterHidesEntriesUntilTheirNextAttempt() {
+        personOutboxAdapterMaria.record(() -> null, List.of(1L, 2L));
+        Instant now = Instant.now();
+        PersonOutboxEntry first = personOutboxAdapterMaria.findDue(now, 10).get(0);
+
+        personOutboxAdapterMaria.retryLater(List.of(first.getId()), now.plus(Duration.ofHours(1)), "MONGO down");
+
+        List<PersonOutboxEntry> dueNow = personOutboxAdapterMaria.findDue(now, 10);
+        assertEquals(List.of(2L), dueNow.stream().map(PersonOutboxEntry::getCc).collect(Collectors.toList()));
+        List<PersonOutboxEntry> dueLater = personOutboxAdapterMaria.findDue(now.plus(Duration.ofHours(2)), 10);
+        assertEquals(2, dueLater.size());
+        assertEquals(1, dueLater.get(0).getAttempts());
+
+        personOutboxAdapterMaria.remove(dueLater.stream().map(PersonOutboxEntry::getId).collect(Collectors.toList()));
+        assertEquals(0L, personOutboxAdapterMaria.count());
+    }
+
+    @Test
+    void recordInsertsLargeBatchesInChunks() {
+        int persons = PersonOutboxAdapterMaria.INSERT_BATCH_SIZE * 2 + 7;
+        List<Long> ccs = LongStream.rangeClosed(1, persons).boxed().collect(Collectors.toList());
+
+        personOutboxAdapterMaria.record(() -> null, ccs);
+
+        assertEquals((long) persons, personOutboxAdapterMaria.count());
+        List<PersonOutboxEntry> due = personOutboxAdapterMaria.findDue(Instant.now(), persons);
+        assertEquals(ccs, due.stream().map(PersonOutboxEntry::getCc).collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,125 @@
+package co.edu.javeriana.as.personapp.mariadb.adapter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import co.edu.javeriana.as.personapp.application.port.out.PersonOutputPort;
+import co.edu.javeriana.as.personapp.domain.Person;
+import co.edu.javeriana.as.personapp.domain.PersonSummary;
+import co.edu.javeriana.as.personapp.mariadb.entity.PersonaEntity;
+import co.edu.javeriana.as.personapp.mariadb.entity.TelefonoEntity;
+import co.edu.javeriana.as.personapp.mariadb.mapper.EstudiosMapperMaria;
+import co.edu.javeriana.as.personapp.mariadb.mapper.PersonaMapperMariaImpl;
+import co.edu.javeriana.as.personapp.mariadb.mapper.ProfesionMapperMariaImpl;
+import co.edu.javeriana.as.personapp.mariadb.mapper.TelefonoMapperMariaImpl;
+
+/**
+ * Guards the person read path against lazy-load N+1: the number of JDBC
+ * statements must not grow with the number of persons read.
+ */
+@DataJpaTest(properties = {
+        "spring.main.allow-circular-references=true",
+        "spring.datasource.url=jdbc:h2:mem:persona_db;MODE=MariaDB;DB_CLOSE_DELAY=-1;INIT=CREATE SCHEMA IF NOT EXISTS persona_db",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true" })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ PersonOutputAdapterMaria.class, PersonaMapperMariaImpl.class, TelefonoMapperMariaImpl.class,
+        EstudiosMapperMaria.class, ProfesionMapperMariaImpl.class })
+class PersonOutputAdapterMariaQueryCountTest {
+
+    private static final int PERSONS = 250;
+    private static final int PHONES_PER_PERSON = 2;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PersonOutputPort personOutputAdapterMaria;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int cc = 1; cc <= PERSONS; cc++) {
+            PersonaEntity persona = new PersonaEntity(cc, "Name" + cc, "Last" + cc, cc % 2 == 0 ? 'F' : 'M');
+            persona.setEdad(20 + cc % 50);
+            testEntityManager.persist(persona);
+            for (int p = 0; p < PHONES_PER_PERSON; p++) {
+                testEntityManager.persist(new TelefonoEntity("300" + (cc * 10 + p), "CLARO", persona));
+            }
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findAllLoadsPersonsAndPhonesInOneQuery() {
+        List<Person> persons = personOutputAdapterMaria.findAll();
+
+        assertEquals(PERSONS, persons.size());
+        persons.forEach(person -> assertEquals(PHONES_PER_PERSON, person.getPhoneNumbers().size()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findPageLoadsPhonesInBatches() {
+        List<Person> persons = personOutputAdapterMaria.findPage(null, PERSONS);
+
+        assertEquals(PERSONS, persons.size());
+        persons.forEach(person -> assertEquals(PHONES_PER_PERSON, person.getPhoneNumbers().size()));
+        // One page query plus one phone query per batch of up to 100 owners
+        long maxStatements = 1 + (PERSONS + 99) / 100;
+        assertTrue(statistics.getPrepareStatementCount() <= maxStatements,
+                "expected at most " + maxStatements + " statements but ran " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findByIdLoadsPersonAndPhonesInOneQuery() {
+        Person person = personOutputAdapterMaria.findById(42L);
+
+        assertNotNull(person);
+        assertEquals(PHONES_PER_PERSON, person.getPhoneNumbers().size());
+        person.getPhoneNumbers().forEach(phone -> assertEquals(42, phone.getOwnerId()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void summariesReadOnlyThePersonTable() {
+        List<PersonSummary> summaries = personOutputAdapterMaria.findAllSummaries();
+
+        assertEquals(PERSONS, summaries.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        // A projection never materializes entities, so no phone collection can be initialized
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getCollectionLoadCount());
+    }
+
+    @Test
+    void summaryPageIsASingleKeysetQuery() {
+        List<PersonSummary> summaries = personOutputAdapterMaria.findSummaryPage(100, 50);
+
+        assertEquals(50, summaries.size());
+        assertEquals(101, summaries.get(0).getIdentification());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
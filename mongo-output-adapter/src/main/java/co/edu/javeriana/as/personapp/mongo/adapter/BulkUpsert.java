@@ -0,0 +1,71 @@
+package co.edu.javeriana.as.personapp.mongo.adapter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import com.mongodb.bulk.BulkWriteError;
+
+import co.edu.javeriana.as.personapp.application.port.out.BatchItemResult;
+
+/**
+ * Upserts shared by the adapters' saveAll: unordered bulk writes of replace
+ * operations, one per chunk. Unordered bulks keep going past a failed
+ * document, and the errors they report carry the index of the failed
+ * operation, which is mapped back to the item.
+ */
+final class BulkUpsert {
+
+	private BulkUpsert() {
+	}
+
+	static <T> List<BatchItemResult<T>> run(MongoTemplate mongoTemplate, Class<?> documentClass, Collection<T> items,
+			int chunkSize, Function<T, Object> idOf, Function<T, Object> toDocument) {
+		List<BatchItemResult<T>> results = new ArrayList<>(items.size());
+		List<T> chunk = new ArrayList<>(chunkSize);
+		for (T item : items) {
+			chunk.add(item);
+			if (chunk.size() == chunkSize) {
+				results.addAll(runChunk(mongoTemplate, documentClass, chunk, idOf, toDocument));
+				chunk.clear();
+			}
+		}
+		if (!chunk.isEmpty()) {
+			results.addAll(runChunk(mongoTemplate, documentClass, chunk, idOf, toDocument));
+		}
+		return results;
+	}
+
+	private static <T> List<BatchItemResult<T>> runChunk(MongoTemplate mongoTemplate, Class<?> documentClass,
+			List<T> chunk, Function<T, Object> idOf, Function<T, Object> toDocument) {
+		BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, documentClass);
+		for (T item : chunk) {
+			bulk.replaceOne(Query.query(Criteria.where("_id").is(idOf.apply(item))), toDocument.apply(item),
+					FindAndReplaceOptions.options().upsert());
+		}
+		Map<Integer, String> errors = new HashMap<>();
+		try {
+			bulk.execute();
+		} catch (BulkOperationException e) {
+			for (BulkWriteError error : e.getErrors()) {
+				errors.put(error.getIndex(), error.getMessage());
+			}
+		}
+		List<BatchItemResult<T>> results = new ArrayList<>(chunk.size());
+		for (int i = 0; i < chunk.size(); i++) {
+			String error = errors.get(i);
+			results.add(error == null ? BatchItemResult.saved(chunk.get(i)) : BatchItemResult.failed(chunk.get(i), error));
+		}
+		return results;
+	}
+}
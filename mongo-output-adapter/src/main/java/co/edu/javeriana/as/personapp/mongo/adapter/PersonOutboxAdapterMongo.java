@@ -0,0 +1,85 @@
+package co.edu.javeriana.as.personapp.mongo.adapter;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import co.edu.javeriana.as.personapp.application.port.out.PersonOutboxEntry;
+import co.edu.javeriana.as.personapp.application.port.out.PersonOutboxPort;
+import co.edu.javeriana.as.personapp.common.annotations.Adapter;
+import co.edu.javeriana.as.personapp.mongo.document.PersonaOutboxDocument;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Outbox collection next to persona. Without multi-document transactions
+ * (the deployment is a standalone server) the outbox insert follows the
+ * person write, so a crash between the two can lose that one change. The
+ * insert also happens when the write fails, since it may have been applied
+ * partially; replaying an unchanged person is harmless.
+ */
+@Slf4j
+@Adapter("personOutboxAdapterMongo")
+public class PersonOutboxAdapterMongo implements PersonOutboxPort {
+
+	@Autowired
+	private MongoTemplate mongoTemplate;
+
+	@Override
+	public <T> T record(Supplier<T> write, Collection<Long> ccs) {
+		try {
+			return write.get();
+		} finally {
+			log.debug("Into record on Outbox Adapter MongoDB with {} persons", ccs.size());
+			Instant now = Instant.now();
+			List<PersonaOutboxDocument> documents = new ArrayList<>(ccs.size());
+			for (Long cc : ccs) {
+				documents.add(new PersonaOutboxDocument(null, cc.intValue(), now, 0, now, null));
+			}
+			mongoTemplate.insert(documents, PersonaOutboxDocument.class);
+		}
+	}
+
+	@Override
+	public List<PersonOutboxEntry> findDue(Instant now, int limit) {
+		Query due = Query.query(Criteria.where("proximoIntento").lte(now)).with(Sort.by("_id")).limit(limit);
+		return mongoTemplate.find(due, PersonaOutboxDocument.class).stream()
+				.map(document -> new PersonOutboxEntry(document.getId(), document.getCc().longValue(),
+						document.getCreado(), document.getIntentos()))
+				.collect(Collectors.toList());
+	}
+
+	@Override
+	public void remove(Collection<String> ids) {
+		mongoTemplate.remove(Query.query(Criteria.where("_id").in(ids)), PersonaOutboxDocument.class);
+	}
+
+	@Override
+	public void retryLater(Collection<String> ids, Instant nextAttempt, String error) {
+		mongoTemplate.updateMulti(Query.query(Criteria.where("_id").in(ids)),
+				new Update().inc("intentos", 1).set("proximoIntento", nextAttempt).set("error", error),
+				PersonaOutboxDocument.class);
+	}
+
+	@Override
+	public Instant oldestCreatedAt() {
+		// _id order is insertion order, so the first document is the oldest
+		PersonaOutboxDocument oldest = mongoTemplate.findOne(new Query().with(Sort.by("_id")).limit(1),
+				PersonaOutboxDocument.class);
+		return oldest != null ? oldest.getCreado() : null;
+	}
+
+	@Override
+	public Long count() {
+		return mongoTemplate.estimatedCount(PersonaOutboxDocument.class);
+	}
+}
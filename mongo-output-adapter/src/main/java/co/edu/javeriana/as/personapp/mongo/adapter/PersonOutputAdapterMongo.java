@@ -1,19 +1,41 @@
 package co.edu.javeriana.as.personapp.mongo.adapter;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 
 import com.mongodb.MongoWriteException;
 
+import co.edu.javeriana.as.personapp.application.port.out.BatchItemResult;
 import co.edu.javeriana.as.personapp.application.port.out.PersonOutputPort;
 import co.edu.javeriana.as.personapp.common.annotations.Adapter;
 import co.edu.javeriana.as.personapp.domain.Person;
+import co.edu.javeriana.as.personapp.domain.PersonSummary;
+import co.edu.javeriana.as.personapp.domain.Phone;
 import co.edu.javeriana.as.personapp.mongo.document.PersonaDocument;
+import co.edu.javeriana.as.personapp.mongo.document.TelefonoDocument;
 import co.edu.javeriana.as.personapp.mongo.mapper.PersonaMapperMongo;
+import co.edu.javeriana.as.personapp.mongo.mapper.TelefonoMapperMongo;
 import co.edu.javeriana.as.personapp.mongo.repository.PersonaRepositoryMongo;
+import co.edu.javeriana.as.personapp.mongo.repository.PersonaSummaryMongo;
+import co.edu.javeriana.as.personapp.mongo.repository.TelefonoRepositoryMongo;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -25,6 +47,19 @@ public class PersonOutputAdapterMongo implements PersonOutputPort {
 	
 	@Autowired
 	private PersonaMapperMongo personaMapperMongo;
+
+	@Autowired
+	private TelefonoRepositoryMongo telefonoRepositoryMongo;
+
+	@Autowired
+	private MongoTemplate mongoTemplate;
+
+	@Autowired
+	private TelefonoMapperMongo telefonoMapperMongo;
+
+	static final int STREAM_BATCH_SIZE = 500;
+
+	static final int SAVE_BATCH_SIZE = 1000;
 	
 	@Override
 	public Person save(Person person) {
@@ -39,11 +74,21 @@ public class PersonOutputAdapterMongo implements PersonOutputPort {
 		}		
 	}
 
+	/**
+	 * Upserts with unordered bulk writes of {@link #SAVE_BATCH_SIZE} replace
+	 * operations; see {@link BulkUpsert} for how failures are reported.
+	 */
+	@Override
+	public List<BatchItemResult<Person>> saveAll(Collection<Person> persons) {
+		log.debug("Into saveAll PersonEntity in MongoDB Adapter with {} persons", persons.size());
+		return BulkUpsert.run(mongoTemplate, PersonaDocument.class, persons, SAVE_BATCH_SIZE, Person::getIdentification,
+				personaMapperMongo::fromDomainToAdapter);
+	}
+
 	@Override
 	public Boolean delete(Long cc) {
 		log.debug("Into delete PersonEntity in MongoDB Adapter");
-		personaRepositoryMongo.deleteById(cc.intValue());
-		return !personaRepositoryMongo.existsById(cc.intValue());
+		return personaRepositoryMongo.removeById(cc.intValue()) > 0;
 	}
 
 	@Override
@@ -54,6 +99,15 @@ public class PersonOutputAdapterMongo implements PersonOutputPort {
 				.collect(Collectors.toList());
 	}
 
+	@Override
+	public List<Person> findPage(Integer after, Integer limit) {
+		log.debug("Into findPage PersonEntity in MongoDB Adapter after {} limit {}", after, limit);
+		PageRequest page = PageRequest.of(0, limit);
+		List<PersonaDocument> personas = after == null ? personaRepositoryMongo.findAllByOrderByIdAsc(page)
+				: personaRepositoryMongo.findByIdGreaterThanOrderByIdAsc(after, page);
+		return personas.stream().map(personaMapperMongo::fromAdapterToDomain).collect(Collectors.toList());
+	}
+
 	@Override
 	public Person findById(Long cc) {
 		log.debug("Into findById PersonEntity in MongoDB Adapter");
@@ -61,4 +115,84 @@ public class PersonOutputAdapterMongo implements PersonOutputPort {
 		return optionalPersonaDocument.map(personaMapperMongo::fromAdapterToDomain).orElse(null);
 	}
 
+	@Override
+	public List<PersonSummary> findAllSummaries() {
+		log.debug("Into findAllSummaries PersonEntity in MongoDB Adapter");
+		return personaRepositoryMongo.findSummariesByOrderByIdAsc().stream()
+				.map(personaMapperMongo::fromAdapterToSummary).collect(Collectors.toList());
+	}
+
+	@Override
+	public List<PersonSummary> findSummaryPage(Integer after, Integer limit) {
+		log.debug("Into findSummaryPage PersonEntity in MongoDB Adapter after {} limit {}", after, limit);
+		PageRequest page = PageRequest.of(0, limit);
+		List<PersonaSummaryMongo> personas = after == null ? personaRepositoryMongo.findSummariesByOrderByIdAsc(page)
+				: personaRepositoryMongo.findSummariesByIdGreaterThanOrderByIdAsc(after, page);
+		return personas.stream().map(personaMapperMongo::fromAdapterToSummary).collect(Collectors.toList());
+	}
+
+	@Override
+	public List<PersonSummary> findSummariesById(Collection<Long> ccs) {
+		log.debug("Into findSummariesById PersonEntity in MongoDB Adapter with {} ids", ccs.size());
+		List<Integer> ids = ccs.stream().map(Long::intValue).collect(Collectors.toList());
+		return personaRepositoryMongo.findSummariesByIdIn(ids).stream().map(personaMapperMongo::fromAdapterToSummary)
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Reads persons from a cursor and attaches their phones one batch at a
+	 * time with a single $in query, so only one batch is ever held in memory.
+	 */
+	@Override
+	public Stream<Person> streamAll() {
+		log.debug("Into streamAll PersonEntity in MongoDB Adapter");
+		Stream<PersonaDocument> personas = personaRepositoryMongo.streamAllByOrderByIdAsc();
+		Iterator<List<PersonaDocument>> batches = batches(personas.iterator(), STREAM_BATCH_SIZE);
+		return StreamSupport
+				.stream(Spliterators.spliteratorUnknownSize(batches, Spliterator.ORDERED | Spliterator.NONNULL), false)
+				.flatMap(batch -> withPhones(batch).stream())
+				.onClose(personas::close);
+	}
+
+	private List<Person> withPhones(List<PersonaDocument> batch) {
+		List<Integer> ids = batch.stream().map(PersonaDocument::getId).collect(Collectors.toList());
+		Map<Integer, List<Phone>> phonesByOwner = new HashMap<>();
+		for (TelefonoDocument telefono : telefonoRepositoryMongo.findByDuenioIn(ids)) {
+			phonesByOwner.computeIfAbsent(telefono.getDuenio(), id -> new ArrayList<>())
+					.add(telefonoMapperMongo.fromAdapterToDomain(telefono));
+		}
+		List<Person> persons = new ArrayList<>(batch.size());
+		for (PersonaDocument persona : batch) {
+			persons.add(personaMapperMongo.fromAdapterToDomain(persona,
+					phonesByOwner.getOrDefault(persona.getId(), Collections.emptyList())));
+		}
+		return persons;
+	}
+
+	private static <T> Iterator<List<T>> batches(Iterator<T> source, int size) {
+		return new Iterator<List<T>>() {
+			@Override
+			public boolean hasNext() {
+				return source.hasNext();
+			}
+
+			@Override
+			public List<T> next() {
+				if (!source.hasNext()) {
+					throw new NoSuchElementException();
+				}
+				List<T> batch = new ArrayList<>(size);
+				while (batch.size() < size && source.hasNext()) {
+					batch.add(source.next());
+				}
+				return batch;
+			}
+		};
+	}
+
+	@Override
+	public Long count() {
+		log.debug("Into count PersonEntity in MongoDB Adapter");
+		return personaRepositoryMongo.count();
+	}
 }
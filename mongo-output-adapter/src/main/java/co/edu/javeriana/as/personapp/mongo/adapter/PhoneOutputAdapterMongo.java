@@ -1,5 +1,6 @@
 package co.edu.javeriana.as.personapp.mongo.adapter;
 
+import co.edu.javeriana.as.personapp.application.port.out.BatchItemResult;
 import co.edu.javeriana.as.personapp.application.port.out.PhoneOutputPort;
 import co.edu.javeriana.as.personapp.common.annotations.Adapter;
 import co.edu.javeriana.as.personapp.domain.Phone;
@@ -7,7 +8,10 @@ import co.edu.javeriana.as.personapp.mongo.document.TelefonoDocument;
 import co.edu.javeriana.as.personapp.mongo.mapper.TelefonoMapperMongo;
 import co.edu.javeriana.as.personapp.mongo.repository.TelefonoRepositoryMongo;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.MongoTemplate;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -21,6 +25,11 @@ public class PhoneOutputAdapterMongo implements PhoneOutputPort {
     @Autowired
     private TelefonoMapperMongo telefonoMapperMongo;
 
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    static final int SAVE_BATCH_SIZE = 1000;
+
     @Override
     public Phone save(Phone phone) {
         TelefonoDocument telefonoDocument = telefonoMapperMongo.fromDomainToAdapter(phone);
@@ -28,10 +37,15 @@ public class PhoneOutputAdapterMongo implements PhoneOutputPort {
         return telefonoMapperMongo.fromAdapterToDomain(savedDocument);
     }
 
+    @Override
+    public List<BatchItemResult<Phone>> saveAll(Collection<Phone> phones) {
+        return BulkUpsert.run(mongoTemplate, TelefonoDocument.class, phones, SAVE_BATCH_SIZE, Phone::getNumber,
+                telefonoMapperMongo::fromDomainToAdapter);
+    }
+
     @Override
     public Boolean delete(String number) {
-        telefonoRepositoryMongo.deleteById(number);
-        return telefonoRepositoryMongo.findById(number).isEmpty();
+        return telefonoRepositoryMongo.removeByNum(number) > 0;
     }
 
     @Override
@@ -41,6 +55,14 @@ public class PhoneOutputAdapterMongo implements PhoneOutputPort {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Phone> findPage(String after, Integer limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        List<TelefonoDocument> telefonos = after == null ? telefonoRepositoryMongo.findAllByOrderByNumAsc(page)
+                : telefonoRepositoryMongo.findByNumGreaterThanOrderByNumAsc(after, page);
+        return telefonoMapperMongo.fromAdapterListToDomainList(telefonos);
+    }
+
     @Override
     public Phone findById(String number) {
         Optional<TelefonoDocument> optionalTelefonoDocument = telefonoRepositoryMongo.findById(number);
@@ -53,4 +75,9 @@ public class PhoneOutputAdapterMongo implements PhoneOutputPort {
         List<TelefonoDocument> telefonoDocuments = telefonoRepositoryMongo.findByDuenio(personId);
         return telefonoMapperMongo.fromAdapterListToDomainList(telefonoDocuments);
     }
-} 
\ No newline at end of file
+
+    @Override
+    public Long count() {
+        return telefonoRepositoryMongo.count();
+    }
+}
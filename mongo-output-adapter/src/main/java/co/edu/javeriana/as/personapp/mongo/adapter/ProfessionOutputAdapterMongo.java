@@ -1,8 +1,12 @@
 package co.edu.javeriana.as.personapp.mongo.adapter;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import co.edu.javeriana.as.personapp.application.port.out.BatchItemResult;
 import co.edu.javeriana.as.personapp.application.port.out.ProfessionOutputPort;
 import co.edu.javeriana.as.personapp.common.annotations.Adapter;
 import co.edu.javeriana.as.personapp.domain.Profession;
@@ -21,6 +25,11 @@ public class ProfessionOutputAdapterMongo implements ProfessionOutputPort {
     @Autowired
     private ProfesionMapperMongo profesionMapperMongo;
 
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    static final int SAVE_BATCH_SIZE = 1000;
+
     @Override
     public Profession save(Profession profession) {
         log.debug("Into save Profession in MongoDB Adapter");
@@ -29,6 +38,13 @@ public class ProfessionOutputAdapterMongo implements ProfessionOutputPort {
         return profesionMapperMongo.fromAdapterToDomain(persistedProfesion);
     }
 
+    @Override
+    public List<BatchItemResult<Profession>> saveAll(Collection<Profession> professions) {
+        log.debug("Into saveAll Profession in MongoDB Adapter with {} professions", professions.size());
+        return BulkUpsert.run(mongoTemplate, ProfesionDocument.class, professions, SAVE_BATCH_SIZE,
+                Profession::getIdentification, profesionMapperMongo::fromDomainToAdapter);
+    }
+
     @Override
     public Boolean delete(Integer identification) {
         log.debug("Into delete Profession in MongoDB Adapter");
@@ -44,6 +60,15 @@ public class ProfessionOutputAdapterMongo implements ProfessionOutputPort {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Profession> findPage(Integer after, Integer limit) {
+        log.debug("Into findPage Profession in MongoDB Adapter after {} limit {}", after, limit);
+        PageRequest page = PageRequest.of(0, limit);
+        List<ProfesionDocument> profesiones = after == null ? profesionRepositoryMongo.findAllByOrderByIdAsc(page)
+                : profesionRepositoryMongo.findByIdGreaterThanOrderByIdAsc(after, page);
+        return profesiones.stream().map(profesionMapperMongo::fromAdapterToDomain).collect(Collectors.toList());
+    }
+
     @Override
     public Profession findById(Integer identification) {
         log.debug("Into findById Profession in MongoDB Adapter");
@@ -51,4 +76,10 @@ public class ProfessionOutputAdapterMongo implements ProfessionOutputPort {
                 .map(profesionMapperMongo::fromAdapterToDomain)
                 .orElse(null);
     }
-} 
\ No newline at end of file
+
+    @Override
+    public Long count() {
+        log.debug("Into count Profession in MongoDB Adapter");
+        return profesionRepositoryMongo.count();
+    }
+}
@@ -1,11 +1,19 @@
 package co.edu.javeriana.as.personapp.mongo.adapter;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 
+import co.edu.javeriana.as.personapp.application.port.out.BatchItemResult;
 import co.edu.javeriana.as.personapp.application.port.out.StudyOutputPort;
 import co.edu.javeriana.as.personapp.common.annotations.Adapter;
 import co.edu.javeriana.as.personapp.domain.Study;
@@ -18,12 +26,19 @@ import lombok.extern.slf4j.Slf4j;
 @Adapter("studyOutputAdapterMongo")
 public class StudyOutputAdapterMongo implements StudyOutputPort {
 
+    private static final int FIND_PAGE_SIZE = 500;
+
+    static final int SAVE_BATCH_SIZE = 1000;
+
     @Autowired
     private EstudiosRepositoryMongo estudiosRepositoryMongo;
 
     @Autowired
     private EstudiosMapperMongo estudiosMapperMongo;
 
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
     @Override
     public Study save(Study study) {
         log.debug("Into save StudyEntity in Mongo DB");
@@ -32,19 +47,60 @@ public class StudyOutputAdapterMongo implements StudyOutputPort {
         return estudiosMapperMongo.fromAdapterToDomain(savedDocument);
     }
 
+    @Override
+    public List<BatchItemResult<Study>> saveAll(Collection<Study> studies) {
+        log.debug("Into saveAll StudyEntity in Mongo DB with {} studies", studies.size());
+        return BulkUpsert.run(mongoTemplate, EstudiosDocument.class, studies, SAVE_BATCH_SIZE,
+                study -> study.getPersonId() + "_" + study.getProfessionId(),
+                estudiosMapperMongo::fromDomainToAdapter);
+    }
+
     @Override
     public Boolean delete(Integer personId, Integer professionId) {
         log.debug("Into delete StudyEntity in Mongo DB with personId {} and professionId {}", personId, professionId);
-        estudiosRepositoryMongo.deleteByCcPerAndIdProf(personId, professionId);
-        return estudiosRepositoryMongo.findByCcPerAndIdProf(personId, professionId).isEmpty();
+        return estudiosRepositoryMongo.deleteByCcPerAndIdProf(personId, professionId) > 0;
     }
 
     @Override
     public List<Study> find() {
         log.debug("Into find StudiesEntity in Mongo DB");
-        return estudiosRepositoryMongo.findAll().stream()
-                .map(estudiosMapperMongo::fromAdapterToDomain)
-                .collect(Collectors.toList());
+        // Read page by page so no single query materializes the whole collection
+        Pageable pageable = PageRequest.of(0, FIND_PAGE_SIZE, Sort.by("_id"));
+        List<Study> studies = new ArrayList<>();
+        List<EstudiosDocument> page = estudiosRepositoryMongo.findFirstPage(pageable);
+        while (!page.isEmpty()) {
+            studies.addAll(estudiosMapperMongo.fromAdapterListToDomainList(page));
+            if (page.size() < FIND_PAGE_SIZE) {
+                break;
+            }
+            page = estudiosRepositoryMongo.findPageAfter(page.get(page.size() - 1).get_id(), pageable);
+        }
+        return studies;
+    }
+
+    @Override
+    public List<Study> findPage(Integer afterProfessionId, Integer afterPersonId, Integer limit) {
+        log.debug("Into findPage StudyEntity in Mongo DB after ({}, {}) limit {}", afterProfessionId, afterPersonId,
+                limit);
+        Criteria criteria = afterProfessionId == null ? new Criteria()
+                : new Criteria().orOperator(Criteria.where("idProf").gt(afterProfessionId),
+                        Criteria.where("idProf").is(afterProfessionId).and("ccPer").gt(afterPersonId));
+        Query query = Query.query(criteria).with(Sort.by("idProf", "ccPer")).limit(limit);
+        return estudiosMapperMongo.fromAdapterListToDomainList(mongoTemplate.find(query, EstudiosDocument.class));
+    }
+
+    @Override
+    public List<Study> findByPersonId(Integer personId) {
+        log.debug("Into findByPersonId StudyEntity in Mongo DB with personId {}", personId);
+        return estudiosMapperMongo.fromAdapterListToDomainList(
+                estudiosRepositoryMongo.findByCcPerOrderByIdProfAsc(personId));
+    }
+
+    @Override
+    public List<Study> findByProfessionId(Integer professionId) {
+        log.debug("Into findByProfessionId StudyEntity in Mongo DB with professionId {}", professionId);
+        return estudiosMapperMongo.fromAdapterListToDomainList(
+                estudiosRepositoryMongo.findByIdProfOrderByCcPerAsc(professionId));
     }
 
     @Override
@@ -53,4 +109,10 @@ public class StudyOutputAdapterMongo implements StudyOutputPort {
         Optional<EstudiosDocument> optionalEstudiosDocument = estudiosRepositoryMongo.findByCcPerAndIdProf(personId, professionId);
         return optionalEstudiosDocument.map(estudiosMapperMongo::fromAdapterToDomain).orElse(null);
     }
-} 
\ No newline at end of file
+
+    @Override
+    public Long count() {
+        log.debug("Into count StudiesEntity in Mongo DB");
+        return estudiosRepositoryMongo.count();
+    }
+}
@@ -1,6 +1,12 @@
 package co.edu.javeriana.as.personapp.mongo.config;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.mongodb.MongoDatabaseFactory;
@@ -10,13 +16,28 @@ import org.springframework.data.mongodb.repository.config.EnableMongoRepositorie
 
 import com.mongodb.ConnectionString;
 import com.mongodb.MongoClientSettings;
+import com.mongodb.ReadConcern;
+import com.mongodb.ReadConcernLevel;
+import com.mongodb.ReadPreference;
+import com.mongodb.WriteConcern;
 // import com.mongodb.MongoCredential; // No longer needed
 // import com.mongodb.ServerAddress; // No longer needed
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.mongodb.MongoMetricsConnectionPoolListener;
+
+import co.edu.javeriana.as.personapp.mongo.document.EstudiosDocument;
+import co.edu.javeriana.as.personapp.mongo.document.PersonaDocument;
+import co.edu.javeriana.as.personapp.mongo.document.PersonaOutboxDocument;
+import co.edu.javeriana.as.personapp.mongo.document.ProfesionDocument;
+import co.edu.javeriana.as.personapp.mongo.document.TelefonoDocument;
+import lombok.extern.slf4j.Slf4j;
+
 // import java.util.Collections; // No longer needed
 
+@Slf4j
 @Configuration
 @EnableMongoRepositories(basePackages = "co.edu.javeriana.as.personapp.mongo.repository")
 public class MongoConfig {
@@ -43,9 +64,47 @@ public class MongoConfig {
     
     @Value("${spring.data.mongodb.authentication-database:admin}")
     private String authenticationDatabase;
+
+    // Client tuning. Each setting is applied over the connection string only when its property is set;
+    // when neither gives a value the driver's default applies
+    @Value("${personapp.mongo.pool.max-size:}")
+    private Integer poolMaxSize;
+
+    @Value("${personapp.mongo.pool.min-size:}")
+    private Integer poolMinSize;
+
+    // How long a request waits for a free connection before failing
+    @Value("${personapp.mongo.pool.max-wait:}")
+    private Duration poolMaxWait;
+
+    // 0 keeps idle connections open
+    @Value("${personapp.mongo.pool.max-idle-time:}")
+    private Duration poolMaxIdleTime;
+
+    @Value("${personapp.mongo.connect-timeout:}")
+    private Duration connectTimeout;
+
+    // 0 waits for a reply indefinitely
+    @Value("${personapp.mongo.socket-timeout:}")
+    private Duration socketTimeout;
+
+    @Value("${personapp.mongo.server-selection-timeout:}")
+    private Duration serverSelectionTimeout;
+
+    // primary, primaryPreferred, secondary, secondaryPreferred or nearest
+    @Value("${personapp.mongo.read-preference:}")
+    private String readPreference;
+
+    // local, majority, ...
+    @Value("${personapp.mongo.read-concern:}")
+    private String readConcern;
+
+    // acknowledged, majority, w1, w2, journaled, ...
+    @Value("${personapp.mongo.write-concern:}")
+    private String writeConcern;
     
     @Bean
-    public MongoClient mongoClient() {
+    public MongoClient mongoClient(ObjectProvider<MeterRegistry> meterRegistry) {
         String connectionString;
         
         // If a URI is explicitly provided, use it
@@ -62,25 +121,88 @@ public class MongoConfig {
             }
         }
         
-        System.out.println("Using MongoDB connection URI for MongoClient: " + connectionString);
         ConnectionString connString = new ConnectionString(connectionString);
-        MongoClientSettings mongoClientSettings = MongoClientSettings.builder()
+        MongoClientSettings.Builder settings = MongoClientSettings.builder()
             .applyConnectionString(connString)
-            .build();
-        return MongoClients.create(mongoClientSettings);
+            .applyToConnectionPoolSettings(pool -> {
+                if (poolMaxSize != null) {
+                    pool.maxSize(poolMaxSize);
+                }
+                if (poolMinSize != null) {
+                    pool.minSize(poolMinSize);
+                }
+                if (poolMaxWait != null) {
+                    pool.maxWaitTime(poolMaxWait.toMillis(), TimeUnit.MILLISECONDS);
+                }
+                if (poolMaxIdleTime != null) {
+                    pool.maxConnectionIdleTime(poolMaxIdleTime.toMillis(), TimeUnit.MILLISECONDS);
+                }
+            })
+            .applyToSocketSettings(socket -> {
+                if (connectTimeout != null) {
+                    socket.connectTimeout((int) connectTimeout.toMillis(), TimeUnit.MILLISECONDS);
+                }
+                if (socketTimeout != null) {
+                    socket.readTimeout((int) socketTimeout.toMillis(), TimeUnit.MILLISECONDS);
+                }
+            })
+            .applyToClusterSettings(cluster -> {
+                if (serverSelectionTimeout != null) {
+                    cluster.serverSelectionTimeout(serverSelectionTimeout.toMillis(), TimeUnit.MILLISECONDS);
+                }
+            });
+        if (!readPreference.isBlank()) {
+            settings.readPreference(ReadPreference.valueOf(readPreference));
+        }
+        if (!readConcern.isBlank()) {
+            settings.readConcern(new ReadConcern(ReadConcernLevel.fromString(readConcern)));
+        }
+        if (!writeConcern.isBlank()) {
+            settings.writeConcern(writeConcern(writeConcern));
+        }
+        // Publishes mongodb.driver.pool.size, .checkedout and .waitqueuesize per server
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            settings.applyToConnectionPoolSettings(
+                pool -> pool.addConnectionPoolListener(new MongoMetricsConnectionPoolListener(registry)));
+        }
+        MongoClientSettings built = settings.build();
+        // The connection string may hold the password, so only the hosts and the effective settings are logged
+        log.info("MongoDB client for {}/{}: pool {}..{} (max wait {} ms), read preference {}, write concern {}",
+            connString.getHosts(), database, built.getConnectionPoolSettings().getMinSize(),
+            built.getConnectionPoolSettings().getMaxSize(),
+            built.getConnectionPoolSettings().getMaxWaitTime(TimeUnit.MILLISECONDS),
+            built.getReadPreference().getName(), built.getWriteConcern());
+        return MongoClients.create(built);
+    }
+
+    private static WriteConcern writeConcern(String name) {
+        WriteConcern concern = WriteConcern.valueOf(name);
+        if (concern == null) {
+            throw new IllegalArgumentException("Unknown personapp.mongo.write-concern: " + name);
+        }
+        return concern;
     }
     
     @Bean
-    public MongoDatabaseFactory mongoDatabaseFactory() {
+    public MongoDatabaseFactory mongoDatabaseFactory(MongoClient mongoClient) {
         // The database name from the URI will be used if not specified otherwise.
         // However, SimpleMongoClientDatabaseFactory constructor requires a database name.
         // If the URI contains the database, it's often parsed by the factory.
         // Explicitly passing `database` ensures it uses the @Value injected one.
-        return new SimpleMongoClientDatabaseFactory(mongoClient(), database);
+        return new SimpleMongoClientDatabaseFactory(mongoClient, database);
     }
     
     @Bean
-    public MongoTemplate mongoTemplate() {
-        return new MongoTemplate(mongoDatabaseFactory());
+    public MongoTemplate mongoTemplate(MongoDatabaseFactory mongoDatabaseFactory) {
+        return new MongoTemplate(mongoDatabaseFactory);
+    }
+
+    // Auto index creation stays off: it would run on first use of each document, not at startup
+    @Bean
+    @ConditionalOnProperty(name = "personapp.mongo.indexes.enabled", havingValue = "true", matchIfMissing = true)
+    public MongoIndexInitializer mongoIndexInitializer(MongoTemplate mongoTemplate) {
+        return new MongoIndexInitializer(mongoTemplate, List.of(PersonaDocument.class, ProfesionDocument.class,
+                TelefonoDocument.class, EstudiosDocument.class, PersonaOutboxDocument.class));
     }
 } 
\ No newline at end of file
@@ -0,0 +1,139 @@
+package co.edu.javeriana.as.personapp.mongo.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.bson.Document;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import com.mongodb.MongoCommandException;
+import com.mongodb.MongoSocketException;
+import com.mongodb.MongoTimeoutException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Ensures the indexes declared with {@code @Indexed} and {@code @CompoundIndex}
+ * on the documents once the context is built, so lookups by key never depend on
+ * scripts/persona_ddl_mongo.js having been run. An index is created only if no
+ * index with its keys exists. An existing index with the same keys but another
+ * name or options, or with the same name and other keys, stops the startup.
+ * An unreachable MongoDB only logs a warning, so the other databases stay usable.
+ */
+@Slf4j
+public class MongoIndexInitializer implements SmartInitializingSingleton {
+
+    private final MongoTemplate mongoTemplate;
+    private final List<Class<?>> documents;
+
+    public MongoIndexInitializer(MongoTemplate mongoTemplate, List<Class<?>> documents) {
+        this.mongoTemplate = mongoTemplate;
+        this.documents = documents;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long start = System.nanoTime();
+        try {
+            Report report = ensureIndexes();
+            log.info("MongoDB indexes ensured in {} ms: {} existing, {} created",
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), report.existing, report.created);
+        } catch (MongoTimeoutException | MongoSocketException e) {
+            log.warn("MongoDB unreachable, indexes not ensured: {}", e.getMessage());
+        }
+    }
+
+    Report ensureIndexes() {
+        IndexResolver resolver = new MongoPersistentEntityIndexResolver(
+                (MongoMappingContext) mongoTemplate.getConverter().getMappingContext());
+        Report report = new Report();
+        List<String> conflicts = new ArrayList<>();
+        for (Class<?> document : documents) {
+            String collection = mongoTemplate.getCollectionName(document);
+            List<Document> existing = mongoTemplate.getCollection(collection).listIndexes()
+                    .into(new ArrayList<>());
+            for (IndexDefinition index : resolver.resolveIndexFor(document)) {
+                String conflict = conflict(collection, index, existing);
+                if (conflict != null) {
+                    conflicts.add(conflict);
+                } else if (findByKeys(existing, index.getIndexKeys()) != null) {
+                    report.existing++;
+                } else {
+                    create(collection, index);
+                    report.created++;
+                }
+            }
+        }
+        if (!conflicts.isEmpty()) {
+            throw new IllegalStateException("MongoDB index conflicts, drop or rename the existing indexes: "
+                    + String.join("; ", conflicts));
+        }
+        return report;
+    }
+
+    private void create(String collection, IndexDefinition index) {
+        long start = System.nanoTime();
+        try {
+            String name = mongoTemplate.indexOps(collection).ensureIndex(index);
+            log.info("Created MongoDB index {}.{} {} in {} ms", collection, name, index.getIndexKeys().toJson(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (MongoCommandException e) {
+            // e.g. a unique index over duplicated rows
+            throw new IllegalStateException("Cannot create MongoDB index " + collection + "."
+                    + index.getIndexOptions().get("name") + ": " + e.getErrorMessage(), e);
+        }
+    }
+
+    // Null when the index can be kept or created; package-private for the conflict rule tests
+    static String conflict(String collection, IndexDefinition index, List<Document> existing) {
+        Document options = index.getIndexOptions();
+        String name = options.getString("name");
+        Document sameKeys = findByKeys(existing, index.getIndexKeys());
+        if (sameKeys != null) {
+            boolean unique = Boolean.TRUE.equals(options.get("unique"));
+            boolean existingUnique = Boolean.TRUE.equals(sameKeys.get("unique"));
+            if ((name != null && !name.equals(sameKeys.getString("name"))) || unique != existingUnique) {
+                return collection + "." + sameKeys.getString("name") + " " + describe(sameKeys.get("key", Document.class),
+                        existingUnique) + " differs from the declared " + name + " "
+                        + describe(index.getIndexKeys(), unique);
+            }
+            return null;
+        }
+        for (Document candidate : existing) {
+            if (candidate.getString("name").equals(name)) {
+                return collection + "." + name + " exists on " + candidate.get("key", Document.class).toJson()
+                        + " but is declared on " + index.getIndexKeys().toJson();
+            }
+        }
+        return null;
+    }
+
+    private static Document findByKeys(List<Document> existing, Document keys) {
+        List<String> wanted = keyList(keys);
+        return existing.stream().filter(candidate -> keyList(candidate.get("key", Document.class)).equals(wanted))
+                .findFirst().orElse(null);
+    }
+
+    // Compound index keys are ordered, and the server may return 1 as 1.0
+    private static List<String> keyList(Document keys) {
+        return keys.entrySet().stream().map(key -> key.getKey() + ":"
+                + (key.getValue() instanceof Number ? ((Number) key.getValue()).intValue() : key.getValue()))
+                .collect(Collectors.toList());
+    }
+
+    private static String describe(Document keys, boolean unique) {
+        return keys.toJson() + (unique ? " unique" : "");
+    }
+
+    static final class Report {
+        int existing;
+        int created;
+    }
+}
@@ -3,6 +3,8 @@ package co.edu.javeriana.as.personapp.mongo.document;
 import java.time.LocalDate;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.DocumentReference;
 
@@ -14,10 +16,14 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "estudios")
+// Named as createIndex names them in scripts/persona_ddl_mongo.js
+@CompoundIndex(name = "ccPer_1_idProf_1", def = "{'ccPer': 1, 'idProf': 1}", unique = true)
 public class EstudiosDocument {
 	@Id
 	private String _id; // MongoDB default ID, can be composite key string like "personId_professionId"
+	@Indexed(name = "idProf_1")
 	private Integer idProf; // Profession ID from original composite key
+	@Indexed(name = "ccPer_1")
 	private Integer ccPer;  // Person ID from original composite key
 	private LocalDate fecha;
 	private String univer;
@@ -0,0 +1,28 @@
+package co.edu.javeriana.as.personapp.mongo.document;
+
+import java.time.Instant;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Document("persona_outbox")
+// Serves the due entries query in _id order
+@CompoundIndex(name = "proximoIntento_1__id_1", def = "{'proximoIntento': 1, '_id': 1}")
+public class PersonaOutboxDocument {
+	// ObjectId: increases with insertion time, which gives the outbox its order
+	@Id
+	private String id;
+	private Integer cc;
+	private Instant creado;
+	private Integer intentos;
+	private Instant proximoIntento;
+	private String error;
+}
@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 @Data
@@ -17,5 +18,6 @@ public class TelefonoDocument {
 
     private String oper;
 
+    @Indexed(name = "duenio_1")
     private Integer duenio;
 }
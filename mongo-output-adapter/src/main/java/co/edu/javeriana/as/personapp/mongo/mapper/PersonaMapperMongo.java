@@ -1,135 +1,122 @@
 package co.edu.javeriana.as.personapp.mongo.mapper;
 
-import java.util.ArrayList;
+import java.time.Duration;
 import java.util.List;
-import java.util.stream.Collectors;
 
+import org.mapstruct.AfterMapping;
+import org.mapstruct.BeforeMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Autowired;
 
-import co.edu.javeriana.as.personapp.common.annotations.Mapper;
+import co.edu.javeriana.as.personapp.common.logging.SampledLog;
 import co.edu.javeriana.as.personapp.domain.Gender;
 import co.edu.javeriana.as.personapp.domain.Person;
+import co.edu.javeriana.as.personapp.domain.PersonSummary;
 import co.edu.javeriana.as.personapp.domain.Phone;
-import co.edu.javeriana.as.personapp.domain.Study;
-import co.edu.javeriana.as.personapp.mongo.document.EstudiosDocument;
 import co.edu.javeriana.as.personapp.mongo.document.PersonaDocument;
-import co.edu.javeriana.as.personapp.mongo.document.TelefonoDocument;
+import co.edu.javeriana.as.personapp.mongo.repository.PersonaSummaryMongo;
 import lombok.NonNull;
 
-@Mapper
-public class PersonaMapperMongo {
+/**
+ * Generated by MapStruct (PersonaMapperMongoImpl). PersonaDocument keeps no
+ * phones or studies, so unless the phones are given the domain lists are the
+ * shared empty list.
+ */
+@Mapper(componentModel = "spring")
+public abstract class PersonaMapperMongo {
 
 	private static final Logger log = LoggerFactory.getLogger(PersonaMapperMongo.class);
-
-	@Autowired
-	private EstudiosMapperMongo estudiosMapperMongo;
-
-	@Autowired
-	private TelefonoMapperMongo telefonoMapperMongo;
-
-	public PersonaDocument fromDomainToAdapter(Person person) {
-		PersonaDocument personaDocument = new PersonaDocument();
-		personaDocument.setId(person.getIdentification());
-		personaDocument.setNombre(person.getFirstName());
-		personaDocument.setApellido(person.getLastName());
-		personaDocument.setGenero(validateGenero(person.getGender()));
-		personaDocument.setEdad(validateEdad(person.getAge()));
-		// personaDocument.setEstudios(validateEstudios(person.getStudies())); // Field commented out in PersonaDocument
-		// personaDocument.setTelefonos(validateTelefonos(person.getPhoneNumbers())); // Field commented out in PersonaDocument
-		return personaDocument;
-	}
-
-	private String validateGenero(@NonNull Gender gender) {
-		return gender == Gender.FEMALE ? "F" : gender == Gender.MALE ? "M" : " ";
+	// Per-document conditions, at most one line a minute
+	private static final SampledLog nullDocument = new SampledLog(log, Duration.ofMinutes(1));
+	private static final SampledLog nullGender = new SampledLog(log, Duration.ofMinutes(1));
+
+	@Mapping(source = "identification", target = "id")
+	@Mapping(source = "firstName", target = "nombre")
+	@Mapping(source = "lastName", target = "apellido")
+	@Mapping(source = "gender", target = "genero")
+	@Mapping(source = "age", target = "edad", qualifiedByName = "toEdad")
+	public abstract PersonaDocument fromDomainToAdapter(Person person);
+
+	@Mapping(source = "id", target = "identification")
+	@Mapping(source = "nombre", target = "firstName")
+	@Mapping(source = "apellido", target = "lastName")
+	@Mapping(source = "genero", target = "gender")
+	@Mapping(source = "edad", target = "age", qualifiedByName = "toAge")
+	@Mapping(target = "phoneNumbers", ignore = true)
+	@Mapping(target = "studies", ignore = true)
+	public abstract Person fromAdapterToDomain(PersonaDocument personaDocument);
+
+	// The phones are stored in their own collection and looked up by the adapter
+	@Mapping(source = "personaDocument.id", target = "identification")
+	@Mapping(source = "personaDocument.nombre", target = "firstName")
+	@Mapping(source = "personaDocument.apellido", target = "lastName")
+	@Mapping(source = "personaDocument.genero", target = "gender")
+	@Mapping(source = "personaDocument.edad", target = "age", qualifiedByName = "toAge")
+	@Mapping(source = "phoneNumbers", target = "phoneNumbers", qualifiedByName = "asGiven")
+	@Mapping(target = "studies", ignore = true)
+	public abstract Person fromAdapterToDomain(PersonaDocument personaDocument, List<Phone> phoneNumbers);
+
+	public PersonSummary fromAdapterToSummary(PersonaSummaryMongo persona) {
+		return new PersonSummary(persona.getId(), persona.getNombre(), persona.getApellido(),
+				validateGender(persona.getGenero()), toAge(persona.getEdad()));
 	}
 
-	private Integer validateEdad(Integer age) {
-		return age != null && age >= 0 ? age : null;
+	// Runs before the generated null check
+	@BeforeMapping
+	protected void checkDocument(PersonaDocument personaDocument) {
+		if (personaDocument == null) {
+			nullDocument.warn("PersonaDocument received in mapper is null.");
+		}
 	}
 
-	private List<EstudiosDocument> validateEstudios(List<Study> studies) {
-		return studies != null && !studies.isEmpty() ? studies.stream()
-				.map(study -> estudiosMapperMongo.fromDomainToAdapter(study)).collect(Collectors.toList())
-				: new ArrayList<EstudiosDocument>();
+	@AfterMapping
+	protected void logMapped(PersonaDocument personaDocument) {
+		log.debug("Mapped PersonaDocument {} to Person domain", personaDocument.getId());
 	}
 
-	private List<TelefonoDocument> validateTelefonos(List<Phone> phoneNumbers) {
-		return phoneNumbers != null && !phoneNumbers.isEmpty() ? phoneNumbers.stream()
-				.map(phone -> telefonoMapperMongo.fromDomainToAdapter(phone)).collect(Collectors.toList())
-				: new ArrayList<TelefonoDocument>();
+	protected String validateGenero(@NonNull Gender gender) {
+		switch (gender) {
+		case FEMALE:
+			return "F";
+		case MALE:
+			return "M";
+		default:
+			return " ";
+		}
 	}
 
-	public Person fromAdapterToDomain(PersonaDocument personaDocument) {
-		log.info("Mapping PersonaDocument to Person domain: {}", personaDocument != null ? personaDocument.toString() : "null");
-		if (personaDocument == null) {
-			log.warn("PersonaDocument received in mapper is null.");
-			return null; // Or throw, depending on desired behavior for null input
+	protected @NonNull Gender validateGender(String genero) {
+		if (genero == null) {
+			nullGender.warn("Genero string is null, defaulting to OTHER");
+			return Gender.OTHER;
 		}
-
-		// Log individual fields if toString() isn't revealing enough due to Lombok or proxies
-		if (personaDocument != null) {
-			log.info("PersonaDocument ID: {}", personaDocument.getId());
-			log.info("PersonaDocument Nombre: {}", personaDocument.getNombre());
-			log.info("PersonaDocument Apellido: {}", personaDocument.getApellido());
-			log.info("PersonaDocument Genero: {}", personaDocument.getGenero());
-			log.info("PersonaDocument Edad: {}", personaDocument.getEdad());
+		switch (genero) {
+		case "F":
+			return Gender.FEMALE;
+		case "M":
+			return Gender.MALE;
+		default:
+			return Gender.OTHER;
 		}
-
-		Person person = new Person();
-		person.setIdentification(personaDocument.getId()); // Expect this to be non-null
-		
-		// Allow potential NPEs here to see if fields are truly null
-		person.setFirstName(personaDocument.getNombre());
-		person.setLastName(personaDocument.getApellido());
-		person.setGender(validateGender(personaDocument.getGenero())); // validateGender handles null input by returning OTHER
-		person.setAge(validateAge(personaDocument.getEdad()));
-		
-		// Estudios and Telefonos are currently commented out in PersonaDocument, so their lists would be null/empty
-		// and validateStudies/validatePhones should handle that by returning empty lists for Person domain.
-		// However, since they are commented out in PersonaDocument, personaDocument.getEstudios() might not even exist.
-		// Let's ensure these methods are robust to null inputs from PersonaDocument fields that might not exist.
-		List<EstudiosDocument> estudiosDocs = null;
-        List<TelefonoDocument> telefonosDocs = null;
-
-        // try {
-        //     // Attempt to get them if the methods exist, otherwise they remain null
-        //     // This part is tricky as the fields are commented out in the class definition
-        //     // So, direct calls like personaDocument.getEstudios() will fail compilation if fields are truly gone.
-        //     // For now, assuming these lists will be effectively empty or handled if PersonaDocument is simplified.
-        // } catch (Exception e) {
-        //     log.warn("Could not access estudios/telefonos from PersonaDocument, possibly due to commented fields.");
-        // }
-
-		person.setStudies(validateStudies(estudiosDocs)); 
-		person.setPhoneNumbers(validatePhones(telefonosDocs));
-		
-		log.info("Mapped to Person domain: {}", person.toString());
-		return person;
-	}
-
-	private @NonNull Gender validateGender(String genero) {
-	    if (genero == null) {
-            log.warn("Genero string is null, defaulting to OTHER");
-            return Gender.OTHER;
-        }
-		return "F".equals(genero) ? Gender.FEMALE : "M".equals(genero) ? Gender.MALE : Gender.OTHER;
 	}
 
-	private Integer validateAge(Integer edad) {
-		return edad != null && edad >= 0 ? edad : null;
+	// An unknown age is stored as a missing edad
+	@Named("toEdad")
+	protected Integer toEdad(int age) {
+		return age >= 0 ? age : null;
 	}
 
-	private List<Study> validateStudies(List<EstudiosDocument> estudiosDocuments) {
-		return estudiosDocuments != null && !estudiosDocuments.isEmpty() ? estudiosDocuments.stream()
-				.map(estudio -> estudiosMapperMongo.fromAdapterToDomain(estudio)).collect(Collectors.toList())
-				: new ArrayList<Study>();
+	// Not copied: the adapter builds a list for each person
+	@Named("asGiven")
+	protected List<Phone> asGiven(List<Phone> phoneNumbers) {
+		return phoneNumbers;
 	}
 
-	private List<Phone> validatePhones(List<TelefonoDocument> telefonosDocuments) {
-		return telefonosDocuments != null && !telefonosDocuments.isEmpty() ? telefonosDocuments.stream()
-				.map(telefono -> telefonoMapperMongo.fromAdapterToDomain(telefono)).collect(Collectors.toList())
-				: new ArrayList<Phone>();
+	@Named("toAge")
+	protected int toAge(Integer edad) {
+		return edad != null && edad >= 0 ? edad : Person.UNKNOWN_AGE;
 	}
-}
\ No newline at end of file
+}
@@ -1,72 +1,48 @@
 package co.edu.javeriana.as.personapp.mongo.mapper;
 
-import org.springframework.beans.factory.annotation.Autowired;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
-import co.edu.javeriana.as.personapp.common.annotations.Mapper;
-import co.edu.javeriana.as.personapp.domain.Gender;
-import co.edu.javeriana.as.personapp.domain.Person;
 import co.edu.javeriana.as.personapp.domain.Phone;
-import co.edu.javeriana.as.personapp.mongo.document.PersonaDocument;
 import co.edu.javeriana.as.personapp.mongo.document.TelefonoDocument;
-import lombok.NonNull;
 
-import java.util.List;
-import java.util.stream.Collectors;
+@Mapper(componentModel = "spring")
+public interface TelefonoMapperMongo {
 
-@Mapper
-public class TelefonoMapperMongo {
+	// Just the person's ID is stored, not the entire PersonaDocument
+	@Mapping(source = "number", target = "num")
+	@Mapping(source = "company", target = "oper")
+	@Mapping(source = "ownerId", target = "duenio")
+	TelefonoDocument fromDomainToAdapter(Phone phone);
 
-	@Autowired
-	private PersonaMapperMongo personaMapperMongo;
+	@Mapping(source = "num", target = "number")
+	@Mapping(source = "oper", target = "company")
+	@Mapping(source = "duenio", target = "ownerId")
+	Phone fromAdapterToDomain(TelefonoDocument telefonoDocument);
 
-	public TelefonoDocument fromDomainToAdapter(Phone phone) {
-		if (phone == null) {
-			return null;
+	default List<Phone> fromAdapterListToDomainList(List<TelefonoDocument> telefonoDocuments) {
+		if (telefonoDocuments == null || telefonoDocuments.isEmpty()) {
+			return Collections.emptyList();
 		}
-		Integer personId = null;
-		if (phone.getOwner() != null && phone.getOwner().getIdentification() != null) {
-			// Just store the person's ID instead of the entire PersonaDocument
-			personId = phone.getOwner().getIdentification();
+		List<Phone> phones = new ArrayList<>(telefonoDocuments.size());
+		for (int i = 0; i < telefonoDocuments.size(); i++) {
+			phones.add(fromAdapterToDomain(telefonoDocuments.get(i)));
 		}
-		return new TelefonoDocument(
-				phone.getNumber(),
-				phone.getCompany(),
-				personId
-		);
+		return phones;
 	}
 
-	public Phone fromAdapterToDomain(TelefonoDocument telefonoDocument) {
-		if (telefonoDocument == null) {
-			return null;
+	default List<TelefonoDocument> fromDomainListToAdapterList(List<Phone> phones) {
+		if (phones == null || phones.isEmpty()) {
+			return Collections.emptyList();
 		}
-		Person person = null;
-		if (telefonoDocument.getDuenio() != null) {
-			// Create a minimal Person with just the ID
-			person = new Person();
-			person.setIdentification(telefonoDocument.getDuenio());
-		}
-		return new Phone(
-				telefonoDocument.getNum(),
-				telefonoDocument.getOper(),
-				person
-		);
-	}
-
-	public List<Phone> fromAdapterListToDomainList(List<TelefonoDocument> telefonoDocuments) {
-		if (telefonoDocuments == null) {
-			return null;
-		}
-		return telefonoDocuments.stream()
-				.map(this::fromAdapterToDomain)
-				.collect(Collectors.toList());
-	}
-
-	public List<TelefonoDocument> fromDomainListToAdapterList(List<Phone> phones) {
-		if (phones == null) {
-			return null;
+		List<TelefonoDocument> telefonos = new ArrayList<>(phones.size());
+		for (int i = 0; i < phones.size(); i++) {
+			telefonos.add(fromDomainToAdapter(phones.get(i)));
 		}
-		return phones.stream()
-				.map(this::fromDomainToAdapter)
-				.collect(Collectors.toList());
+		return telefonos;
 	}
-}
\ No newline at end of file
+}
@@ -1,8 +1,11 @@
 package co.edu.javeriana.as.personapp.mongo.repository;
 
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import co.edu.javeriana.as.personapp.mongo.document.EstudiosDocument;
@@ -12,6 +15,18 @@ public interface EstudiosRepositoryMongo extends MongoRepository<EstudiosDocumen
     // Define a method to find by the logical composite key parts
     Optional<EstudiosDocument> findByCcPerAndIdProf(Integer ccPer, Integer idProf);
 
-    // Define a method to delete by the logical composite key parts
-    void deleteByCcPerAndIdProf(Integer ccPer, Integer idProf);
+    // Delete by the logical composite key parts, returning the deleted count
+    Long deleteByCcPerAndIdProf(Integer ccPer, Integer idProf);
+
+    // Served by the ccPer and idProf indexes of scripts/persona_ddl_mongo.js
+    List<EstudiosDocument> findByCcPerOrderByIdProfAsc(Integer ccPer);
+
+    List<EstudiosDocument> findByIdProfOrderByCcPerAsc(Integer idProf);
+
+    // Keyset pagination over _id, the pageable carries the limit and the _id sort
+    @Query("{}")
+    List<EstudiosDocument> findFirstPage(Pageable pageable);
+
+    @Query("{ '_id': { $gt: ?0 } }")
+    List<EstudiosDocument> findPageAfter(String after, Pageable pageable);
 } 
\ No newline at end of file
@@ -1,9 +1,35 @@
 package co.edu.javeriana.as.personapp.mongo.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.Meta;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
 import co.edu.javeriana.as.personapp.mongo.document.PersonaDocument;
 
 public interface PersonaRepositoryMongo extends MongoRepository<PersonaDocument, Integer> {
 
+	// Keyset pagination over _id: { _id: { $gt: id } } sorted by _id with a limit
+	List<PersonaDocument> findByIdGreaterThanOrderByIdAsc(Integer id, Pageable pageable);
+
+	List<PersonaDocument> findAllByOrderByIdAsc(Pageable pageable);
+
+	// Summary reads project { nombre, apellido, genero, edad } on top of _id
+	List<PersonaSummaryMongo> findSummariesByOrderByIdAsc();
+
+	List<PersonaSummaryMongo> findSummariesByOrderByIdAsc(Pageable pageable);
+
+	List<PersonaSummaryMongo> findSummariesByIdGreaterThanOrderByIdAsc(Integer id, Pageable pageable);
+
+	List<PersonaSummaryMongo> findSummariesByIdIn(Collection<Integer> ids);
+
+	// Single deleteMany returning the deleted count, unlike deleteById which returns nothing
+	Long removeById(Integer id);
+
+	// Backed by a server-side cursor; the stream must be closed to release it
+	@Meta(cursorBatchSize = 500)
+	Stream<PersonaDocument> streamAllByOrderByIdAsc();
 }
@@ -0,0 +1,18 @@
+package co.edu.javeriana.as.personapp.mongo.repository;
+
+/**
+ * Closed projection of {@code persona}: Spring Data turns it into a field
+ * projection, so only these fields come back from the server.
+ */
+public interface PersonaSummaryMongo {
+
+	Integer getId();
+
+	String getNombre();
+
+	String getApellido();
+
+	String getGenero();
+
+	Integer getEdad();
+}
@@ -1,5 +1,8 @@
 package co.edu.javeriana.as.personapp.mongo.repository;
 
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
@@ -8,4 +11,8 @@ import co.edu.javeriana.as.personapp.mongo.document.ProfesionDocument;
 @Repository
 public interface ProfesionRepositoryMongo extends MongoRepository<ProfesionDocument, Integer> {
     // Integer is the type of the @Id field (id) in ProfesionDocument
+
+    List<ProfesionDocument> findAllByOrderByIdAsc(Pageable pageable);
+
+    List<ProfesionDocument> findByIdGreaterThanOrderByIdAsc(Integer after, Pageable pageable);
 } 
\ No newline at end of file
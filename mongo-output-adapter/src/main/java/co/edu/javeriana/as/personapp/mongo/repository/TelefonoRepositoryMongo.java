@@ -1,12 +1,22 @@
 package co.edu.javeriana.as.personapp.mongo.repository;
 
 import co.edu.javeriana.as.personapp.mongo.document.TelefonoDocument;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface TelefonoRepositoryMongo extends MongoRepository<TelefonoDocument, String> {
     List<TelefonoDocument> findByDuenio(Integer duenioId);
+
+    Long removeByNum(String num);
+
+    List<TelefonoDocument> findByDuenioIn(Collection<Integer> duenioIds);
+
+    List<TelefonoDocument> findAllByOrderByNumAsc(Pageable pageable);
+
+    List<TelefonoDocument> findByNumGreaterThanOrderByNumAsc(String after, Pageable pageable);
 } 
\ No newline at end of file
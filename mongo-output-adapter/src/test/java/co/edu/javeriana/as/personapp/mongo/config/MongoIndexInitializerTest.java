@@ -0,0 +1,116 @@
+package co.edu.javeriana.as.personapp.mongo.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.index.CompoundIndexDefinition;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import co.edu.javeriana.as.personapp.mongo.document.EstudiosDocument;
+import co.edu.javeriana.as.personapp.mongo.document.PersonaOutboxDocument;
+import co.edu.javeriana.as.personapp.mongo.document.TelefonoDocument;
+
+/**
+ * The conflict rules run over the documents listIndexes returns, so no
+ * MongoDB is needed.
+ */
+class MongoIndexInitializerTest {
+
+    private static final Document CC_PER = new Document("ccPer", 1);
+    private static final Document CC_PER_ID_PROF = new Document("ccPer", 1).append("idProf", 1);
+
+    // As returned by listIndexes
+    private static Document existing(String name, Document key, boolean unique) {
+        Document index = new Document("v", 2).append("key", key).append("name", name);
+        return unique ? index.append("unique", true) : index;
+    }
+
+    private static IndexDefinition ccPerIndex() {
+        return new Index().on("ccPer", Sort.Direction.ASC).named("ccPer_1");
+    }
+
+    private static IndexDefinition ccPerIdProfIndex() {
+        return new CompoundIndexDefinition(CC_PER_ID_PROF).named("ccPer_1_idProf_1").unique();
+    }
+
+    private static String conflict(IndexDefinition index, Document... existing) {
+        return MongoIndexInitializer.conflict("estudios", index, List.of(existing));
+    }
+
+    @Test
+    void aMissingIndexIsNoConflict() {
+        assertNull(conflict(ccPerIndex(), existing("_id_", new Document("_id", 1), false)));
+    }
+
+    @Test
+    void theSameIndexAlreadyThereIsNoConflict() {
+        assertNull(conflict(ccPerIndex(), existing("ccPer_1", CC_PER, false)));
+        assertNull(conflict(ccPerIdProfIndex(), existing("ccPer_1_idProf_1", CC_PER_ID_PROF, true)));
+    }
+
+    @Test
+    void theSameKeysUnderAnotherNameConflict() {
+        String conflict = conflict(ccPerIndex(), existing("by_person", CC_PER, false));
+
+        assertEquals("estudios.by_person {\"ccPer\": 1} differs from the declared ccPer_1 {\"ccPer\": 1}", conflict);
+    }
+
+    @Test
+    void aDifferentUniqueFlagConflicts() {
+        assertNotNull(conflict(ccPerIdProfIndex(), existing("ccPer_1_idProf_1", CC_PER_ID_PROF, false)));
+        assertNotNull(conflict(ccPerIndex(), existing("ccPer_1", CC_PER, true)));
+    }
+
+    @Test
+    void theSameNameOnOtherKeysConflicts() {
+        String conflict = conflict(ccPerIndex(), existing("ccPer_1", new Document("idProf", 1), false));
+
+        assertEquals("estudios.ccPer_1 exists on {\"idProf\": 1} but is declared on {\"ccPer\": 1}", conflict);
+    }
+
+    @Test
+    void keyOrderIsPartOfTheKeys() {
+        Document reversed = new Document("idProf", 1).append("ccPer", 1);
+
+        // Another index that can live next to the declared one
+        assertNull(conflict(ccPerIdProfIndex(), existing("idProf_1_ccPer_1", reversed, true)));
+        assertTrue(conflict(ccPerIdProfIndex(), existing("ccPer_1_idProf_1", reversed, true)).contains("exists on"));
+    }
+
+    @Test
+    void aKeyDirectionReturnedAsADoubleMatches() {
+        assertNull(conflict(ccPerIndex(), existing("ccPer_1", new Document("ccPer", 1.0), false)));
+        // The direction still counts
+        assertNotNull(conflict(ccPerIndex(), existing("ccPer_1", new Document("ccPer", -1), false)));
+    }
+
+    @Test
+    void theDeclaredIndexNamesAreTheDefaultsOfTheDdlScript() {
+        // The store's simple types, so LocalDate fields are not inspected as entities
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(new MongoCustomConversions(List.of()).getSimpleTypeHolder());
+        MongoPersistentEntityIndexResolver resolver = new MongoPersistentEntityIndexResolver(mappingContext);
+
+        assertEquals(List.of("ccPer_1_idProf_1", "idProf_1", "ccPer_1"), names(resolver, EstudiosDocument.class));
+        assertEquals(List.of("duenio_1"), names(resolver, TelefonoDocument.class));
+        assertEquals(List.of("proximoIntento_1__id_1"), names(resolver, PersonaOutboxDocument.class));
+    }
+
+    private static List<String> names(MongoPersistentEntityIndexResolver resolver, Class<?> document) {
+        return StreamSupport.stream(resolver.resolveIndexFor(document).spliterator(), false)
+                .map(index -> index.getIndexOptions().getString("name")).collect(Collectors.toList());
+    }
+}
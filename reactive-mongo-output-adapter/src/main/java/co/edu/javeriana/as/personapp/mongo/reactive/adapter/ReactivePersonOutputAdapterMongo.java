@@ -0,0 +1,66 @@
+package co.edu.javeriana.as.personapp.mongo.reactive.adapter;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import co.edu.javeriana.as.personapp.application.port.out.ReactivePersonOutputPort;
+import co.edu.javeriana.as.personapp.common.annotations.Adapter;
+import co.edu.javeriana.as.personapp.domain.Person;
+import co.edu.javeriana.as.personapp.mongo.document.PersonaDocument;
+import co.edu.javeriana.as.personapp.mongo.reactive.mapper.PersonaMapperReactiveMongo;
+import co.edu.javeriana.as.personapp.mongo.reactive.repository.ReactivePersonaRepositoryMongo;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Adapter("reactivePersonOutputAdapterMongo")
+public class ReactivePersonOutputAdapterMongo implements ReactivePersonOutputPort {
+
+	@Autowired
+	private ReactivePersonaRepositoryMongo personaRepositoryMongo;
+
+	@Autowired
+	private PersonaMapperReactiveMongo personaMapperReactiveMongo;
+
+	@Override
+	public Mono<Person> save(Person person) {
+		log.debug("Into save PersonEntity in Reactive MongoDB Adapter");
+		return Mono.fromCallable(() -> personaMapperReactiveMongo.fromDomainToAdapter(person))
+				.flatMap(personaRepositoryMongo::save)
+				.map(personaMapperReactiveMongo::fromAdapterToDomain);
+	}
+
+	@Override
+	public Mono<Boolean> delete(Long cc) {
+		log.debug("Into delete PersonEntity in Reactive MongoDB Adapter");
+		return personaRepositoryMongo.removeById(cc.intValue()).map(deleted -> deleted > 0);
+	}
+
+	@Override
+	public Flux<Person> findAll() {
+		log.debug("Into findAll PersonEntity in Reactive MongoDB Adapter");
+		return personaRepositoryMongo.findAllByOrderByIdAsc().map(personaMapperReactiveMongo::fromAdapterToDomain);
+	}
+
+	@Override
+	public Flux<Person> findPage(Integer after, Integer limit) {
+		log.debug("Into findPage PersonEntity in Reactive MongoDB Adapter after {} limit {}", after, limit);
+		PageRequest page = PageRequest.of(0, limit);
+		Flux<PersonaDocument> personas = after == null ? personaRepositoryMongo.findAllByOrderByIdAsc(page)
+				: personaRepositoryMongo.findByIdGreaterThanOrderByIdAsc(after, page);
+		return personas.map(personaMapperReactiveMongo::fromAdapterToDomain);
+	}
+
+	@Override
+	public Mono<Person> findById(Long cc) {
+		log.debug("Into findById PersonEntity in Reactive MongoDB Adapter");
+		return personaRepositoryMongo.findById(cc.intValue()).map(personaMapperReactiveMongo::fromAdapterToDomain);
+	}
+
+	@Override
+	public Mono<Long> count() {
+		log.debug("Into count PersonEntity in Reactive MongoDB Adapter");
+		return personaRepositoryMongo.count();
+	}
+}
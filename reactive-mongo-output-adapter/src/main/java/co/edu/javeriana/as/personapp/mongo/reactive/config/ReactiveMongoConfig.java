@@ -0,0 +1,14 @@
+package co.edu.javeriana.as.personapp.mongo.reactive.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.repository.config.EnableReactiveMongoRepositories;
+
+/**
+ * The reactive MongoClient and ReactiveMongoTemplate come from Spring Boot's
+ * auto-configuration, built from the same spring.data.mongodb.* properties
+ * the blocking adapter reads.
+ */
+@Configuration
+@EnableReactiveMongoRepositories(basePackages = "co.edu.javeriana.as.personapp.mongo.reactive.repository")
+public class ReactiveMongoConfig {
+}
@@ -0,0 +1,42 @@
+package co.edu.javeriana.as.personapp.mongo.reactive.mapper;
+
+import co.edu.javeriana.as.personapp.common.annotations.Mapper;
+import co.edu.javeriana.as.personapp.domain.Gender;
+import co.edu.javeriana.as.personapp.domain.Person;
+import co.edu.javeriana.as.personapp.mongo.document.PersonaDocument;
+import lombok.NonNull;
+
+/**
+ * Same document layout as PersonaMapperMongo, but without its wiring to the
+ * study and phone mappers, which pull in the blocking repositories.
+ */
+@Mapper
+public class PersonaMapperReactiveMongo {
+
+	public PersonaDocument fromDomainToAdapter(Person person) {
+		PersonaDocument personaDocument = new PersonaDocument();
+		personaDocument.setId(person.getIdentification());
+		personaDocument.setNombre(person.getFirstName());
+		personaDocument.setApellido(person.getLastName());
+		personaDocument.setGenero(validateGenero(person.getGender()));
+		personaDocument.setEdad(person.isValidAge() ? person.getAge() : null);
+		return personaDocument;
+	}
+
+	public Person fromAdapterToDomain(PersonaDocument personaDocument) {
+		return new Person(personaDocument.getId(), personaDocument.getNombre(), personaDocument.getApellido(),
+				validateGender(personaDocument.getGenero()), validateAge(personaDocument.getEdad()), null, null);
+	}
+
+	private String validateGenero(@NonNull Gender gender) {
+		return gender == Gender.FEMALE ? "F" : gender == Gender.MALE ? "M" : " ";
+	}
+
+	private @NonNull Gender validateGender(String genero) {
+		return "F".equals(genero) ? Gender.FEMALE : "M".equals(genero) ? Gender.MALE : Gender.OTHER;
+	}
+
+	private int validateAge(Integer edad) {
+		return edad != null && edad >= 0 ? edad : Person.UNKNOWN_AGE;
+	}
+}
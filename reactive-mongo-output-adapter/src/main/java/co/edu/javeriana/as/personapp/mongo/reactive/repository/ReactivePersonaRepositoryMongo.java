@@ -0,0 +1,22 @@
+package co.edu.javeriana.as.personapp.mongo.reactive.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+
+import co.edu.javeriana.as.personapp.mongo.document.PersonaDocument;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactivePersonaRepositoryMongo extends ReactiveMongoRepository<PersonaDocument, Integer> {
+
+	// Cursor-backed; documents are fetched as the subscriber requests them
+	Flux<PersonaDocument> findAllByOrderByIdAsc();
+
+	// Keyset pagination over _id, same shape as the blocking repository
+	Flux<PersonaDocument> findByIdGreaterThanOrderByIdAsc(Integer id, Pageable pageable);
+
+	Flux<PersonaDocument> findAllByOrderByIdAsc(Pageable pageable);
+
+	// Single deleteMany emitting the deleted count
+	Mono<Long> removeById(Integer id);
+}
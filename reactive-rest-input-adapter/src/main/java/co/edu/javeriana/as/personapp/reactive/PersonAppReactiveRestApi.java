@@ -0,0 +1,28 @@
+package co.edu.javeriana.as.personapp.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.mongo.MongoAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.mongo.MongoDataAutoConfiguration;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * WebFlux variant of the persona API, served from a few event-loop threads.
+ * Only this module and the reactive Mongo adapter are scanned; the blocking
+ * MongoClient that Boot would build from the sync driver on the
+ * classpath is switched off.
+ */
+@Slf4j
+@SpringBootApplication(scanBasePackages = { "co.edu.javeriana.as.personapp.reactive",
+		"co.edu.javeriana.as.personapp.mongo.reactive" },
+		exclude = { MongoAutoConfiguration.class, MongoDataAutoConfiguration.class })
+public class PersonAppReactiveRestApi {
+
+	public static void main(String[] args) {
+		log.info("Starting PersonAppReactiveRestApi ...");
+		SpringApplication.run(PersonAppReactiveRestApi.class, args);
+		log.info("Started PersonAppReactiveRestApi OK");
+	}
+
+}
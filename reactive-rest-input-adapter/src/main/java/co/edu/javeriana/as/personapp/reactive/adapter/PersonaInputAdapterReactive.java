@@ -0,0 +1,125 @@
+package co.edu.javeriana.as.personapp.reactive.adapter;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+
+import co.edu.javeriana.as.personapp.application.port.in.ReactivePersonInputPort;
+import co.edu.javeriana.as.personapp.application.port.out.ReactivePersonOutputPort;
+import co.edu.javeriana.as.personapp.application.usecase.ReactivePersonUseCase;
+import co.edu.javeriana.as.personapp.common.annotations.Adapter;
+import co.edu.javeriana.as.personapp.common.exceptions.InvalidOptionException;
+import co.edu.javeriana.as.personapp.common.exceptions.NoExistException;
+import co.edu.javeriana.as.personapp.common.setup.DatabaseOption;
+import co.edu.javeriana.as.personapp.reactive.mapper.PersonaMapperReactive;
+import co.edu.javeriana.as.personapp.reactive.model.request.PersonaRequest;
+import co.edu.javeriana.as.personapp.reactive.model.response.PersonaResponse;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive twin of the blocking PersonaInputAdapterRest, with the same error
+ * conventions: invalid options yield empty lists or ERROR responses rather
+ * than HTTP errors. Only MONGO has a non-blocking driver, so it is the only
+ * accepted database option.
+ */
+@Slf4j
+@Adapter
+public class PersonaInputAdapterReactive {
+
+	@Autowired
+	@Qualifier("reactivePersonOutputAdapterMongo")
+	private ReactivePersonOutputPort personOutputPortMongo;
+
+	@Autowired
+	private PersonaMapperReactive personaMapperReactive;
+
+	private ReactivePersonInputPort personInputPortMongo;
+
+	@PostConstruct
+	void initPersonInputPort() {
+		personInputPortMongo = new ReactivePersonUseCase(personOutputPortMongo);
+	}
+
+	private Mono<ReactivePersonInputPort> personInputPort(String dbOption) {
+		return Mono.fromCallable(() -> {
+			if (DatabaseOption.of(dbOption) != DatabaseOption.MONGO) {
+				throw new InvalidOptionException("Reactive API only supports " + DatabaseOption.MONGO + ": " + dbOption);
+			}
+			return personInputPortMongo;
+		});
+	}
+
+	public Flux<PersonaResponse> findAll(String database) {
+		log.info("Into findAll PersonaEntity in Reactive Input Adapter");
+		return personInputPort(database).flatMapMany(ReactivePersonInputPort::findAll)
+				.map(person -> personaMapperReactive.fromDomainToAdapter(person, database))
+				.onErrorResume(InvalidOptionException.class, e -> {
+					log.warn(e.getMessage());
+					return Flux.empty();
+				});
+	}
+
+	public Flux<PersonaResponse> findPage(String database, Integer after, Integer limit) {
+		log.info("Into findPage PersonaEntity in Reactive Input Adapter after {} limit {}", after, limit);
+		return personInputPort(database).flatMapMany(port -> port.findPage(after, limit))
+				.map(person -> personaMapperReactive.fromDomainToAdapter(person, database))
+				.onErrorResume(InvalidOptionException.class, e -> {
+					log.warn(e.getMessage());
+					return Flux.empty();
+				});
+	}
+
+	public Mono<PersonaResponse> findById(Long identification, String database) {
+		log.info("Into findById PersonaEntity in Reactive Input Adapter");
+		return personInputPort(database).flatMap(port -> port.findOne(identification))
+				.map(person -> personaMapperReactive.fromDomainToAdapter(person, database))
+				.onErrorResume(e -> e instanceof InvalidOptionException || e instanceof NoExistException, e -> {
+					log.warn(e.getMessage());
+					return Mono.just(personaMapperReactive.createErrorResponse(e.getMessage(), database));
+				});
+	}
+
+	public Mono<PersonaResponse> create(PersonaRequest request) {
+		log.info("Into create PersonaEntity in Reactive Input Adapter, request DNI: {}", request.getDni());
+		return personInputPort(request.getDatabase())
+				.flatMap(port -> port.create(personaMapperReactive.fromAdapterToDomain(request)))
+				.map(person -> personaMapperReactive.fromDomainToAdapter(person, request.getDatabase()))
+				.onErrorResume(e -> {
+					log.warn("Error creating person in Reactive Input Adapter: {}", e.getMessage());
+					return Mono.just(personaMapperReactive.fromRequestToError(request, e.getMessage()));
+				});
+	}
+
+	public Mono<PersonaResponse> edit(Long identification, PersonaRequest request) {
+		log.info("Into edit PersonaEntity in Reactive Input Adapter");
+		return personInputPort(request.getDatabase())
+				.flatMap(port -> port.edit(identification, personaMapperReactive.fromAdapterToDomain(request)))
+				.map(person -> personaMapperReactive.fromDomainToAdapter(person, request.getDatabase()))
+				.onErrorResume(e -> e instanceof InvalidOptionException || e instanceof NoExistException, e -> {
+					log.warn(e.getMessage());
+					return Mono.just(personaMapperReactive.fromRequestToError(request, e.getMessage()));
+				});
+	}
+
+	public Mono<PersonaResponse> delete(Long identification, String database) {
+		log.info("Into delete PersonaEntity in Reactive Input Adapter");
+		return personInputPort(database).flatMap(port -> port.drop(identification))
+				.map(deleted -> new PersonaResponse(identification.toString(), "", "", "", "", database, "DELETED"))
+				.onErrorResume(e -> e instanceof InvalidOptionException || e instanceof NoExistException, e -> {
+					log.warn(e.getMessage());
+					return Mono.just(personaMapperReactive.createErrorResponse(e.getMessage(), database));
+				});
+	}
+
+	public Mono<Long> count(String database) {
+		log.info("Into count PersonaEntity in Reactive Input Adapter");
+		return personInputPort(database).flatMap(ReactivePersonInputPort::count)
+				.onErrorResume(InvalidOptionException.class, e -> {
+					log.warn(e.getMessage());
+					return Mono.just(0L);
+				});
+	}
+}
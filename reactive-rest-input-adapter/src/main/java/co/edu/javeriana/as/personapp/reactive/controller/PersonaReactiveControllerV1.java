@@ -0,0 +1,81 @@
+package co.edu.javeriana.as.personapp.reactive.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import co.edu.javeriana.as.personapp.reactive.adapter.PersonaInputAdapterReactive;
+import co.edu.javeriana.as.personapp.reactive.model.request.PersonaRequest;
+import co.edu.javeriana.as.personapp.reactive.model.response.PersonaResponse;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/persona")
+public class PersonaReactiveControllerV1 {
+
+	@Autowired
+	private PersonaInputAdapterReactive personaInputAdapterReactive;
+
+	// With Accept: application/x-ndjson each persona is written as soon as it is read, under backpressure
+	@GetMapping(path = "/{database}", produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+	public Flux<PersonaResponse> personas(@PathVariable String database,
+			@RequestParam(required = false) Integer after,
+			@RequestParam(required = false) Integer limit) {
+		log.info("GET /api/v1/persona/{} - Reactive personas", database);
+		if (after == null && limit == null) {
+			return personaInputAdapterReactive.findAll(database.toUpperCase());
+		}
+		return personaInputAdapterReactive.findPage(database.toUpperCase(), after, limit);
+	}
+
+	@PostMapping(path = "", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+	@ResponseStatus(code = HttpStatus.CREATED)
+	public Mono<PersonaResponse> crearPersona(@RequestBody PersonaRequest request) {
+		log.info("POST /api/v1/persona - Create persona {}", request.getDni());
+		if (request.getDatabase() != null) {
+			request.setDatabase(request.getDatabase().toUpperCase());
+		}
+		return personaInputAdapterReactive.create(request);
+	}
+
+	@GetMapping(path = "/{database}/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+	public Mono<PersonaResponse> findById(@PathVariable String database, @PathVariable Long id) {
+		log.info("GET /api/v1/persona/{}/{} - Find persona by ID", database, id);
+		return personaInputAdapterReactive.findById(id, database.toUpperCase());
+	}
+
+	@PutMapping(path = "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+	public Mono<PersonaResponse> edit(@PathVariable Long id, @RequestBody PersonaRequest request) {
+		log.info("PUT /api/v1/persona/{} - Edit persona", id);
+		if (request.getDatabase() != null) {
+			request.setDatabase(request.getDatabase().toUpperCase());
+		}
+		return personaInputAdapterReactive.edit(id, request);
+	}
+
+	@DeleteMapping(path = "/{database}/{id}")
+	@ResponseStatus(code = HttpStatus.NO_CONTENT)
+	public Mono<Void> delete(@PathVariable String database, @PathVariable Long id) {
+		log.info("DELETE /api/v1/persona/{}/{} - Delete persona", database, id);
+		return personaInputAdapterReactive.delete(id, database.toUpperCase()).then();
+	}
+
+	@GetMapping(path = "/{database}/count", produces = MediaType.APPLICATION_JSON_VALUE)
+	public Mono<Long> count(@PathVariable String database) {
+		log.info("GET /api/v1/persona/{}/count - Count personas", database);
+		return personaInputAdapterReactive.count(database.toUpperCase());
+	}
+}
@@ -0,0 +1,57 @@
+package co.edu.javeriana.as.personapp.reactive.mapper;
+
+import co.edu.javeriana.as.personapp.common.annotations.Mapper;
+import co.edu.javeriana.as.personapp.domain.Gender;
+import co.edu.javeriana.as.personapp.domain.Person;
+import co.edu.javeriana.as.personapp.reactive.model.request.PersonaRequest;
+import co.edu.javeriana.as.personapp.reactive.model.response.PersonaResponse;
+
+@Mapper
+public class PersonaMapperReactive {
+
+	public PersonaResponse fromDomainToAdapter(Person person, String database) {
+		return new PersonaResponse(
+				person.getIdentification()+"",
+				person.getFirstName(),
+				person.getLastName(),
+				age(person.getAge()),
+				person.getGender().toString(),
+				database,
+				"OK");
+	}
+
+	public Person fromAdapterToDomain(PersonaRequest request) {
+		int age = request.getAge() != null && !request.getAge().isEmpty() ? Integer.parseInt(request.getAge())
+				: Person.UNKNOWN_AGE;
+		return new Person(Integer.parseInt(request.getDni()), request.getFirstName(), request.getLastName(),
+				toGender(request.getSex()), age, null, null);
+	}
+
+	// Same text as the blocking REST mapper for an unknown age
+	private static String age(int age) {
+		return String.valueOf(age >= 0 ? age : null);
+	}
+
+	// Same spellings the blocking REST mapper accepts; anything else is OTHER
+	private Gender toGender(String sex) {
+		if (sex == null) {
+			return Gender.OTHER;
+		}
+		if (sex.equalsIgnoreCase("MASCULINO") || sex.equalsIgnoreCase("MALE") || sex.equalsIgnoreCase("M")) {
+			return Gender.MALE;
+		}
+		if (sex.equalsIgnoreCase("FEMENINO") || sex.equalsIgnoreCase("FEMALE") || sex.equalsIgnoreCase("F")) {
+			return Gender.FEMALE;
+		}
+		return Gender.OTHER;
+	}
+
+	public PersonaResponse fromRequestToError(PersonaRequest request, String message) {
+		return new PersonaResponse(request.getDni(), request.getFirstName(), request.getLastName(), request.getAge(),
+				request.getSex(), request.getDatabase(), "ERROR: " + message);
+	}
+
+	public PersonaResponse createErrorResponse(String errorMessage, String database) {
+		return new PersonaResponse("", "", "", "", "", database, "ERROR: " + errorMessage);
+	}
+}
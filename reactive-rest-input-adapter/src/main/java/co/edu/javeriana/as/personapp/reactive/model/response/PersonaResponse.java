@@ -0,0 +1,23 @@
+package co.edu.javeriana.as.personapp.reactive.model.response;
+
+import co.edu.javeriana.as.personapp.reactive.model.request.PersonaRequest;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+// Same JSON shape as the blocking API's PersonaResponse
+@Data
+@NoArgsConstructor
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+public class PersonaResponse extends PersonaRequest {
+
+	private String status;
+
+	public PersonaResponse(String dni, String firstName, String lastName, String age, String sex, String database,
+			String status) {
+		super(dni, firstName, lastName, age, sex, database);
+		this.status = status;
+	}
+}
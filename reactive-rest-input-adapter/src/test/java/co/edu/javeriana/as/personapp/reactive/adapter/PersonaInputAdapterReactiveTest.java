@@ -0,0 +1,111 @@
+package co.edu.javeriana.as.personapp.reactive.adapter;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+
+import co.edu.javeriana.as.personapp.application.port.out.ReactivePersonOutputPort;
+import co.edu.javeriana.as.personapp.domain.Gender;
+import co.edu.javeriana.as.personapp.domain.Person;
+import co.edu.javeriana.as.personapp.reactive.mapper.PersonaMapperReactive;
+import co.edu.javeriana.as.personapp.reactive.model.request.PersonaRequest;
+import co.edu.javeriana.as.personapp.reactive.model.response.PersonaResponse;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class PersonaInputAdapterReactiveTest {
+
+    @Mock
+    private ReactivePersonOutputPort personOutputPortMongo;
+
+    @Spy
+    private PersonaMapperReactive personaMapperReactive;
+
+    @InjectMocks
+    private PersonaInputAdapterReactive adapter;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        adapter.initPersonInputPort();
+    }
+
+    private static PersonaRequest request(String dni, String database) {
+        return new PersonaRequest(dni, "Ana", "Diaz", "30", "F", database);
+    }
+
+    @Test
+    void aDatabaseOtherThanMongoListsNothingAndCountsZero() {
+        StepVerifier.create(adapter.findAll("MARIA")).verifyComplete();
+        StepVerifier.create(adapter.findPage("unknown", null, 10)).verifyComplete();
+        StepVerifier.create(adapter.count("MARIA")).expectNext(0L).verifyComplete();
+
+        verifyNoInteractions(personOutputPortMongo);
+    }
+
+    @Test
+    void aDatabaseOtherThanMongoGivesAnErrorResponse() {
+        StepVerifier.create(adapter.findById(1L, "MARIA"))
+                .expectNextMatches(response -> response.getStatus().startsWith("ERROR: Reactive API only supports"))
+                .verifyComplete();
+        StepVerifier.create(adapter.edit(1L, request("1", "MARIA")))
+                .expectNextMatches(response -> response.getStatus().startsWith("ERROR: ")
+                        && "1".equals(response.getDni()))
+                .verifyComplete();
+        StepVerifier.create(adapter.delete(1L, "MARIA"))
+                .expectNextMatches(response -> response.getStatus().startsWith("ERROR: "))
+                .verifyComplete();
+
+        verifyNoInteractions(personOutputPortMongo);
+    }
+
+    @Test
+    void aMissingPersonGivesAnErrorResponse() {
+        when(personOutputPortMongo.findById(7L)).thenReturn(Mono.empty());
+        when(personOutputPortMongo.delete(7L)).thenReturn(Mono.just(false));
+
+        StepVerifier.create(adapter.findById(7L, "MONGO"))
+                .expectNextMatches(response -> response.getStatus().contains("does not exist")
+                        && "MONGO".equals(response.getDatabase()))
+                .verifyComplete();
+        StepVerifier.create(adapter.edit(7L, request("7", "MONGO")))
+                .expectNextMatches(response -> response.getStatus().contains("cannot be edited"))
+                .verifyComplete();
+        StepVerifier.create(adapter.delete(7L, "MONGO"))
+                .expectNextMatches(response -> response.getStatus().contains("cannot be dropped"))
+                .verifyComplete();
+    }
+
+    @Test
+    void anExistingPersonIsFoundAndDeleted() {
+        when(personOutputPortMongo.findById(7L))
+                .thenReturn(Mono.just(new Person(7, "Ana", "Diaz", Gender.FEMALE, 30, null, null)));
+        when(personOutputPortMongo.delete(7L)).thenReturn(Mono.just(true));
+
+        StepVerifier.create(adapter.findById(7L, "MONGO"))
+                .expectNext(new PersonaResponse("7", "Ana", "Diaz", "30", "FEMALE", "MONGO", "OK"))
+                .verifyComplete();
+        StepVerifier.create(adapter.delete(7L, "MONGO"))
+                .expectNextMatches(response -> "DELETED".equals(response.getStatus()))
+                .verifyComplete();
+    }
+
+    @Test
+    void createTurnsAnyErrorIntoAnErrorResponse() {
+        when(personOutputPortMongo.save(any())).thenReturn(Mono.error(new IllegalStateException("write failed")));
+
+        StepVerifier.create(adapter.create(request("7", "MONGO")))
+                .expectNext(new PersonaResponse("7", "Ana", "Diaz", "30", "F", "MONGO", "ERROR: write failed"))
+                .verifyComplete();
+        StepVerifier.create(adapter.create(request("7", "MARIA")))
+                .expectNextMatches(response -> response.getStatus().startsWith("ERROR: Reactive API only supports"))
+                .verifyComplete();
+    }
+}
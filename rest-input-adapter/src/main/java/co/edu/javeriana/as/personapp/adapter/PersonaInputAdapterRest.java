@@ -1,24 +1,53 @@
 package co.edu.javeriana.as.personapp.adapter;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiFunction;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.annotation.PostConstruct;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
+import co.edu.javeriana.as.personapp.application.metrics.TimedPorts;
+import co.edu.javeriana.as.personapp.application.port.in.FanOutResult;
+import co.edu.javeriana.as.personapp.application.port.in.PersonFanOutInputPort;
 import co.edu.javeriana.as.personapp.application.port.in.PersonInputPort;
+import co.edu.javeriana.as.personapp.application.port.out.BatchItemResult;
 import co.edu.javeriana.as.personapp.application.port.out.PersonOutputPort;
+import co.edu.javeriana.as.personapp.application.port.out.StudyOutputPort;
+import co.edu.javeriana.as.personapp.application.usecase.PersonUseCase;
 import co.edu.javeriana.as.personapp.common.annotations.Adapter;
 import co.edu.javeriana.as.personapp.common.exceptions.InvalidOptionException;
 import co.edu.javeriana.as.personapp.common.exceptions.NoExistException;
 import co.edu.javeriana.as.personapp.common.setup.DatabaseOption;
 import co.edu.javeriana.as.personapp.domain.Gender;
 import co.edu.javeriana.as.personapp.domain.Person;
+import co.edu.javeriana.as.personapp.domain.PersonSummary;
 import co.edu.javeriana.as.personapp.domain.Phone;
 import co.edu.javeriana.as.personapp.domain.Study;
 import co.edu.javeriana.as.personapp.mapper.PersonaMapperRest;
+import co.edu.javeriana.as.personapp.model.request.PersonaBatchRequest;
 import co.edu.javeriana.as.personapp.model.request.PersonaRequest;
+import co.edu.javeriana.as.personapp.model.response.PersonaBatchResponse;
+import co.edu.javeriana.as.personapp.model.response.PersonaExportResponse;
 import co.edu.javeriana.as.personapp.model.response.PersonaResponse;
 import co.edu.javeriana.as.personapp.model.response.PhoneResponse;
 import co.edu.javeriana.as.personapp.model.response.StudyResponse;
@@ -29,60 +58,224 @@ import lombok.extern.slf4j.Slf4j;
 public class PersonaInputAdapterRest {
 
 	@Autowired
-	@Qualifier("personOutputAdapterMaria")
+	@Qualifier("cachedPersonOutputAdapterMaria")
 	private PersonOutputPort personOutputPortMaria;
 
 	@Autowired
-	@Qualifier("personOutputAdapterMongo")
+	@Qualifier("cachedPersonOutputAdapterMongo")
 	private PersonOutputPort personOutputPortMongo;
 
 	@Autowired
-	private PersonInputPort personInputPort;
+	@Qualifier("personOutputAdapterInMemory")
+	private PersonOutputPort personOutputPortInMemory;
+
+	// Studies by person are read through these ports' person index
+	@Autowired
+	@Qualifier("cachedStudyOutputAdapterMaria")
+	private StudyOutputPort studyOutputPortMaria;
+
+	@Autowired
+	@Qualifier("cachedStudyOutputAdapterMongo")
+	private StudyOutputPort studyOutputPortMongo;
+
+	@Autowired
+	@Qualifier("studyOutputAdapterInMemory")
+	private StudyOutputPort studyOutputPortInMemory;
+
+	// Only with personapp.replication.enabled: the primary's port, recording writes in its outbox
+	@Autowired(required = false)
+	@Qualifier("replicatedPersonOutputAdapter")
+	private PersonOutputPort replicatedPersonOutputPort;
+
+	@Value("${personapp.replication.primary:MARIA}")
+	private DatabaseOption replicationPrimary;
+
+	// One use case per backend, built once and never re-pointed, so concurrent
+	// requests against different databases cannot interfere with each other
+	private Map<DatabaseOption, PersonInputPort> personInputPorts;
+
+	// Serves DatabaseOption.ALL, which only supports the read queries
+	@Autowired
+	private PersonFanOutInputPort personFanOutInputPort;
 
 	@Autowired
 	private PersonaMapperRest personaMapperRest;
 
-	private String setPersonOutputPortInjection(String dbOption) throws InvalidOptionException {
-		if (dbOption.equalsIgnoreCase(DatabaseOption.MARIA.toString())) {
-			personInputPort.setPersistence(personOutputPortMaria);
-			return DatabaseOption.MARIA.toString();
-		} else if (dbOption.equalsIgnoreCase(DatabaseOption.MONGO.toString())) {
-			personInputPort.setPersistence(personOutputPortMongo);
-			return DatabaseOption.MONGO.toString();
-		} else {
-			throw new InvalidOptionException("Invalid database option: " + dbOption);
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@PostConstruct
+	void initPersonInputPorts() {
+		Map<DatabaseOption, PersonInputPort> ports = new EnumMap<>(DatabaseOption.class);
+		ports.put(DatabaseOption.MARIA, new PersonUseCase(personOutputPortMaria, studyOutputPortMaria));
+		ports.put(DatabaseOption.MONGO, new PersonUseCase(personOutputPortMongo, studyOutputPortMongo));
+		ports.put(DatabaseOption.INMEMORY, new PersonUseCase(personOutputPortInMemory, studyOutputPortInMemory));
+		if (replicatedPersonOutputPort != null) {
+			ports.put(replicationPrimary, new PersonUseCase(replicatedPersonOutputPort,
+					replicationPrimary == DatabaseOption.MONGO ? studyOutputPortMongo : studyOutputPortMaria));
+		}
+		personInputPorts = Collections.unmodifiableMap(
+				TimedPorts.timed(PersonInputPort.class, ports, meterRegistry, TimedPorts.USE_CASE_CALLS));
+	}
+
+	private PersonInputPort personInputPort(String dbOption) throws InvalidOptionException {
+		DatabaseOption option = DatabaseOption.of(dbOption);
+		PersonInputPort port = personInputPorts.get(option);
+		if (port == null) {
+			throw new InvalidOptionException("Database option not supported here: " + option);
 		}
+		return port;
 	}
 
 	public List<PersonaResponse> findAll(String database) {
 		log.info("Into findAll PersonaEntity in Input Adapter");
 		try {
-			String dbType = setPersonOutputPortInjection(database);
-			if (dbType.equalsIgnoreCase(DatabaseOption.MARIA.toString())) {
+			DatabaseOption dbType = DatabaseOption.of(database);
+			if (dbType == DatabaseOption.ALL) {
+				return toResponses(personFanOutInputPort.findAll(), personaMapperRest::fromDomainToAdapterRest);
+			}
+			PersonInputPort personInputPort = personInputPorts.get(dbType);
+			if (dbType == DatabaseOption.MARIA) {
 				return personInputPort.findAll().stream().map(personaMapperRest::fromDomainToAdapterRestMaria)
 						.collect(Collectors.toList());
-			} else {
+			} else if (dbType == DatabaseOption.MONGO) {
 				return personInputPort.findAll().stream().map(personaMapperRest::fromDomainToAdapterRestMongo)
 						.collect(Collectors.toList());
+			} else {
+				return personInputPort.findAll().stream()
+						.map(person -> personaMapperRest.fromDomainToAdapterRest(person, dbType.toString()))
+						.collect(Collectors.toList());
+			}
+		} catch (InvalidOptionException e) {
+			log.warn(e.getMessage());
+			return new ArrayList<PersonaResponse>();
+		}
+	}
+
+	public List<PersonaResponse> findPage(String database, Integer after, Integer limit) {
+		log.info("Into findPage PersonaEntity in Input Adapter after {} limit {}", after, limit);
+		try {
+			DatabaseOption dbType = DatabaseOption.of(database);
+			if (dbType == DatabaseOption.ALL) {
+				return toResponses(personFanOutInputPort.findPage(after, limit),
+						personaMapperRest::fromDomainToAdapterRest);
+			}
+			return personInputPorts.get(dbType).findPage(after, limit).stream()
+					.map(person -> personaMapperRest.fromDomainToAdapterRest(person, dbType.toString()))
+					.collect(Collectors.toList());
+		} catch (InvalidOptionException e) {
+			log.warn(e.getMessage());
+			return new ArrayList<PersonaResponse>();
+		}
+	}
+
+	/**
+	 * Same response shape as {@link #findAll(String)}, which only ever
+	 * serializes the person's own fields, but read through the backends'
+	 * summary projections so no phones or studies are loaded.
+	 */
+	public List<PersonaResponse> findAllSummaries(String database) {
+		log.info("Into findAllSummaries PersonaEntity in Input Adapter");
+		try {
+			DatabaseOption dbType = DatabaseOption.of(database);
+			if (dbType == DatabaseOption.ALL) {
+				return toResponses(personFanOutInputPort.findAllSummaries(), personaMapperRest::fromSummaryToAdapterRest);
 			}
+			return toResponses(personInputPorts.get(dbType).findAllSummaries(), dbType);
 		} catch (InvalidOptionException e) {
 			log.warn(e.getMessage());
 			return new ArrayList<PersonaResponse>();
 		}
 	}
 
+	public List<PersonaResponse> findSummaryPage(String database, Integer after, Integer limit) {
+		log.info("Into findSummaryPage PersonaEntity in Input Adapter after {} limit {}", after, limit);
+		try {
+			DatabaseOption dbType = DatabaseOption.of(database);
+			if (dbType == DatabaseOption.ALL) {
+				return toResponses(personFanOutInputPort.findSummaryPage(after, limit),
+						personaMapperRest::fromSummaryToAdapterRest);
+			}
+			return toResponses(personInputPorts.get(dbType).findSummaryPage(after, limit), dbType);
+		} catch (InvalidOptionException e) {
+			log.warn(e.getMessage());
+			return new ArrayList<PersonaResponse>();
+		}
+	}
+
+	private List<PersonaResponse> toResponses(List<PersonSummary> summaries, DatabaseOption dbType) {
+		return summaries.stream().map(summary -> personaMapperRest.fromSummaryToAdapterRest(summary, dbType.toString()))
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Merged fan-out answer: each persona's database field lists the backends
+	 * holding it (e.g. "MARIA,MONGO"), and every backend that failed or timed
+	 * out adds an ERROR entry so a partial answer is never mistaken for a
+	 * complete one.
+	 */
+	private <T> List<PersonaResponse> toResponses(FanOutResult<T> result,
+			BiFunction<T, String, PersonaResponse> mapper) {
+		List<PersonaResponse> responses = new ArrayList<>(result.getItems().size() + result.getFailures().size());
+		for (FanOutResult.Sourced<T> sourced : result.getItems()) {
+			responses.add(mapper.apply(sourced.getItem(), sourcesOf(sourced)));
+		}
+		result.getFailures().forEach((backend, reason) -> responses
+				.add(personaMapperRest.createErrorResponse(backend + " " + reason, backend.toString())));
+		return responses;
+	}
+
+	private static String sourcesOf(FanOutResult.Sourced<?> sourced) {
+		return sourced.getSources().stream().map(DatabaseOption::toString).collect(Collectors.joining(","));
+	}
+
+	/**
+	 * NDJSON dump of every person with its phones. Nothing is read until the
+	 * body is written, and persons are serialized one line at a time straight
+	 * from the backend cursor, so memory use does not depend on table size.
+	 */
+	public Optional<StreamingResponseBody> export(String database) {
+		log.info("Into export PersonaEntity in Input Adapter");
+		try {
+			PersonInputPort personInputPort = personInputPort(database);
+			return Optional.of(out -> writeNdjson(personInputPort, database, out));
+		} catch (InvalidOptionException e) {
+			log.warn(e.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	private void writeNdjson(PersonInputPort personInputPort, String database, OutputStream out) throws IOException {
+		ObjectWriter writer = objectMapper.writerFor(PersonaExportResponse.class);
+		long written = 0;
+		try (Stream<Person> persons = personInputPort.streamAll()) {
+			Iterator<Person> iterator = persons.iterator();
+			while (iterator.hasNext()) {
+				out.write(writer.writeValueAsBytes(personaMapperRest.fromDomainToExport(iterator.next(), database)));
+				out.write('\n');
+				if (++written == 1) {
+					// Get the first line to the client right away
+					out.flush();
+				}
+			}
+		}
+		out.flush();
+		log.info("Exported {} personas from {}", written, database);
+	}
+
 	public PersonaResponse create(PersonaRequest request) {
 		log.info("Into create PersonaEntity in Input Adapter, request DNI: {}", request.getDni());
 		try {
-			setPersonOutputPortInjection(request.getDatabase());
-			log.info("Mapping PersonaRequest to Person domain object. Gender from request: {}", request.getSex());
+			PersonInputPort personInputPort = personInputPort(request.getDatabase());
 			Person person = personaMapperRest.fromAdapterToDomain(request);
-			log.info("Person domain object created. Gender set to: {}. Identification: {}", person.getGender(), person.getIdentification());
+			log.debug("Mapped PersonaRequest with sex {} to gender {}", request.getSex(), person.getGender());
 			if (person.getGender() == null) {
 			    log.error("CRITICAL: Person domain object has NULL gender before calling personInputPort.create!");
             }
 			Person createdPerson = personInputPort.create(person);
-			log.info("Person domain object returned from personInputPort.create. Gender: {}", createdPerson.getGender());
             if (createdPerson.getGender() == null) {
                 log.error("CRITICAL: Person domain object has NULL gender after personInputPort.create!");
             }
@@ -98,14 +291,56 @@ public class PersonaInputAdapterRest {
 		}
 	}
 	
+	public PersonaBatchResponse createAll(PersonaBatchRequest request) {
+		List<PersonaRequest> items = request.getPersons() != null ? request.getPersons() : new ArrayList<>();
+		String database = request.getDatabase();
+		log.info("Into createAll PersonaEntity in Input Adapter, {} persons into {}", items.size(), database);
+		PersonaResponse[] results = new PersonaResponse[items.size()];
+		try {
+			PersonInputPort personInputPort = personInputPort(database);
+			// Requests that cannot be mapped fail on their own and never reach the database
+			List<Person> persons = new ArrayList<>(items.size());
+			List<Integer> positions = new ArrayList<>(items.size());
+			for (int i = 0; i < items.size(); i++) {
+				try {
+					persons.add(personaMapperRest.fromAdapterToDomain(items.get(i)));
+					positions.add(i);
+				} catch (RuntimeException e) {
+					results[i] = itemError(items.get(i), database, "invalid person: " + e.getMessage());
+				}
+			}
+			List<BatchItemResult<Person>> saved = persons.isEmpty() ? new ArrayList<>() : personInputPort.createAll(persons);
+			for (int j = 0; j < saved.size(); j++) {
+				int position = positions.get(j);
+				BatchItemResult<Person> result = saved.get(j);
+				results[position] = result.isSaved() ? personaMapperRest.fromDomainToAdapterRest(result.getItem(), database)
+						: itemError(items.get(position), database, result.getError());
+			}
+		} catch (InvalidOptionException e) {
+			log.warn(e.getMessage());
+			for (int i = 0; i < items.size(); i++) {
+				results[i] = itemError(items.get(i), database, e.getMessage());
+			}
+		}
+		int savedCount = (int) Arrays.stream(results).filter(result -> "OK".equals(result.getStatus())).count();
+		log.info("createAll PersonaEntity saved {} of {} persons into {}", savedCount, items.size(), database);
+		return new PersonaBatchResponse(database, items.size(), savedCount, items.size() - savedCount,
+				Arrays.asList(results));
+	}
+
+	private PersonaResponse itemError(PersonaRequest request, String database, String message) {
+		return new PersonaResponse(request.getDni(), request.getFirstName(), request.getLastName(),
+				request.getAge(), request.getSex(), database, "ERROR: " + message);
+	}
+
 	public PersonaResponse edit(Long identification, PersonaRequest request) {
 		log.info("Into edit PersonaEntity in Input Adapter");
 		try {
-			setPersonOutputPortInjection(request.getDatabase());
+			PersonInputPort personInputPort = personInputPort(request.getDatabase());
 			Person person = personaMapperRest.fromAdapterToDomain(request);
 			person = personInputPort.edit(identification, person);
 			return personaMapperRest.fromDomainToAdapterRest(person, request.getDatabase());
-		} catch (InvalidOptionException | NoExistException e) {
+		} catch (InvalidOptionException | NoExistException | IllegalArgumentException | NullPointerException e) {
 			log.warn(e.getMessage());
 			return new PersonaResponse(request.getDni(), request.getFirstName(), request.getLastName(), 
 					request.getAge(), request.getSex(), request.getDatabase(), "ERROR: " + e.getMessage());
@@ -115,11 +350,11 @@ public class PersonaInputAdapterRest {
 	public PersonaResponse delete(Long identification, String database) {
 		log.info("Into delete PersonaEntity in Input Adapter");
 		try {
-			setPersonOutputPortInjection(database);
-			Person person = personInputPort.findOne(identification); // Needed to return details in response
+			PersonInputPort personInputPort = personInputPort(database);
+			// drop reports a missing person itself, so no lookup is needed beforehand
 			Boolean result = personInputPort.drop(identification);
 			if (result) {
-				return personaMapperRest.fromDomainToAdapterRest(person, database, "DELETED");
+				return new PersonaResponse(identification.toString(), "", "", "", "", database, "DELETED");
 			} else {
 				// This case might not be reached if drop throws NoExistException
 				return personaMapperRest.createErrorResponse("Failed to delete person with ID: " + identification, database);
@@ -133,7 +368,10 @@ public class PersonaInputAdapterRest {
 	public PersonaResponse findById(Long identification, String database) {
 		log.info("Into findById PersonaEntity in Input Adapter");
 		try {
-			setPersonOutputPortInjection(database);
+			if (DatabaseOption.of(database) == DatabaseOption.ALL) {
+				return findByIdInAll(identification);
+			}
+			PersonInputPort personInputPort = personInputPort(database);
 			Person person = personInputPort.findOne(identification);
 			return personaMapperRest.fromDomainToAdapterRest(person, database);
 		} catch (InvalidOptionException | NoExistException e) {
@@ -142,10 +380,24 @@ public class PersonaInputAdapterRest {
 		}
 	}
 	
+	private PersonaResponse findByIdInAll(Long identification) {
+		FanOutResult<Person> result = personFanOutInputPort.findOne(identification);
+		if (!result.getItems().isEmpty()) {
+			FanOutResult.Sourced<Person> found = result.getItems().get(0);
+			return personaMapperRest.fromDomainToAdapterRest(found.getItem(), sourcesOf(found));
+		}
+		if (!result.getFailures().isEmpty()) {
+			// Not found where we could look, but a failed backend might still have it
+			return toResponses(result, personaMapperRest::fromDomainToAdapterRest).get(0);
+		}
+		return personaMapperRest.createErrorResponse(
+				"The person with id " + identification + " does not exist in any database", DatabaseOption.ALL.toString());
+	}
+
 	public Integer count(String database) {
 		log.info("Into count PersonaEntity in Input Adapter");
 		try {
-			setPersonOutputPortInjection(database);
+			PersonInputPort personInputPort = personInputPort(database);
 			return personInputPort.count();
 		} catch (InvalidOptionException e) {
 			log.warn(e.getMessage());
@@ -156,7 +408,7 @@ public class PersonaInputAdapterRest {
 	public List<PhoneResponse> getPhones(Long identification, String database) {
 		log.info("Into getPhones PersonaEntity in Input Adapter");
 		try {
-			setPersonOutputPortInjection(database);
+			PersonInputPort personInputPort = personInputPort(database);
 			List<Phone> phones = personInputPort.getPhones(identification);
 			return phones.stream()
 					.map(phone -> new PhoneResponse(
@@ -175,12 +427,12 @@ public class PersonaInputAdapterRest {
 	public List<StudyResponse> getStudies(Long identification, String database) {
 		log.info("Into getStudies PersonaEntity in Input Adapter");
 		try {
-			setPersonOutputPortInjection(database);
+			PersonInputPort personInputPort = personInputPort(database);
 			List<Study> studies = personInputPort.getStudies(identification);
 			return studies.stream()
 					.map(study -> new StudyResponse(
 							identification.toString(),
-							study.getProfession().getIdentification().toString(),
+							String.valueOf(study.getProfessionId()),
 							study.getGraduationDate() != null ? study.getGraduationDate().toString() : "",
 							study.getUniversityName(),
 							database,
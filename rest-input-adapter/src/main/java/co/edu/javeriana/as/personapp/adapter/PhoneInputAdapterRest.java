@@ -1,17 +1,27 @@
 package co.edu.javeriana.as.personapp.adapter;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import javax.annotation.PostConstruct;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
+import co.edu.javeriana.as.personapp.application.metrics.TimedPorts;
 import co.edu.javeriana.as.personapp.application.port.in.PersonInputPort;
 import co.edu.javeriana.as.personapp.application.port.in.PhoneInputPort;
 import co.edu.javeriana.as.personapp.application.port.out.PersonOutputPort;
 import co.edu.javeriana.as.personapp.application.port.out.PhoneOutputPort;
+import co.edu.javeriana.as.personapp.application.usecase.PersonUseCase;
+import co.edu.javeriana.as.personapp.application.usecase.PhoneUseCase;
 import co.edu.javeriana.as.personapp.common.annotations.Adapter;
 import co.edu.javeriana.as.personapp.common.exceptions.InvalidOptionException;
 import co.edu.javeriana.as.personapp.common.exceptions.NoExistException;
@@ -28,48 +38,70 @@ import lombok.extern.slf4j.Slf4j;
 public class PhoneInputAdapterRest {
 
     @Autowired
-    @Qualifier("phoneOutputAdapterMaria")
+    @Qualifier("cachedPhoneOutputAdapterMaria")
     private PhoneOutputPort phoneOutputPortMaria;
 
     @Autowired
-    @Qualifier("phoneOutputAdapterMongo")
+    @Qualifier("cachedPhoneOutputAdapterMongo")
     private PhoneOutputPort phoneOutputPortMongo;
+
+    @Autowired
+    @Qualifier("phoneOutputAdapterInMemory")
+    private PhoneOutputPort phoneOutputPortInMemory;
     
     @Autowired
-    @Qualifier("personOutputAdapterMaria")
+    @Qualifier("cachedPersonOutputAdapterMaria")
     private PersonOutputPort personOutputPortMaria;
 
     @Autowired
-    @Qualifier("personOutputAdapterMongo")
+    @Qualifier("cachedPersonOutputAdapterMongo")
     private PersonOutputPort personOutputPortMongo;
 
     @Autowired
-    private PhoneInputPort phoneInputPort;
-    
-    @Autowired
-    private PersonInputPort personInputPort;
+    @Qualifier("personOutputAdapterInMemory")
+    private PersonOutputPort personOutputPortInMemory;
+
+    // Use cases are built once per backend and never re-pointed at another database
+    private Map<DatabaseOption, PhoneInputPort> phoneInputPorts;
+
+    private Map<DatabaseOption, PersonInputPort> personInputPorts;
 
     @Autowired
     private PhoneMapperRest phoneMapperRest;
 
-    private String setPhoneOutputPortInjection(String dbOption) throws InvalidOptionException {
-        if (dbOption.equalsIgnoreCase(DatabaseOption.MARIA.toString())) {
-            phoneInputPort.setPersistence(phoneOutputPortMaria);
-            personInputPort.setPersistence(personOutputPortMaria);
-            return DatabaseOption.MARIA.toString();
-        } else if (dbOption.equalsIgnoreCase(DatabaseOption.MONGO.toString())) {
-            phoneInputPort.setPersistence(phoneOutputPortMongo);
-            personInputPort.setPersistence(personOutputPortMongo);
-            return DatabaseOption.MONGO.toString();
-        } else {
-            throw new InvalidOptionException("Invalid database option: " + dbOption);
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @PostConstruct
+    void initInputPorts() {
+        Map<DatabaseOption, PhoneInputPort> phonePorts = new EnumMap<>(DatabaseOption.class);
+        phonePorts.put(DatabaseOption.MARIA, new PhoneUseCase(phoneOutputPortMaria));
+        phonePorts.put(DatabaseOption.MONGO, new PhoneUseCase(phoneOutputPortMongo));
+        phonePorts.put(DatabaseOption.INMEMORY, new PhoneUseCase(phoneOutputPortInMemory));
+        phoneInputPorts = Collections.unmodifiableMap(
+                TimedPorts.timed(PhoneInputPort.class, phonePorts, meterRegistry, TimedPorts.USE_CASE_CALLS));
+
+        Map<DatabaseOption, PersonInputPort> personPorts = new EnumMap<>(DatabaseOption.class);
+        personPorts.put(DatabaseOption.MARIA, new PersonUseCase(personOutputPortMaria));
+        personPorts.put(DatabaseOption.MONGO, new PersonUseCase(personOutputPortMongo));
+        personPorts.put(DatabaseOption.INMEMORY, new PersonUseCase(personOutputPortInMemory));
+        personInputPorts = Collections.unmodifiableMap(
+                TimedPorts.timed(PersonInputPort.class, personPorts, meterRegistry, TimedPorts.USE_CASE_CALLS));
+    }
+
+    private PhoneInputPort phoneInputPort(String dbOption) throws InvalidOptionException {
+        DatabaseOption option = DatabaseOption.of(dbOption);
+        PhoneInputPort port = phoneInputPorts.get(option);
+        if (port == null) {
+            throw new InvalidOptionException("Database option not supported here: " + option);
         }
+        return port;
     }
 
     public List<PhoneResponse> findAll(String database) {
         log.info("Into findAll PhoneEntity in Input Adapter");
         try {
-            setPhoneOutputPortInjection(database);
+            PhoneInputPort phoneInputPort = phoneInputPort(database);
             List<Phone> phones = phoneInputPort.findAll();
             return phones.stream()
                     .map(phone -> phoneMapperRest.fromDomainToAdapterRest(phone, database))
@@ -83,7 +115,7 @@ public class PhoneInputAdapterRest {
     public List<PhoneResponse> findByPersonId(String personId, String database) {
         log.info("Into findByPersonId PhoneEntity in Input Adapter");
         try {
-            setPhoneOutputPortInjection(database);
+            PhoneInputPort phoneInputPort = phoneInputPort(database);
             Integer personIdInt = Integer.parseInt(personId);
             List<Phone> phones = phoneInputPort.getPhonesOfPerson(personIdInt);
             return phones.stream()
@@ -104,7 +136,8 @@ public class PhoneInputAdapterRest {
     public PhoneResponse create(PhoneRequest request) {
         log.info("Into create PhoneEntity in Input Adapter");
         try {
-            setPhoneOutputPortInjection(request.getDatabase());
+            PhoneInputPort phoneInputPort = phoneInputPort(request.getDatabase());
+            PersonInputPort personInputPort = personInputPorts.get(DatabaseOption.of(request.getDatabase()));
             
             // First, get the person
             Long personId = Long.parseLong(request.getPersonId());
@@ -125,7 +158,8 @@ public class PhoneInputAdapterRest {
     public PhoneResponse edit(String number, PhoneRequest request) {
         log.info("Into edit PhoneEntity in Input Adapter");
         try {
-            setPhoneOutputPortInjection(request.getDatabase());
+            PhoneInputPort phoneInputPort = phoneInputPort(request.getDatabase());
+            PersonInputPort personInputPort = personInputPorts.get(DatabaseOption.of(request.getDatabase()));
             
             // First, get the person
             Long personId = Long.parseLong(request.getPersonId());
@@ -146,7 +180,7 @@ public class PhoneInputAdapterRest {
     public PhoneResponse findByNumber(String number, String database) {
         log.info("Into findByNumber PhoneEntity in Input Adapter");
         try {
-            setPhoneOutputPortInjection(database);
+            PhoneInputPort phoneInputPort = phoneInputPort(database);
             Phone phone = phoneInputPort.findOne(number);
             return phoneMapperRest.fromDomainToAdapterRest(phone, database);
         } catch (InvalidOptionException | NoExistException e) {
@@ -158,7 +192,7 @@ public class PhoneInputAdapterRest {
     public void delete(String number, String database) {
         log.info("Into delete PhoneEntity in Input Adapter");
         try {
-            setPhoneOutputPortInjection(database);
+            PhoneInputPort phoneInputPort = phoneInputPort(database);
             phoneInputPort.drop(number);
         } catch (InvalidOptionException | NoExistException e) {
             log.warn(e.getMessage());
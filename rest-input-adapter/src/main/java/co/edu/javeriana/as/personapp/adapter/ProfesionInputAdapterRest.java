@@ -1,20 +1,30 @@
 package co.edu.javeriana.as.personapp.adapter;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
+import javax.annotation.PostConstruct;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
+import co.edu.javeriana.as.personapp.application.metrics.TimedPorts;
 import co.edu.javeriana.as.personapp.application.port.in.ProfessionInputPort;
 import co.edu.javeriana.as.personapp.application.port.out.ProfessionOutputPort;
+import co.edu.javeriana.as.personapp.application.usecase.ProfessionUseCase;
 import co.edu.javeriana.as.personapp.common.annotations.Adapter;
 import co.edu.javeriana.as.personapp.common.exceptions.InvalidOptionException;
 import co.edu.javeriana.as.personapp.common.exceptions.NoExistException;
 import co.edu.javeriana.as.personapp.common.setup.DatabaseOption;
 import co.edu.javeriana.as.personapp.domain.Profession;
 import co.edu.javeriana.as.personapp.mapper.ProfesionMapperRest;
+import co.edu.javeriana.as.personapp.mapper.RequestIds;
 import co.edu.javeriana.as.personapp.model.request.ProfesionRequest;
 import co.edu.javeriana.as.personapp.model.response.ProfesionResponse;
 import lombok.extern.slf4j.Slf4j;
@@ -24,33 +34,49 @@ import lombok.extern.slf4j.Slf4j;
 public class ProfesionInputAdapterRest {
 
     @Autowired
-    @Qualifier("professionOutputAdapterMaria")
+    @Qualifier("cachedProfessionOutputAdapterMaria")
     private ProfessionOutputPort professionOutputPortMaria;
 
     @Autowired
-    @Qualifier("professionOutputAdapterMongo")
+    @Qualifier("cachedProfessionOutputAdapterMongo")
     private ProfessionOutputPort professionOutputPortMongo;
 
     @Autowired
-    private ProfessionInputPort professionInputPort;
+    @Qualifier("professionOutputAdapterInMemory")
+    private ProfessionOutputPort professionOutputPortInMemory;
+
+    // Use cases are built once per backend and never re-pointed at another database
+    private Map<DatabaseOption, ProfessionInputPort> professionInputPorts;
 
     @Autowired
     private ProfesionMapperRest profesionMapperRest;
 
-    private void setProfessionOutputPortInjection(String dbOption) throws InvalidOptionException {
-        if (dbOption.equalsIgnoreCase(DatabaseOption.MARIA.toString())) {
-            professionInputPort.setPersistence(professionOutputPortMaria);
-        } else if (dbOption.equalsIgnoreCase(DatabaseOption.MONGO.toString())) {
-            professionInputPort.setPersistence(professionOutputPortMongo);
-        } else {
-            throw new InvalidOptionException("Invalid database option: " + dbOption);
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @PostConstruct
+    void initProfessionInputPorts() {
+        Map<DatabaseOption, ProfessionInputPort> ports = new EnumMap<>(DatabaseOption.class);
+        ports.put(DatabaseOption.MARIA, new ProfessionUseCase(professionOutputPortMaria));
+        ports.put(DatabaseOption.MONGO, new ProfessionUseCase(professionOutputPortMongo));
+        ports.put(DatabaseOption.INMEMORY, new ProfessionUseCase(professionOutputPortInMemory));
+        professionInputPorts = Collections.unmodifiableMap(
+                TimedPorts.timed(ProfessionInputPort.class, ports, meterRegistry, TimedPorts.USE_CASE_CALLS));
+    }
+
+    private ProfessionInputPort professionInputPort(String dbOption) throws InvalidOptionException {
+        DatabaseOption option = DatabaseOption.of(dbOption);
+        ProfessionInputPort port = professionInputPorts.get(option);
+        if (port == null) {
+            throw new InvalidOptionException("Database option not supported here: " + option);
         }
+        return port;
     }
 
     public List<ProfesionResponse> findAll(String database) {
         log.info("Into findAll Professions in Input Adapter for database: {}", database);
         try {
-            setProfessionOutputPortInjection(database);
+            ProfessionInputPort professionInputPort = professionInputPort(database);
             return professionInputPort.findAll().stream()
                     .map(profession -> {
                         ProfesionResponse res = profesionMapperRest.fromDomainToResponse(profession);
@@ -69,10 +95,11 @@ public class ProfesionInputAdapterRest {
     public ProfesionResponse create(ProfesionRequest request) {
         log.info("Into create Profession in Input Adapter: {}", request);
         try {
-            setProfessionOutputPortInjection(request.getDatabase());
+            ProfessionInputPort professionInputPort = professionInputPort(request.getDatabase());
+            RequestIds.requireId("identification", request.getIdentification());
             Profession profession = professionInputPort.create(profesionMapperRest.fromRequestToDomain(request));
             return profesionMapperRest.fromDomainToResponse(profession, request.getDatabase().toUpperCase(), "OK");
-        } catch (InvalidOptionException e) {
+        } catch (InvalidOptionException | IllegalArgumentException e) {
             log.warn("Error in create Profession: {}", e.getMessage());
             return new ProfesionResponse(request.getIdentification(), request.getDatabase().toUpperCase(), "ERROR: " + e.getMessage());
         }
@@ -81,7 +108,7 @@ public class ProfesionInputAdapterRest {
     public ProfesionResponse findById(Integer identification, String database) {
         log.info("Into findById Profession in Input Adapter for id: {} in database: {}", identification, database);
         try {
-            setProfessionOutputPortInjection(database);
+            ProfessionInputPort professionInputPort = professionInputPort(database);
             Profession profession = professionInputPort.findOne(identification);
             return profesionMapperRest.fromDomainToResponse(profession, database.toUpperCase(), "OK");
         } catch (InvalidOptionException | NoExistException e) {
@@ -93,7 +120,7 @@ public class ProfesionInputAdapterRest {
     public ProfesionResponse edit(Integer identification, ProfesionRequest request) {
         log.info("Into edit Profession in Input Adapter for id: {}: {}", identification, request);
         try {
-            setProfessionOutputPortInjection(request.getDatabase());
+            ProfessionInputPort professionInputPort = professionInputPort(request.getDatabase());
             Profession profession = professionInputPort.edit(identification, profesionMapperRest.fromRequestToDomain(request));
             return profesionMapperRest.fromDomainToResponse(profession, request.getDatabase().toUpperCase(), "OK");
         } catch (InvalidOptionException | NoExistException e) {
@@ -105,7 +132,7 @@ public class ProfesionInputAdapterRest {
     public ProfesionResponse delete(Integer identification, String database) {
         log.info("Into delete Profession in Input Adapter for id: {} in database: {}", identification, database);
         try {
-            setProfessionOutputPortInjection(database);
+            ProfessionInputPort professionInputPort = professionInputPort(database);
             professionInputPort.drop(identification);
             // For DELETE, typically a 204 No Content is returned by controller.
             // This response might be for logging or if controller needs to return a body.
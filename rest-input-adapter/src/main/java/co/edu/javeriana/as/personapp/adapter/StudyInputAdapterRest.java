@@ -1,19 +1,29 @@
 package co.edu.javeriana.as.personapp.adapter;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
+import javax.annotation.PostConstruct;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
+import co.edu.javeriana.as.personapp.application.metrics.TimedPorts;
 import co.edu.javeriana.as.personapp.application.port.in.StudyInputPort;
 import co.edu.javeriana.as.personapp.application.port.out.StudyOutputPort;
+import co.edu.javeriana.as.personapp.application.usecase.StudyUseCase;
 import co.edu.javeriana.as.personapp.common.annotations.Adapter;
 import co.edu.javeriana.as.personapp.common.exceptions.InvalidOptionException;
 import co.edu.javeriana.as.personapp.common.exceptions.NoExistException;
 import co.edu.javeriana.as.personapp.common.setup.DatabaseOption;
 import co.edu.javeriana.as.personapp.domain.Study;
+import co.edu.javeriana.as.personapp.mapper.RequestIds;
 import co.edu.javeriana.as.personapp.mapper.StudyMapperRest;
 import co.edu.javeriana.as.personapp.model.request.StudyRequest;
 import co.edu.javeriana.as.personapp.model.response.StudyResponse;
@@ -24,23 +34,40 @@ import lombok.extern.slf4j.Slf4j;
 public class StudyInputAdapterRest {
 
     @Autowired
-    private StudyInputPort studyInputPort;
+    private StudyMapperRest studyMapperRest;
 
     @Autowired
-    private StudyMapperRest studyMapperRest;
+    private MeterRegistry meterRegistry;
 
     @Autowired
-    @Qualifier("studyOutputAdapterMaria")
+    @Qualifier("cachedStudyOutputAdapterMaria")
     private StudyOutputPort studyOutputPortMaria;
 
     @Autowired
-    @Qualifier("studyOutputAdapterMongo")
+    @Qualifier("cachedStudyOutputAdapterMongo")
     private StudyOutputPort studyOutputPortMongo;
 
+    @Autowired
+    @Qualifier("studyOutputAdapterInMemory")
+    private StudyOutputPort studyOutputPortInMemory;
+
+    // Use cases are built once per backend and never re-pointed at another database
+    private Map<DatabaseOption, StudyInputPort> studyInputPorts;
+
+    @PostConstruct
+    void initStudyInputPorts() {
+        Map<DatabaseOption, StudyInputPort> ports = new EnumMap<>(DatabaseOption.class);
+        ports.put(DatabaseOption.MARIA, new StudyUseCase(studyOutputPortMaria));
+        ports.put(DatabaseOption.MONGO, new StudyUseCase(studyOutputPortMongo));
+        ports.put(DatabaseOption.INMEMORY, new StudyUseCase(studyOutputPortInMemory));
+        studyInputPorts = Collections.unmodifiableMap(
+                TimedPorts.timed(StudyInputPort.class, ports, meterRegistry, TimedPorts.USE_CASE_CALLS));
+    }
+
     public List<StudyResponse> findAll(String database) {
         log.info("Finding all studies REST for database: {}", database);
         try {
-            setStudyOutputPort(database);
+            StudyInputPort studyInputPort = studyInputPort(database);
             return studyInputPort.findAll().stream()
                     .map(study -> studyMapperRest.fromDomainToResponse(study, database.toUpperCase(), "OK"))
                     .collect(Collectors.toList());
@@ -52,10 +79,23 @@ public class StudyInputAdapterRest {
         }
     }
 
+    public List<StudyResponse> findByProfessionId(Integer professionId, String database) {
+        log.info("Finding studies by professionId: {} REST for database: {}", professionId, database);
+        try {
+            StudyInputPort studyInputPort = studyInputPort(database);
+            return studyInputPort.findByProfessionId(professionId).stream()
+                    .map(study -> studyMapperRest.fromDomainToResponse(study, database.toUpperCase(), "OK"))
+                    .collect(Collectors.toList());
+        } catch (InvalidOptionException e) {
+            log.warn("Invalid database option for findByProfessionId studies: {}", database, e);
+            return new ArrayList<>();
+        }
+    }
+
     public StudyResponse findById(Integer personId, Integer professionId, String database) {
         log.info("Finding study by personId: {} and professionId: {} REST for database: {}", personId, professionId, database);
         try {
-            setStudyOutputPort(database);
+            StudyInputPort studyInputPort = studyInputPort(database);
             Study study = studyInputPort.findOne(personId, professionId);
             return studyMapperRest.fromDomainToResponse(study, database.toUpperCase(), "OK");
         } catch (InvalidOptionException e) {
@@ -70,7 +110,9 @@ public class StudyInputAdapterRest {
     public StudyResponse create(StudyRequest request) {
         log.info("Creating study REST: {}", request);
         try {
-            setStudyOutputPort(request.getDatabase());
+            StudyInputPort studyInputPort = studyInputPort(request.getDatabase());
+            RequestIds.requireId("personId", request.getPersonId());
+            RequestIds.requireId("professionId", request.getProfessionId());
             Study study = studyInputPort.create(studyMapperRest.fromRequestToDomain(request));
             return studyMapperRest.fromDomainToResponse(study, request.getDatabase().toUpperCase(), "OK");
         } catch (InvalidOptionException e) {
@@ -85,7 +127,7 @@ public class StudyInputAdapterRest {
     public StudyResponse edit(Integer personId, Integer professionId, StudyRequest request) {
         log.info("Editing study with personId: {} and professionId: {} REST: {}", personId, professionId, request);
         try {
-            setStudyOutputPort(request.getDatabase());
+            StudyInputPort studyInputPort = studyInputPort(request.getDatabase());
             Study study = studyInputPort.edit(personId, professionId, studyMapperRest.fromRequestToDomain(request));
             return studyMapperRest.fromDomainToResponse(study, request.getDatabase().toUpperCase(), "OK");
         } catch (InvalidOptionException e) {
@@ -100,7 +142,7 @@ public class StudyInputAdapterRest {
     public StudyResponse delete(Integer personId, Integer professionId, String database) {
         log.info("Deleting study with personId: {} and professionId: {} REST for database: {}", personId, professionId, database);
         try {
-            setStudyOutputPort(database);
+            StudyInputPort studyInputPort = studyInputPort(database);
             studyInputPort.drop(personId, professionId);
             return new StudyResponse(String.valueOf(personId), String.valueOf(professionId), database.toUpperCase(), "OK, Study deleted");
         } catch (InvalidOptionException e) {
@@ -112,13 +154,12 @@ public class StudyInputAdapterRest {
         }
     }
 
-    private void setStudyOutputPort(String database) throws InvalidOptionException {
-        if (DatabaseOption.MARIA.toString().equalsIgnoreCase(database)) {
-            studyInputPort.setPersintence(studyOutputPortMaria);
-        } else if (DatabaseOption.MONGO.toString().equalsIgnoreCase(database)) {
-            studyInputPort.setPersintence(studyOutputPortMongo);
-        } else {
-            throw new InvalidOptionException("Invalid database option: " + database);
+    private StudyInputPort studyInputPort(String database) throws InvalidOptionException {
+        DatabaseOption option = DatabaseOption.of(database);
+        StudyInputPort port = studyInputPorts.get(option);
+        if (port == null) {
+            throw new InvalidOptionException("Database option not supported here: " + option);
         }
+        return port;
     }
 } 
\ No newline at end of file
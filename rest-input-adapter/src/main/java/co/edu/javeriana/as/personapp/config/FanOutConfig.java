@@ -0,0 +1,63 @@
+package co.edu.javeriana.as.personapp.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import co.edu.javeriana.as.personapp.application.metrics.TimedPorts;
+import co.edu.javeriana.as.personapp.application.port.in.PersonFanOutInputPort;
+import co.edu.javeriana.as.personapp.application.port.out.PersonOutputPort;
+import co.edu.javeriana.as.personapp.application.usecase.PersonFanOutUseCase;
+import co.edu.javeriana.as.personapp.common.setup.DatabaseOption;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Backs the {@code ALL} database option: person reads go to MariaDB and
+ * MongoDB at the same time on a dedicated, bounded pool, so a slow backend
+ * can neither hold request threads beyond the timeout nor spawn unbounded
+ * threads. When the queue is full further calls are reported as failures.
+ */
+@Configuration
+public class FanOutConfig {
+
+    @Value("${personapp.fanout.threads:16}")
+    private int threads;
+
+    @Value("${personapp.fanout.queue-capacity:256}")
+    private int queueCapacity;
+
+    @Value("${personapp.fanout.timeout:5s}")
+    private Duration timeout;
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService fanOutExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("fanout-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    @Bean
+    public PersonFanOutInputPort personFanOutInputPort(
+            @Qualifier("cachedPersonOutputAdapterMaria") PersonOutputPort maria,
+            @Qualifier("cachedPersonOutputAdapterMongo") PersonOutputPort mongo, MeterRegistry meterRegistry) {
+        // MariaDB first: its copy wins when both backends hold the same person
+        Map<DatabaseOption, PersonOutputPort> backends = new LinkedHashMap<>();
+        backends.put(DatabaseOption.MARIA, maria);
+        backends.put(DatabaseOption.MONGO, mongo);
+        return TimedPorts.timed(PersonFanOutInputPort.class,
+                new PersonFanOutUseCase(backends, fanOutExecutor(), timeout), meterRegistry, TimedPorts.USE_CASE_CALLS,
+                DatabaseOption.ALL);
+    }
+}
@@ -0,0 +1,93 @@
+package co.edu.javeriana.as.personapp.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import co.edu.javeriana.as.personapp.application.cache.BoundedCache;
+import co.edu.javeriana.as.personapp.application.cache.CachingPersonOutputPort;
+import co.edu.javeriana.as.personapp.application.cache.PersonEvictingPhoneOutputPort;
+import co.edu.javeriana.as.personapp.application.cache.PersonEvictingProfessionOutputPort;
+import co.edu.javeriana.as.personapp.application.cache.PersonEvictingStudyOutputPort;
+import co.edu.javeriana.as.personapp.application.port.out.PersonOutputPort;
+import co.edu.javeriana.as.personapp.application.port.out.PhoneOutputPort;
+import co.edu.javeriana.as.personapp.application.port.out.ProfessionOutputPort;
+import co.edu.javeriana.as.personapp.application.port.out.StudyOutputPort;
+import co.edu.javeriana.as.personapp.domain.Person;
+
+/**
+ * Person cache in front of the MariaDB and MongoDB adapters, one namespace per
+ * backend. Phone, study and profession ports of the same backend are wrapped
+ * as well so writes to them evict the cached persons that embed them. The
+ * in-memory option is left uncached.
+ */
+@Configuration
+public class PersonCacheConfig {
+
+    @Value("${personapp.cache.person.max-size:10000}")
+    private int maxSize;
+
+    @Value("${personapp.cache.person.ttl:60s}")
+    private Duration ttl;
+
+    @Bean
+    public BoundedCache<Long, Person> personCacheMaria() {
+        return new BoundedCache<>("person.MARIA", maxSize, ttl.toNanos());
+    }
+
+    @Bean
+    public BoundedCache<Long, Person> personCacheMongo() {
+        return new BoundedCache<>("person.MONGO", maxSize, ttl.toNanos());
+    }
+
+    @Bean
+    public PersonOutputPort cachedPersonOutputAdapterMaria(
+            @Qualifier("personOutputAdapterMaria") PersonOutputPort delegate) {
+        return new CachingPersonOutputPort(delegate, personCacheMaria());
+    }
+
+    @Bean
+    public PersonOutputPort cachedPersonOutputAdapterMongo(
+            @Qualifier("personOutputAdapterMongo") PersonOutputPort delegate) {
+        return new CachingPersonOutputPort(delegate, personCacheMongo());
+    }
+
+    @Bean
+    public PhoneOutputPort cachedPhoneOutputAdapterMaria(
+            @Qualifier("phoneOutputAdapterMaria") PhoneOutputPort delegate) {
+        return new PersonEvictingPhoneOutputPort(delegate, personCacheMaria());
+    }
+
+    @Bean
+    public PhoneOutputPort cachedPhoneOutputAdapterMongo(
+            @Qualifier("phoneOutputAdapterMongo") PhoneOutputPort delegate) {
+        return new PersonEvictingPhoneOutputPort(delegate, personCacheMongo());
+    }
+
+    @Bean
+    public StudyOutputPort cachedStudyOutputAdapterMaria(
+            @Qualifier("studyOutputAdapterMaria") StudyOutputPort delegate) {
+        return new PersonEvictingStudyOutputPort(delegate, personCacheMaria());
+    }
+
+    @Bean
+    public StudyOutputPort cachedStudyOutputAdapterMongo(
+            @Qualifier("studyOutputAdapterMongo") StudyOutputPort delegate) {
+        return new PersonEvictingStudyOutputPort(delegate, personCacheMongo());
+    }
+
+    @Bean
+    public ProfessionOutputPort cachedProfessionOutputAdapterMaria(
+            @Qualifier("professionOutputAdapterMaria") ProfessionOutputPort delegate) {
+        return new PersonEvictingProfessionOutputPort(delegate, personCacheMaria());
+    }
+
+    @Bean
+    public ProfessionOutputPort cachedProfessionOutputAdapterMongo(
+            @Qualifier("professionOutputAdapterMongo") ProfessionOutputPort delegate) {
+        return new PersonEvictingProfessionOutputPort(delegate, personCacheMongo());
+    }
+}
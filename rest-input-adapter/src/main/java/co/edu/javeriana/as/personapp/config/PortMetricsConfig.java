@@ -0,0 +1,73 @@
+package co.edu.javeriana.as.personapp.config;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.util.ClassUtils;
+
+import co.edu.javeriana.as.personapp.application.metrics.TimedPorts;
+import co.edu.javeriana.as.personapp.common.annotations.Adapter;
+import co.edu.javeriana.as.personapp.common.annotations.Port;
+import co.edu.javeriana.as.personapp.common.setup.DatabaseOption;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Times every call to the output adapters ({@code @Adapter} beans implementing
+ * a {@code @Port}) as {@link TimedPorts#PORT_CALLS}, with the backend taken
+ * from the bean name. The adapters are wrapped where they are created, so the
+ * caches, the replication and the fan-out all call through the timer; use
+ * cases are timed where the input adapters build them.
+ */
+@Slf4j
+@Configuration
+public class PortMetricsConfig {
+
+    private static final Map<String, DatabaseOption> BACKEND_SUFFIXES = Map.of(
+            "Maria", DatabaseOption.MARIA,
+            "Mongo", DatabaseOption.MONGO,
+            "InMemory", DatabaseOption.INMEMORY);
+
+    // Static, so the post-processor does not pull this configuration in early
+    @Bean
+    public static BeanPostProcessor timedOutputPorts(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                Class<?> type = ClassUtils.getUserClass(bean);
+                if (AnnotationUtils.findAnnotation(type, Adapter.class) == null) {
+                    return bean;
+                }
+                List<Class<?>> ports = ClassUtils.getAllInterfacesForClassAsSet(type).stream()
+                        .filter(candidate -> candidate.isAnnotationPresent(Port.class))
+                        .collect(Collectors.toList());
+                if (ports.isEmpty()) {
+                    return bean;
+                }
+                DatabaseOption backend = backendOf(beanName);
+                MeterRegistry registry = meterRegistry.getIfAvailable();
+                if (backend == null || registry == null) {
+                    return bean;
+                }
+                return TimedPorts.timed(bean, ports, registry, TimedPorts.PORT_CALLS, backend);
+            }
+        };
+    }
+
+    private static DatabaseOption backendOf(String beanName) {
+        DatabaseOption backend = BACKEND_SUFFIXES.entrySet().stream()
+                .filter(suffix -> beanName.endsWith(suffix.getKey())).map(Map.Entry::getValue).findFirst()
+                .orElse(null);
+        if (backend == null) {
+            log.warn("Output adapter {} is not timed: its name does not end in any of {}", beanName,
+                    BACKEND_SUFFIXES.keySet());
+        }
+        return backend;
+    }
+}
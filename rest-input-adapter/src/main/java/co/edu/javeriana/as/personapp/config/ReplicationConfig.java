@@ -0,0 +1,135 @@
+package co.edu.javeriana.as.personapp.config;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import co.edu.javeriana.as.personapp.application.cache.BoundedCache;
+import co.edu.javeriana.as.personapp.application.cache.CachingPersonOutputPort;
+import co.edu.javeriana.as.personapp.application.port.out.PersonOutboxPort;
+import co.edu.javeriana.as.personapp.application.port.out.PersonOutputPort;
+import co.edu.javeriana.as.personapp.application.replication.PersonReplicationRelay;
+import co.edu.javeriana.as.personapp.application.replication.ReplicatingPersonOutputPort;
+import co.edu.javeriana.as.personapp.common.setup.DatabaseOption;
+import co.edu.javeriana.as.personapp.domain.Person;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Opt-in ({@code personapp.replication.enabled=true}) replication of persons
+ * from the primary store to the other one. Person writes through the REST API
+ * to the primary are recorded in its outbox and return without touching the
+ * secondary; a single background thread drains the outbox every
+ * {@code interval}, as many batches as are due. Phones and studies are not
+ * replicated.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "personapp.replication.enabled", havingValue = "true")
+public class ReplicationConfig {
+
+    @Value("${personapp.replication.primary:MARIA}")
+    private DatabaseOption primary;
+
+    @Value("${personapp.replication.batch-size:500}")
+    private int batchSize;
+
+    @Value("${personapp.replication.interval:1s}")
+    private Duration interval;
+
+    @Value("${personapp.replication.max-backoff:5m}")
+    private Duration maxBackoff;
+
+    @Autowired
+    @Qualifier("personOutputAdapterMaria")
+    private PersonOutputPort personOutputAdapterMaria;
+
+    @Autowired
+    @Qualifier("personOutputAdapterMongo")
+    private PersonOutputPort personOutputAdapterMongo;
+
+    @Autowired
+    @Qualifier("cachedPersonOutputAdapterMaria")
+    private PersonOutputPort cachedPersonOutputAdapterMaria;
+
+    @Autowired
+    @Qualifier("cachedPersonOutputAdapterMongo")
+    private PersonOutputPort cachedPersonOutputAdapterMongo;
+
+    @Autowired
+    @Qualifier("personOutboxAdapterMaria")
+    private PersonOutboxPort personOutboxAdapterMaria;
+
+    @Autowired
+    @Qualifier("personOutboxAdapterMongo")
+    private PersonOutboxPort personOutboxAdapterMongo;
+
+    @Autowired
+    @Qualifier("personCacheMaria")
+    private BoundedCache<Long, Person> personCacheMaria;
+
+    @Autowired
+    @Qualifier("personCacheMongo")
+    private BoundedCache<Long, Person> personCacheMongo;
+
+    /**
+     * Replaces the primary's port in the persona input adapter. The cache sits
+     * outside the outbox so it is only invalidated once the write and its
+     * outbox entry are committed.
+     */
+    @Bean
+    public PersonOutputPort replicatedPersonOutputAdapter() {
+        PersonOutputPort delegate = isMariaPrimary() ? personOutputAdapterMaria : personOutputAdapterMongo;
+        PersonOutboxPort outbox = isMariaPrimary() ? personOutboxAdapterMaria : personOutboxAdapterMongo;
+        return new CachingPersonOutputPort(new ReplicatingPersonOutputPort(primary, delegate, outbox),
+                isMariaPrimary() ? personCacheMaria : personCacheMongo);
+    }
+
+    @Bean
+    public PersonReplicationRelay personReplicationRelay() {
+        // The secondary goes through its cache so replicated writes evict stale persons there
+        return isMariaPrimary()
+                ? new PersonReplicationRelay(DatabaseOption.MARIA, personOutboxAdapterMaria, personOutputAdapterMaria,
+                        DatabaseOption.MONGO, cachedPersonOutputAdapterMongo, batchSize, maxBackoff, Clock.systemUTC())
+                : new PersonReplicationRelay(DatabaseOption.MONGO, personOutboxAdapterMongo, personOutputAdapterMongo,
+                        DatabaseOption.MARIA, cachedPersonOutputAdapterMaria, batchSize, maxBackoff, Clock.systemUTC());
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ScheduledExecutorService replicationScheduler() {
+        PersonReplicationRelay relay = personReplicationRelay();
+        ScheduledExecutorService scheduler = Executors
+                .newSingleThreadScheduledExecutor(new CustomizableThreadFactory("replication-"));
+        scheduler.scheduleWithFixedDelay(() -> drain(relay), interval.toMillis(), interval.toMillis(),
+                TimeUnit.MILLISECONDS);
+        log.info("Replicating persons from {} every {} in batches of {}", primary, interval, batchSize);
+        return scheduler;
+    }
+
+    private void drain(PersonReplicationRelay relay) {
+        try {
+            while (relay.relayBatch() == batchSize) {
+                // A full batch means more entries are probably due
+            }
+        } catch (RuntimeException e) {
+            // The outbox itself is unreachable; an exception here would cancel the schedule
+            log.warn("Replication relay could not read the outbox: {}", e.getMessage());
+        }
+    }
+
+    private boolean isMariaPrimary() {
+        if (primary != DatabaseOption.MARIA && primary != DatabaseOption.MONGO) {
+            throw new IllegalStateException("personapp.replication.primary must be MARIA or MONGO, not " + primary);
+        }
+        return primary == DatabaseOption.MARIA;
+    }
+}
@@ -0,0 +1,42 @@
+package co.edu.javeriana.as.personapp.config;
+
+import java.util.concurrent.ExecutorService;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Opt-in ({@code personapp.server.virtual-threads=true}) execution mode that
+ * runs every request on its own virtual thread instead of Tomcat's bounded
+ * worker pool, so requests blocked on JDBC or Mongo I/O no longer hold a
+ * platform thread. Async bodies such as the NDJSON export use the same
+ * executor. Needs a Java 21 runtime; startup fails otherwise.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "personapp.server.virtual-threads", havingValue = "true")
+public class VirtualThreadConfig implements WebMvcConfigurer {
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService virtualThreadExecutor() {
+        log.info("Serving requests on virtual threads");
+        return VirtualThreads.newVirtualThreadPerTaskExecutor();
+    }
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(virtualThreadExecutor());
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(new TaskExecutorAdapter(virtualThreadExecutor()));
+    }
+}
@@ -0,0 +1,29 @@
+package co.edu.javeriana.as.personapp.controller;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import co.edu.javeriana.as.personapp.application.cache.BoundedCache;
+import co.edu.javeriana.as.personapp.application.cache.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/cache")
+public class CacheControllerV1 {
+
+    @Autowired
+    private List<BoundedCache<?, ?>> caches;
+
+    @GetMapping(path = "", produces = MediaType.APPLICATION_JSON_VALUE)
+    public List<CacheStats> stats() {
+        log.info("Into cache stats REST API");
+        return caches.stream().map(BoundedCache::stats).collect(Collectors.toList());
+    }
+}
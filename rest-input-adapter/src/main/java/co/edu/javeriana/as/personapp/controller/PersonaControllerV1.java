@@ -5,6 +5,7 @@ import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -12,11 +13,15 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import co.edu.javeriana.as.personapp.adapter.PersonaInputAdapterRest;
+import co.edu.javeriana.as.personapp.model.request.PersonaBatchRequest;
 import co.edu.javeriana.as.personapp.model.request.PersonaRequest;
+import co.edu.javeriana.as.personapp.model.response.PersonaBatchResponse;
 import co.edu.javeriana.as.personapp.model.response.PersonaResponse;
 import co.edu.javeriana.as.personapp.model.response.PhoneResponse;
 import co.edu.javeriana.as.personapp.model.response.StudyResponse;
@@ -26,16 +31,39 @@ import lombok.extern.slf4j.Slf4j;
 @RestController
 @RequestMapping("/api/v1/persona")
 public class PersonaControllerV1 {
+
+	public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+	public static final String FIELDS_SUMMARY = "summary";
 	
 	@Autowired
 	private PersonaInputAdapterRest personaInputAdapterRest;
 	
 	@GetMapping(path = "/{database}", produces = MediaType.APPLICATION_JSON_VALUE)
-	public List<PersonaResponse> personas(@PathVariable String database) {
+	public List<PersonaResponse> personas(@PathVariable String database,
+			@RequestParam(required = false) Integer after,
+			@RequestParam(required = false) Integer limit,
+			@RequestParam(required = false) String fields) {
 		log.info("Into personas REST API");
-		return personaInputAdapterRest.findAll(database.toUpperCase());
+		// ?fields=summary reads only the persona columns, skipping phones and studies
+		boolean summary = FIELDS_SUMMARY.equalsIgnoreCase(fields);
+		if (after == null && limit == null) {
+			return summary ? personaInputAdapterRest.findAllSummaries(database.toUpperCase())
+					: personaInputAdapterRest.findAll(database.toUpperCase());
+		}
+		// Keyset page: pass the last dni of this page as ?after= to fetch the next one
+		return summary ? personaInputAdapterRest.findSummaryPage(database.toUpperCase(), after, limit)
+				: personaInputAdapterRest.findPage(database.toUpperCase(), after, limit);
 	}
 	
+	@GetMapping(path = "/{database}/export", produces = APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> export(@PathVariable String database) {
+		log.info("GET /api/v1/persona/{}/export - Export personas as NDJSON", database);
+		return personaInputAdapterRest.export(database.toUpperCase())
+				.map(body -> ResponseEntity.ok().contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE)).body(body))
+				.orElseGet(() -> ResponseEntity.badRequest().build());
+	}
+
 	@PostMapping(path = "", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
 	@ResponseStatus(code = HttpStatus.CREATED)
 	public PersonaResponse crearPersona(@RequestBody PersonaRequest request) {
@@ -43,6 +71,15 @@ public class PersonaControllerV1 {
 		return personaInputAdapterRest.create(request);
 	}
 	
+	@PostMapping(path = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+	public PersonaBatchResponse crearPersonas(@RequestBody PersonaBatchRequest request) {
+		log.info("POST /api/v1/persona/batch - Upsert {} personas", request.getPersons() != null ? request.getPersons().size() : 0);
+		if (request.getDatabase() != null) {
+			request.setDatabase(request.getDatabase().toUpperCase());
+		}
+		return personaInputAdapterRest.createAll(request);
+	}
+
 	@GetMapping(path = "/{database}/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
 	public PersonaResponse findById(@PathVariable String database, @PathVariable Long id) {
 		log.info("GET /api/v1/persona/{}/{} - Find persona by ID", database, id);
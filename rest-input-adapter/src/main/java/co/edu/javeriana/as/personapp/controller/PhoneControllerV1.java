@@ -43,7 +43,7 @@ public class PhoneControllerV1 {
     })
     @GetMapping(path = "/list", produces = MediaType.APPLICATION_JSON_VALUE)
     public List<PhoneResponse> getAllPhones(
-            @Parameter(description = "Database to use (MARIA or MONGO)", required = true) 
+            @Parameter(description = "Database to use (MARIA, MONGO or INMEMORY)", required = true) 
             @RequestParam String database) {
         log.info("GET /api/v1/phone/list?database={} - Get all phones", database);
         return phoneInputAdapterRest.findAll(database.toUpperCase());
@@ -60,7 +60,7 @@ public class PhoneControllerV1 {
     public List<PhoneResponse> getPhonesByPerson(
             @Parameter(description = "Person ID (CC)", required = true) 
             @PathVariable String personId,
-            @Parameter(description = "Database to use (MARIA or MONGO)", required = true) 
+            @Parameter(description = "Database to use (MARIA, MONGO or INMEMORY)", required = true) 
             @RequestParam String database) {
         log.info("GET /api/v1/phone/person/{}?database={} - Get phones by person", personId, database);
         return phoneInputAdapterRest.findByPersonId(personId, database.toUpperCase());
@@ -91,7 +91,7 @@ public class PhoneControllerV1 {
     })
     @PutMapping(path = "/{database}/{phoneNumber}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
     public PhoneResponse updatePhone(
-            @Parameter(description = "Database to use (MARIA or MONGO)", required = true) 
+            @Parameter(description = "Database to use (MARIA, MONGO or INMEMORY)", required = true) 
             @PathVariable String database, 
             @Parameter(description = "Phone number to update", required = true) 
             @PathVariable String phoneNumber, 
@@ -109,7 +109,7 @@ public class PhoneControllerV1 {
     })
     @GetMapping(path = "/{database}/{phoneNumber}", produces = MediaType.APPLICATION_JSON_VALUE)
     public PhoneResponse findByNumber(
-            @Parameter(description = "Database to use (MARIA or MONGO)", required = true) 
+            @Parameter(description = "Database to use (MARIA, MONGO or INMEMORY)", required = true) 
             @PathVariable String database, 
             @Parameter(description = "Phone number to find", required = true) 
             @PathVariable String phoneNumber) {
@@ -126,7 +126,7 @@ public class PhoneControllerV1 {
     @DeleteMapping(path = "/{database}/{phoneNumber}")
     @ResponseStatus(code = HttpStatus.NO_CONTENT)
     public void delete(
-            @Parameter(description = "Database to use (MARIA or MONGO)", required = true) 
+            @Parameter(description = "Database to use (MARIA, MONGO or INMEMORY)", required = true) 
             @PathVariable String database, 
             @Parameter(description = "Phone number to delete", required = true) 
             @PathVariable String phoneNumber) {
@@ -0,0 +1,31 @@
+package co.edu.javeriana.as.personapp.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import co.edu.javeriana.as.personapp.application.replication.PersonReplicationRelay;
+import co.edu.javeriana.as.personapp.application.replication.ReplicationStats;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/replication")
+public class ReplicationControllerV1 {
+
+    // Absent unless personapp.replication.enabled
+    @Autowired(required = false)
+    private PersonReplicationRelay personReplicationRelay;
+
+    @GetMapping(path = "", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ReplicationStats> stats() {
+        log.info("Into replication stats REST API");
+        if (personReplicationRelay == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(personReplicationRelay.stats());
+    }
+}
@@ -48,6 +48,17 @@ public class StudyControllerV1 {
         return studyInputAdapterRest.create(request);
     }
 
+    @GetMapping(path = "/{database}/profession/{professionId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Find studies by Profession ID", description = "Retrieves the studies of a profession from the specified database")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved list"),
+            @ApiResponse(responseCode = "400", description = "Invalid database option supplied")
+    })
+    public List<StudyResponse> findStudiesByProfession(@PathVariable String database, @PathVariable Integer professionId) {
+        log.info("Request to find studies by Profession ID: {} in database: {}", professionId, database);
+        return studyInputAdapterRest.findByProfessionId(professionId, database.toUpperCase());
+    }
+
     @GetMapping(path = "/{database}/{personId}/{professionId}", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Find study by Person ID and Profession ID", description = "Retrieves a study by the composite ID from the specified database")
     @ApiResponses(value = {
@@ -1,15 +1,28 @@
 package co.edu.javeriana.as.personapp.mapper;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import co.edu.javeriana.as.personapp.common.annotations.Mapper;
+import co.edu.javeriana.as.personapp.common.logging.SampledLog;
 import co.edu.javeriana.as.personapp.domain.Gender;
 import co.edu.javeriana.as.personapp.domain.Person;
+import co.edu.javeriana.as.personapp.domain.PersonSummary;
+import co.edu.javeriana.as.personapp.domain.Phone;
 import co.edu.javeriana.as.personapp.model.request.PersonaRequest;
+import co.edu.javeriana.as.personapp.model.response.PersonaExportResponse;
 import co.edu.javeriana.as.personapp.model.response.PersonaResponse;
+import co.edu.javeriana.as.personapp.model.response.PhoneResponse;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Mapper
 public class PersonaMapperRest {
+
+	// Batch requests map one person per item
+	private static final SampledLog nullGender = new SampledLog(log, Duration.ofMinutes(1));
 	
 	public PersonaResponse fromDomainToAdapterRestMaria(Person person) {
 		return fromDomainToAdapterRest(person, "MARIA");
@@ -28,34 +41,73 @@ public class PersonaMapperRest {
 				person.getIdentification()+"", 
 				person.getFirstName(), 
 				person.getLastName(), 
-				person.getAge()+"", 
+				age(person.getAge()), 
 				person.getGender().toString(), 
 				database,
 				status);
 	}
 
+	public PersonaResponse fromSummaryToAdapterRest(PersonSummary person, String database) {
+		return new PersonaResponse(
+				person.getIdentification()+"",
+				person.getFirstName(),
+				person.getLastName(),
+				age(person.getAge()),
+				person.getGender().toString(),
+				database,
+				"OK");
+	}
+
+	public PersonaExportResponse fromDomainToExport(Person person, String database) {
+		String dni = person.getIdentification() + "";
+		List<Phone> numbers = person.getPhoneNumbers();
+		List<PhoneResponse> phones = Collections.emptyList();
+		if (numbers != null && !numbers.isEmpty()) {
+			phones = new ArrayList<>(numbers.size());
+			for (int i = 0; i < numbers.size(); i++) {
+				Phone phone = numbers.get(i);
+				phones.add(new PhoneResponse(phone.getNumber(), phone.getCompany(), dni, database, "OK"));
+			}
+		}
+		return new PersonaExportResponse(
+				dni,
+				person.getFirstName(),
+				person.getLastName(),
+				age(person.getAge()),
+				person.getGender().toString(),
+				database,
+				"OK",
+				phones);
+	}
+
 	public Person fromAdapterToDomain(PersonaRequest request) {
-		Person person = new Person();
-		person.setIdentification(Integer.parseInt(request.getDni()));
-		person.setFirstName(request.getFirstName());
-		person.setLastName(request.getLastName());
-		person.setAge(request.getAge() != null && !request.getAge().isEmpty() ? Integer.parseInt(request.getAge()) : null );
+		int identification = RequestIds.requireId("dni", request.getDni());
+		int age = request.getAge() != null && !request.getAge().isEmpty() ? Integer.parseInt(request.getAge())
+				: Person.UNKNOWN_AGE;
 		String genderStr = request.getSex();
-		log.info("PersonaMapperRest: Converting gender string '{} ' to Gender enum.", genderStr);
+		Gender gender;
 		if (genderStr != null) {
 			if (genderStr.equalsIgnoreCase("MASCULINO") || genderStr.equalsIgnoreCase("MALE") || genderStr.equalsIgnoreCase("M")) {
-				person.setGender(Gender.MALE);
+				gender = Gender.MALE;
 			} else if (genderStr.equalsIgnoreCase("FEMENINO") || genderStr.equalsIgnoreCase("FEMALE") || genderStr.equalsIgnoreCase("F")) {
-				person.setGender(Gender.FEMALE);
+				gender = Gender.FEMALE;
 			} else {
-				person.setGender(Gender.OTHER);
+				gender = Gender.OTHER;
 			}
 		} else {
-		    log.warn("PersonaMapperRest: Gender string from request is null. Setting gender to OTHER by default.");
-			person.setGender(Gender.OTHER);
+			nullGender.warn("Gender string from request is null, setting gender to OTHER");
+			gender = Gender.OTHER;
 		}
-		log.info("PersonaMapperRest: Gender enum set to {} for DNI {}.", person.getGender(), person.getIdentification());
-		return person;
+		// Guarded: three arguments go through the varargs overload, which allocates even when DEBUG is off
+		if (log.isDebugEnabled()) {
+			log.debug("Gender string '{}' of DNI {} mapped to {}", genderStr, identification, gender);
+		}
+		return new Person(identification, request.getFirstName(), request.getLastName(), gender, age, null, null);
+	}
+
+	// An unknown age is written as before, when it was a null Integer
+	private static String age(int age) {
+		return String.valueOf(age >= 0 ? age : null);
 	}
 	
 	public PersonaResponse createErrorResponse(String errorMessage, String database) {
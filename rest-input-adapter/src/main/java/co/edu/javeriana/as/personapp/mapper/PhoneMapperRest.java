@@ -25,17 +25,13 @@ public class PhoneMapperRest {
         return new PhoneResponse(
                 phone.getNumber(), 
                 phone.getCompany(), 
-                String.valueOf(phone.getOwner().getIdentification()),
+                String.valueOf(phone.getOwnerId()),
                 database,
                 status);
     }
 
     public Phone fromAdapterToDomain(PhoneRequest request, Person owner) {
-        Phone phone = new Phone();
-        phone.setNumber(request.getNumber());
-        phone.setCompany(request.getCompany());
-        phone.setOwner(owner);
-        return phone;
+        return new Phone(request.getNumber(), request.getCompany(), owner.getIdentification());
     }
     
     public PhoneResponse createErrorResponse(String errorMessage, String database) {
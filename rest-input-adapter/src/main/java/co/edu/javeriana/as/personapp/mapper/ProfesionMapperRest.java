@@ -1,7 +1,6 @@
 package co.edu.javeriana.as.personapp.mapper;
 
 import org.mapstruct.Mapper;
-import org.mapstruct.Mapping;
 
 import co.edu.javeriana.as.personapp.domain.Profession;
 import co.edu.javeriana.as.personapp.model.request.ProfesionRequest;
@@ -10,7 +9,6 @@ import co.edu.javeriana.as.personapp.model.response.ProfesionResponse;
 @Mapper(componentModel = "spring")
 public interface ProfesionMapperRest {
 
-    @Mapping(target = "studies", ignore = true) // Profession domain has studies, request does not directly.
     Profession fromRequestToDomain(ProfesionRequest request);
 
     // Removed redundant source attributes as they match target names
@@ -0,0 +1,25 @@
+package co.edu.javeriana.as.personapp.mapper;
+
+/**
+ * Ids arrive as strings in the REST requests but are ints in the domain, where
+ * a missing one would silently become 0. Every request id is parsed here.
+ */
+public final class RequestIds {
+
+	private RequestIds() {
+	}
+
+	/**
+	 * @throws IllegalArgumentException if the id is missing or not an integer
+	 */
+	public static int requireId(String field, String value) {
+		if (value == null || value.isBlank()) {
+			throw new IllegalArgumentException(field + " is required");
+		}
+		try {
+			return Integer.parseInt(value);
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException(field + " is not a valid id: " + value);
+		}
+	}
+}
@@ -0,0 +1,15 @@
+package co.edu.javeriana.as.personapp.model.request;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PersonaBatchRequest {
+	private String database;
+	private List<PersonaRequest> persons;
+}
@@ -0,0 +1,19 @@
+package co.edu.javeriana.as.personapp.model.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PersonaBatchResponse {
+	private String database;
+	private int total;
+	private int saved;
+	private int failed;
+	// One entry per requested person, in request order; status is OK or ERROR: <reason>
+	private List<PersonaResponse> results;
+}
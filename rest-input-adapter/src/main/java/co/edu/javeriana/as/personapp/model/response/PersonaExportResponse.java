@@ -0,0 +1,22 @@
+package co.edu.javeriana.as.personapp.model.response;
+
+import java.util.List;
+
+public class PersonaExportResponse extends PersonaResponse {
+
+	private List<PhoneResponse> phones;
+
+	public PersonaExportResponse(String dni, String firstName, String lastName, String age, String sex,
+			String database, String status, List<PhoneResponse> phones) {
+		super(dni, firstName, lastName, age, sex, database, status);
+		this.phones = phones;
+	}
+
+	public List<PhoneResponse> getPhones() {
+		return phones;
+	}
+
+	public void setPhones(List<PhoneResponse> phones) {
+		this.phones = phones;
+	}
+}
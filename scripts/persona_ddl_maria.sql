@@ -41,9 +41,24 @@ CREATE TABLE IF NOT EXISTS `persona_db`.`estudios` (
  `fecha` DATE NULL DEFAULT NULL,
  `univer` VARCHAR(50) NULL DEFAULT NULL, 
  CONSTRAINT `estudios_pk` PRIMARY KEY (`id_prof`, `cc_per`),
+ INDEX `estudios_cc_per_idx` (`cc_per`),
  CONSTRAINT `estudio_persona_fk` FOREIGN KEY (`cc_per`) REFERENCES `persona_db`.`persona` (`cc`), 
  CONSTRAINT `estudio_profesion_fk` FOREIGN KEY (`id_prof`) REFERENCES `persona_db`.`profesion` (`id`)
 );
+-- Studies by person; studies by profession use the primary key, whose first column is id_prof
+CREATE INDEX IF NOT EXISTS `estudios_cc_per_idx` ON `persona_db`.`estudios` (`cc_per`);
+--
+-- Persons changed in MariaDB and not yet copied to MongoDB (personapp.replication)
+CREATE TABLE IF NOT EXISTS `persona_db`.`persona_outbox` (
+ `id` BIGINT NOT NULL AUTO_INCREMENT,
+ `cc` INT(15) NOT NULL,
+ `creado` DATETIME(3) NOT NULL,
+ `intentos` INT NOT NULL DEFAULT 0,
+ `proximo_intento` DATETIME(3) NOT NULL,
+ `error` VARCHAR(255) NULL DEFAULT NULL,
+ CONSTRAINT `persona_outbox_pk` PRIMARY KEY (`id`),
+ INDEX `persona_outbox_proximo_idx` (`proximo_intento`, `id`)
+);
 --
 COMMIT;
 FLUSH PRIVILEGES;
\ No newline at end of file
@@ -62,12 +62,13 @@ if (db.getName() !== targetDbForUser) {
 // Drop collections if they exist to ensure a clean slate for DDL operations
 // Important: This will delete any existing data in these collections.
 print(
-  "Dropping existing collections (persona, profesion, telefono, estudios) if they exist..."
+  "Dropping existing collections (persona, profesion, telefono, estudios, persona_outbox) if they exist..."
 );
 db.persona.drop();
 db.profesion.drop();
 db.telefono.drop();
 db.estudios.drop();
+db.persona_outbox.drop();
 print("Finished dropping collections.");
 
 // Create collections with validation
@@ -140,6 +141,7 @@ db.createCollection("estudios", {
 });
 
 // Create indexes for references (similar to foreign keys)
+// The applications also ensure these at startup (MongoIndexInitializer); keep the names in sync with the documents
 print("Creating indexes for telefono collection...");
 db.telefono.createIndex({ duenio: 1 });
 
@@ -148,4 +150,8 @@ db.estudios.createIndex({ ccPer: 1 });
 db.estudios.createIndex({ idProf: 1 });
 db.estudios.createIndex({ ccPer: 1, idProf: 1 }, { unique: true });
 
+// Persons changed in MongoDB and not yet copied to MariaDB (personapp.replication)
+print("Creating indexes for persona_outbox collection...");
+db.persona_outbox.createIndex({ proximoIntento: 1, _id: 1 });
+
 print("DDL script finished: Collections and indexes created in persona_db.");